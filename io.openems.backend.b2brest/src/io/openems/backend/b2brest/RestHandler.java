@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.backend.metadata.api.BackendUser;
 import io.openems.common.exceptions.OpenemsError;
@@ -115,6 +116,22 @@ public class RestHandler extends AbstractHandler {
 		}
 	}
 
+	private void sendOkResponse(Request baseRequest, HttpServletResponse response,
+			JsonrpcResponseSuccess jsonrpcResponse) throws OpenemsException {
+		try {
+			response.setContentType("application/json");
+			response.setStatus(HttpServletResponse.SC_OK);
+			baseRequest.setHandled(true);
+			// stream the Response without building the JsonObject
+			JsonWriter writer = new JsonWriter(response.getWriter());
+			writer.setLenient(true);
+			jsonrpcResponse.write(writer);
+			writer.flush();
+		} catch (IOException e) {
+			throw new OpenemsException("Unable to send Ok-Response: " + e.getMessage());
+		}
+	}
+
 	private void sendErrorResponse(Request baseRequest, HttpServletResponse response, UUID jsonrpcId, Throwable ex) {
 		try {
 			response.setContentType("application/json");
@@ -216,7 +233,7 @@ public class RestHandler extends AbstractHandler {
 			}
 
 			// send response
-			this.sendOkResponse(baseRequest, httpResponse, response.toJsonObject());
+			this.sendOkResponse(baseRequest, httpResponse, response);
 
 		} catch (OpenemsNamedException e) {
 			this.sendErrorResponse(baseRequest, httpResponse, requestId,
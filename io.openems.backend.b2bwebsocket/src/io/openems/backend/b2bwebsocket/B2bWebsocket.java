@@ -42,7 +42,7 @@ public class B2bWebsocket extends AbstractOpenemsBackendComponent {
 
 	@Activate
 	void activate(Config config) {
-		this.startServer(config.port());
+		this.startServer(config.port(), config.poolSize());
 	}
 
 	@Deactivate
@@ -53,10 +53,11 @@ public class B2bWebsocket extends AbstractOpenemsBackendComponent {
 	/**
 	 * Create and start new server.
 	 * 
-	 * @param port the port
+	 * @param port     the port
+	 * @param poolSize number of threads per executor
 	 */
-	private synchronized void startServer(int port) {
-		this.server = new WebsocketServer(this, this.getName(), port);
+	private synchronized void startServer(int port, int poolSize) {
+		this.server = new WebsocketServer(this, this.getName(), port, poolSize);
 		this.server.start();
 	}
 
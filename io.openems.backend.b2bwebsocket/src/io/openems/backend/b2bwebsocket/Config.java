@@ -3,6 +3,8 @@ package io.openems.backend.b2bwebsocket;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
+import io.openems.common.websocket.AbstractWebsocketServer;
+
 @ObjectClassDefinition(//
 		name = "Backend2Backend.Websocket", //
 		description = "Provides a websocket server for backend-to-backend communication.")
@@ -11,6 +13,9 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Port", description = "The port of the websocket server.")
 	int port() default B2bWebsocket.DEFAULT_PORT;
 
+	@AttributeDefinition(name = "Pool size", description = "Number of threads per executor for Requests, Notifications and lifecycle events.")
+	int poolSize() default AbstractWebsocketServer.DEFAULT_POOL_SIZE;
+
 	String webconsole_configurationFactory_nameHint() default "Backend2Backend Websocket";
 
 }
\ No newline at end of file
@@ -13,8 +13,8 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(B2bWebsocket parent, String name, int port) {
-		super(name, port);
+	public WebsocketServer(B2bWebsocket parent, String name, int port, int poolSize) {
+		super(name, port, poolSize);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -3,6 +3,8 @@ package io.openems.backend.edgewebsocket.impl;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
+import io.openems.common.websocket.AbstractWebsocketServer;
+
 @ObjectClassDefinition(//
 		name = "Edge.Websocket", //
 		description = "Configures the websocket server for OpenEMS Edge")
@@ -11,6 +13,15 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Port", description = "The port of the websocket server.")
 	int port() default 8081;
 
+	@AttributeDefinition(name = "Pool size", description = "Number of threads per executor for Requests, Notifications and lifecycle events.")
+	int poolSize() default AbstractWebsocketServer.DEFAULT_POOL_SIZE;
+
+	@AttributeDefinition(name = "Ingestion shards", description = "Number of threads that write the timestamped data of the Edges to Timedata.")
+	int ingestionShards() default 4;
+
+	@AttributeDefinition(name = "Ingestion queue size", description = "Maximum number of queued timestamped data notifications per shard. Further notifications are dropped.")
+	int ingestionQueueSize() default 1000;
+
 	String webconsole_configurationFactory_nameHint() default "Edge Websocket";
 
 }
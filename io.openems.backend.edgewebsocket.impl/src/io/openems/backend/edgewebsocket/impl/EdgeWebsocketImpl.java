@@ -39,6 +39,7 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent implement
 	private final Logger log = LoggerFactory.getLogger(EdgeWebsocketImpl.class);
 
 	private WebsocketServer server = null;
+	private TimestampedDataIngestion ingestion = null;
 
 	private final SystemLogHandler systemLogHandler;
 
@@ -58,21 +59,36 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent implement
 
 	@Activate
 	void activate(Config config) {
-		this.startServer(config.port());
+		this.ingestion = new TimestampedDataIngestion(this, config.ingestionShards(), config.ingestionQueueSize());
+		this.ingestion.activate(this.getName());
+		this.startServer(config.port(), config.poolSize());
 	}
 
 	@Deactivate
 	void deactivate() {
 		this.stopServer();
+		if (this.ingestion != null) {
+			this.ingestion.deactivate();
+		}
+	}
+
+	/**
+	 * Gets the {@link TimestampedDataIngestion}.
+	 * 
+	 * @return the {@link TimestampedDataIngestion}
+	 */
+	protected TimestampedDataIngestion getIngestion() {
+		return this.ingestion;
 	}
 
 	/**
 	 * Create and start new server.
 	 * 
-	 * @param port the port
+	 * @param port     the port
+	 * @param poolSize number of threads per executor
 	 */
-	private synchronized void startServer(int port) {
-		this.server = new WebsocketServer(this, this.getName(), port);
+	private synchronized void startServer(int port, int poolSize) {
+		this.server = new WebsocketServer(this, this.getName(), port, poolSize);
 		this.server.start();
 	}
 
@@ -1,8 +1,5 @@
 package io.openems.backend.edgewebsocket.impl;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -10,11 +7,6 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
-
 import io.openems.backend.metadata.api.Edge;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -23,11 +15,6 @@ import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
-import io.openems.common.types.ChannelAddress;
-import io.openems.common.types.EdgeConfig;
-import io.openems.common.types.EdgeConfig.Component.Channel;
-import io.openems.common.types.SemanticVersion;
-import io.openems.common.utils.JsonUtils;
 
 public class OnNotification implements io.openems.common.websocket.OnNotification {
 
@@ -107,58 +94,8 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 			throws OpenemsNamedException {
 		String edgeId = wsData.assertEdgeId(message);
 
-		try {
-			this.parent.timedata.write(edgeId, message.getData());
-		} catch (IllegalArgumentException e) {
-			e.printStackTrace();
-		}
-
-		// Read some specific channels
-		Edge edge = this.parent.metadata.getEdgeOrError(edgeId);
-		for (Entry<String, JsonElement> entry : message.getParams().entrySet()) {
-			JsonObject data = JsonUtils.getAsJsonObject(entry.getValue());
-			// set Edge last update timestamp only for those channels
-			for (String channel : data.keySet()) {
-				if (channel.endsWith("ActivePower")
-						|| channel.endsWith("ActivePowerL1") | channel.endsWith("ActivePowerL2")
-								| channel.endsWith("ActivePowerL3") | channel.endsWith("Soc")) {
-					edge.setLastUpdateTimestamp();
-				}
-			}
-
-			// set specific Edge values
-			if (data.has("_meta/Version") && data.get("_meta/Version").isJsonPrimitive()) {
-				String version = JsonUtils.getAsPrimitive(data, "_meta/Version").getAsString();
-				edge.setVersion(SemanticVersion.fromString(version));
-			}
-
-			// parse State-Channels
-			Map<ChannelAddress, EdgeConfig.Component.Channel> activeStateChannels = new HashMap<>();
-			for (Entry<String, JsonElement> dataEntry : data.entrySet()) {
-				JsonElement value = dataEntry.getValue();
-				if (value == JsonNull.INSTANCE || !value.isJsonPrimitive()) {
-					// not active -> ignore
-					continue;
-				}
-				JsonPrimitive primitive = value.getAsJsonPrimitive();
-				if (!primitive.isNumber()) {
-					// cannot be a StateChannel
-					continue;
-				}
-				Number number = primitive.getAsNumber();
-				if (number.intValue() != 1) {
-					// not active -> ignore
-					continue;
-				}
-
-				ChannelAddress channelAddress = ChannelAddress.fromString(dataEntry.getKey());
-				Optional<Channel> channel = edge.getConfig().getStateChannel(channelAddress);
-				if (channel.isPresent()) {
-					activeStateChannels.put(channelAddress, channel.get());
-				}
-			}
-			edge.setComponentState(activeStateChannels);
-		}
+		// write data and update Edge asynchronously
+		this.parent.getIngestion().add(edgeId, message);
 	}
 
 	/**
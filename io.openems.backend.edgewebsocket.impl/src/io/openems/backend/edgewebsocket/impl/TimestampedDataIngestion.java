@@ -0,0 +1,281 @@
+package io.openems.backend.edgewebsocket.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.metadata.api.Edge;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.EdgeConfig.Component.Channel;
+import io.openems.common.types.Histogram;
+import io.openems.common.types.SemanticVersion;
+import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.common.worker.AbstractWorker;
+
+/**
+ * Handles {@link TimestampedDataNotification}s asynchronously, decoupled from
+ * the websocket threads.
+ * 
+ * <p>
+ * Notifications are distributed by Edge-ID to a number of shards, so the order
+ * per Edge is kept. Every shard has a bounded queue and its own thread. The
+ * thread takes all queued notifications at once, merges the data per Edge and
+ * writes it with one call to Timedata per Edge. If a queue is full, the
+ * notification is dropped instead of blocking the websocket.
+ */
+public class TimestampedDataIngestion {
+
+	/**
+	 * Maximum number of notifications that are handled in one batch.
+	 */
+	private static final int MAX_BATCH_SIZE = 100;
+
+	/**
+	 * Interval for logging the statistics in [ms].
+	 */
+	private static final int STATISTICS_INTERVAL = 60_000;
+
+	private static final ChannelAddress META_VERSION = new ChannelAddress("_meta", "Version");
+
+	private final Logger log = LoggerFactory.getLogger(TimestampedDataIngestion.class);
+	private final EdgeWebsocketImpl parent;
+	private final Shard[] shards;
+	private final StatisticsWorker statisticsWorker = new StatisticsWorker();
+
+	// Statistics since last log output
+	private final AtomicLong dropped = new AtomicLong(0);
+	private final Histogram writeLatency = new Histogram();
+
+	private static class Item {
+		private final String edgeId;
+		private final TimestampedDataNotification message;
+
+		private Item(String edgeId, TimestampedDataNotification message) {
+			this.edgeId = edgeId;
+			this.message = message;
+		}
+	}
+
+	private class Shard extends AbstractImmediateWorker {
+
+		private final BlockingQueue<Item> queue;
+		private final List<Item> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+		private Shard(int queueSize) {
+			this.queue = new ArrayBlockingQueue<>(queueSize);
+		}
+
+		@Override
+		protected void forever() throws InterruptedException {
+			this.batch.add(this.queue.take());
+			this.queue.drainTo(this.batch, MAX_BATCH_SIZE - 1);
+			try {
+				TimestampedDataIngestion.this.handleBatch(this.batch);
+			} finally {
+				this.batch.clear();
+			}
+		}
+	}
+
+	private class StatisticsWorker extends AbstractWorker {
+
+		@Override
+		protected int getCycleTime() {
+			return STATISTICS_INTERVAL;
+		}
+
+		@Override
+		protected void forever() {
+			TimestampedDataIngestion.this.logStatistics();
+		}
+	}
+
+	public TimestampedDataIngestion(EdgeWebsocketImpl parent, int noOfShards, int queueSize) {
+		this.parent = parent;
+		this.shards = new Shard[Math.max(1, noOfShards)];
+		for (int i = 0; i < this.shards.length; i++) {
+			this.shards[i] = new Shard(Math.max(1, queueSize));
+		}
+	}
+
+	/**
+	 * Starts the shard threads.
+	 * 
+	 * @param name the name of the threads
+	 */
+	public void activate(String name) {
+		for (int i = 0; i < this.shards.length; i++) {
+			this.shards[i].activate(name + "-Ingestion-" + i);
+		}
+		this.statisticsWorker.activate(name + "-Ingestion-Statistics");
+	}
+
+	/**
+	 * Stops the shard threads. Queued notifications are discarded.
+	 */
+	public void deactivate() {
+		this.statisticsWorker.deactivate();
+		for (Shard shard : this.shards) {
+			shard.deactivate();
+			shard.queue.clear();
+		}
+	}
+
+	/**
+	 * Adds a {@link TimestampedDataNotification} to the queue of its shard.
+	 * 
+	 * @param edgeId  the Edge-ID
+	 * @param message the {@link TimestampedDataNotification}
+	 * @return false if the queue was full and the notification was dropped
+	 */
+	public boolean add(String edgeId, TimestampedDataNotification message) {
+		Shard shard = this.shards[Math.floorMod(edgeId.hashCode(), this.shards.length)];
+		if (shard.queue.offer(new Item(edgeId, message))) {
+			return true;
+		}
+		this.dropped.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * Handles a batch of notifications: writes the merged data per Edge to
+	 * Timedata and updates the Edge metadata.
+	 * 
+	 * @param batch the batch
+	 */
+	private void handleBatch(List<Item> batch) {
+		// Merge data per Edge
+		Map<String, TreeBasedTable<Long, ChannelAddress, JsonElement>> dataPerEdge = new LinkedHashMap<>();
+		for (Item item : batch) {
+			TreeBasedTable<Long, ChannelAddress, JsonElement> data = dataPerEdge.get(item.edgeId);
+			if (data == null) {
+				data = TreeBasedTable.create();
+				dataPerEdge.put(item.edgeId, data);
+			}
+			data.putAll(item.message.getData());
+		}
+
+		// Write to Timedata
+		for (Entry<String, TreeBasedTable<Long, ChannelAddress, JsonElement>> entry : dataPerEdge.entrySet()) {
+			long start = System.nanoTime();
+			try {
+				this.parent.timedata.write(entry.getKey(), entry.getValue());
+			} catch (OpenemsNamedException | IllegalArgumentException e) {
+				this.parent.logWarn(this.log,
+						"Unable to write data of Edge [" + entry.getKey() + "]: " + e.getMessage());
+			}
+			this.writeLatency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+
+		// Read some specific channels
+		for (Item item : batch) {
+			try {
+				this.updateEdge(item.edgeId, item.message);
+			} catch (OpenemsNamedException e) {
+				this.parent.logWarn(this.log, "Unable to update Edge [" + item.edgeId + "]: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Updates the Edge metadata from some specific Channels.
+	 * 
+	 * @param edgeId  the Edge-ID
+	 * @param message the {@link TimestampedDataNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	private void updateEdge(String edgeId, TimestampedDataNotification message) throws OpenemsNamedException {
+		Edge edge = this.parent.metadata.getEdgeOrError(edgeId);
+		for (Map<ChannelAddress, JsonElement> data : message.getData().rowMap().values()) {
+			// set Edge last update timestamp only for those channels
+			for (ChannelAddress address : data.keySet()) {
+				String channel = address.getChannelId();
+				if (channel.endsWith("ActivePower") || channel.endsWith("ActivePowerL1")
+						|| channel.endsWith("ActivePowerL2") || channel.endsWith("ActivePowerL3")
+						|| channel.endsWith("Soc")) {
+					edge.setLastUpdateTimestamp();
+					break;
+				}
+			}
+
+			// set specific Edge values
+			JsonElement version = data.get(META_VERSION);
+			if (version != null && version.isJsonPrimitive()) {
+				edge.setVersion(SemanticVersion.fromString(version.getAsString()));
+			}
+
+			// parse State-Channels
+			Map<ChannelAddress, EdgeConfig.Component.Channel> activeStateChannels = new HashMap<>();
+			for (Entry<ChannelAddress, JsonElement> dataEntry : data.entrySet()) {
+				JsonElement value = dataEntry.getValue();
+				if (value == JsonNull.INSTANCE || !value.isJsonPrimitive()) {
+					// not active -> ignore
+					continue;
+				}
+				JsonPrimitive primitive = value.getAsJsonPrimitive();
+				if (!primitive.isNumber()) {
+					// cannot be a StateChannel
+					continue;
+				}
+				Number number = primitive.getAsNumber();
+				if (number.intValue() != 1) {
+					// not active -> ignore
+					continue;
+				}
+
+				ChannelAddress channelAddress = dataEntry.getKey();
+				Optional<Channel> channel = edge.getConfig().getStateChannel(channelAddress);
+				if (channel.isPresent()) {
+					activeStateChannels.put(channelAddress, channel.get());
+				}
+			}
+			edge.setComponentState(activeStateChannels);
+		}
+	}
+
+	/**
+	 * Logs queue depth, dropped notifications and write latency since the last
+	 * call and resets the statistics.
+	 */
+	private void logStatistics() {
+		int queued = 0;
+		for (Shard shard : this.shards) {
+			queued += shard.queue.size();
+		}
+		long dropped = this.dropped.getAndSet(0);
+		if (queued == 0 && dropped == 0 && this.writeLatency.getCount() == 0) {
+			// nothing happened
+			return;
+		}
+		String message = "TimestampedData ingestion: queued [" + queued + "] dropped [" + dropped + "] writes ["
+				+ this.writeLatency.getCount() + "] write latency p50 [" + this.writeLatency.getPercentile(50)
+				+ " ms] p99 [" + this.writeLatency.getPercentile(99) + " ms] max [" + this.writeLatency.getMax()
+				+ " ms]";
+		this.writeLatency.reset();
+		if (dropped > 0) {
+			this.parent.logWarn(this.log, message);
+		} else {
+			this.parent.logInfo(this.log, message);
+		}
+	}
+
+}
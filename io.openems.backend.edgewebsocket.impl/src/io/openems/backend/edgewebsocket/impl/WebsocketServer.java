@@ -28,6 +28,8 @@ import io.openems.common.websocket.AbstractWebsocketServer;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
+	private static final String TIMESTAMPED_DATA_METHOD = "\"" + TimestampedDataNotification.METHOD + "\"";
+
 	private final Logger log = LoggerFactory.getLogger(WebsocketServer.class);
 
 	private final EdgeWebsocketImpl parent;
@@ -37,8 +39,8 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port) {
-		super(name, port);
+	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize) {
+		super(name, port, poolSize);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -84,6 +86,18 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		return this.onClose;
 	}
 
+	@Override
+	protected JsonrpcMessage parseMessage(String stringMessage) throws OpenemsNamedException {
+		// 'timestampedData' is by far the most frequent message -> decode it directly
+		if (stringMessage.contains(TIMESTAMPED_DATA_METHOD)) {
+			TimestampedDataNotification notification = TimestampedDataNotification.fromString(stringMessage);
+			if (notification != null) {
+				return notification;
+			}
+		}
+		return super.parseMessage(stringMessage);
+	}
+
 	@Override
 	protected JsonrpcMessage handleNonJsonrpcMessage(String stringMessage, OpenemsNamedException lastException)
 			throws OpenemsNamedException {
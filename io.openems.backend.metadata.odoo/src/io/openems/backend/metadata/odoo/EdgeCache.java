@@ -4,8 +4,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +27,16 @@ import io.openems.common.types.EdgeConfigDiff;
 import io.openems.common.types.SemanticVersion;
 import io.openems.common.utils.JsonUtils;
 
+/**
+ * Caches the Edges read from Odoo/Postgres.
+ * 
+ * <p>
+ * Lookups are lock-free on {@link ConcurrentHashMap}s, because they happen for
+ * every Edge message and every UI request. Only writes via
+ * {@link #addOrUpate(ResultSet)} are serialized. The Odoo-ID and Apikey
+ * indexes point directly to the Edge, so every lookup is a single map access
+ * and never sees a half-registered Edge.
+ */
 public class EdgeCache {
 
 	private final Logger log = LoggerFactory.getLogger(EdgeCache.class);
@@ -35,17 +45,17 @@ public class EdgeCache {
 	/**
 	 * Map Edge-ID (String) to Edge.
 	 */
-	private Map<String, MyEdge> edgeIdToEdge = new HashMap<>();
+	private final Map<String, MyEdge> edgeIdToEdge = new ConcurrentHashMap<>();
 
 	/**
-	 * Map Odoo-ID (Integer) to Edge-ID (String).
+	 * Map Odoo-ID (Integer) to Edge.
 	 */
-	private Map<Integer, String> odooIdToEdgeId = new HashMap<>();
+	private final Map<Integer, MyEdge> odooIdToEdge = new ConcurrentHashMap<>();
 
 	/**
-	 * Map Apikey (String) to Edge-ID (String).
+	 * Map Apikey (String) to Edge.
 	 */
-	private Map<String, String> apikeyToEdgeId = new HashMap<>();
+	private final Map<String, MyEdge> apikeyToEdge = new ConcurrentHashMap<>();
 
 	public EdgeCache(MetadataOdoo parent) {
 		this.parent = parent;
@@ -103,9 +113,9 @@ public class EdgeCache {
 			// This is new -> create instance of Edge and register listeners
 			edge = new MyEdge(odooId, edgeId, apikey, comment, state, version, productType, config);
 			this.addListeners(edge);
+			this.odooIdToEdge.put(odooId, edge);
+			this.apikeyToEdge.put(apikey, edge);
 			this.edgeIdToEdge.put(edgeId, edge);
-			this.odooIdToEdgeId.put(odooId, edgeId);
-			this.apikeyToEdgeId.put(apikey, edgeId);
 		} else {
 			// Edge exists -> update information
 			edge.setComment(comment);
@@ -124,7 +134,7 @@ public class EdgeCache {
 	 * @param edgeId the Edge-ID
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeFromEdgeId(String edgeId) {
+	public MyEdge getEdgeFromEdgeId(String edgeId) {
 		return this.edgeIdToEdge.get(edgeId);
 	}
 
@@ -134,12 +144,8 @@ public class EdgeCache {
 	 * @param odooId the Odoo-ID
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeFromOdooId(int odooId) {
-		String edgeId = this.odooIdToEdgeId.get(odooId);
-		if (edgeId == null) {
-			return null;
-		}
-		return this.getEdgeFromEdgeId(edgeId);
+	public MyEdge getEdgeFromOdooId(int odooId) {
+		return this.odooIdToEdge.get(odooId);
 	}
 
 	/**
@@ -148,12 +154,8 @@ public class EdgeCache {
 	 * @param apikey the Apikey
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeForApikey(String apikey) {
-		String edgeId = this.apikeyToEdgeId.get(apikey);
-		if (edgeId == null) {
-			return null;
-		}
-		return this.getEdgeFromEdgeId(edgeId);
+	public MyEdge getEdgeForApikey(String apikey) {
+		return this.apikeyToEdge.get(apikey);
 	}
 
 	/**
@@ -3,6 +3,8 @@ package io.openems.backend.timedata.influx;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
+import io.openems.shared.influxdb.QueryCache;
+
 @ObjectClassDefinition(//
 		name = "Timedata.InfluxDB", //
 		description = "Configures the InfluxDB timedata provider")
@@ -32,6 +34,15 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Read-Only mode", description = "Activates the read-only mode. Then no data is written to InfluxDB.")
 	boolean isReadOnly() default false;
 
+	@AttributeDefinition(name = "Write rollups", description = "Additionally writes downsampled 15-minute and daily min/max/avg/last values.")
+	boolean isRollupEnabled() default false;
+
+	@AttributeDefinition(name = "Query rollups since", description = "Queries with a coarse resolution use the rollups if they start at or after this date (e.g. '2021-01-01'). Leave empty to always query the raw data.")
+	String rollupQueryStartDate() default "";
+
+	@AttributeDefinition(name = "Query-Cache size", description = "Maximum number of values (Channels x timestamps) of cached query results. 0 disables the cache.")
+	int queryCacheSize() default QueryCache.DEFAULT_MAX_CELLS;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata InfluxDB";
 
 }
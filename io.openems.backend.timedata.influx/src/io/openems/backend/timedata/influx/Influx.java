@@ -1,6 +1,10 @@
 package io.openems.backend.timedata.influx;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +43,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.Histogram;
 import io.openems.common.types.SemanticVersion;
 import io.openems.common.utils.StringUtils;
 import io.openems.shared.influxdb.InfluxConnector;
@@ -49,6 +54,7 @@ import io.openems.shared.influxdb.InfluxConstants;
 public class Influx extends AbstractOpenemsBackendComponent implements Timedata {
 
 	private static final Pattern NAME_NUMBER_PATTERN = Pattern.compile("[^0-9]+([0-9]+)$");
+	private static final long QUERY_LATENCY_LOG_INTERVAL = TimeUnit.MINUTES.toMillis(15);
 
 	private final Logger log = LoggerFactory.getLogger(Influx.class);
 	private final Map<String, EdgeCache> edgeCacheMap = new HashMap<>();
@@ -56,6 +62,23 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 
 	private InfluxConnector influxConnector = null;
 
+	/**
+	 * The downsampled tiers that are written; empty if disabled.
+	 */
+	private final List<Rollup> rollups = new ArrayList<>();
+
+	/**
+	 * Queries starting at or after this date may use the rollups; null to always
+	 * query the raw data.
+	 */
+	private ZonedDateTime rollupQueryStartDate = null;
+
+	/**
+	 * Query latencies of the raw data (key null) and per {@link RollupTier}.
+	 */
+	private final Map<RollupTier, Histogram> queryLatencies = new HashMap<>();
+	private volatile long lastQueryLatencyLog = System.currentTimeMillis();
+
 	public Influx() {
 		super("Timedata.InfluxDB");
 		this.fieldTypeConflictHandler = new FieldTypeConflictHandler(this);
@@ -74,11 +97,31 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 				";username=" + config.username() + //
 				";password=" + (config.password() != null ? "ok" : "NOT_SET") + //
 				";measurement=" + config.measurement() + //
+				(config.isRollupEnabled() ? ";rollups" : "") + //
+				";rollupQueryStartDate=" + config.rollupQueryStartDate() + //
 				(config.isReadOnly() ? ";READ_ONLY_MODE" : "") + //
 				"]");
 
+		if (config.isRollupEnabled()) {
+			for (RollupTier tier : RollupTier.values()) {
+				this.rollups.add(new Rollup(tier));
+			}
+		}
+		if (!config.rollupQueryStartDate().isEmpty()) {
+			try {
+				this.rollupQueryStartDate = LocalDate.parse(config.rollupQueryStartDate()).atStartOfDay(ZoneOffset.UTC);
+			} catch (DateTimeParseException e) {
+				throw new OpenemsException(
+						"Unable to parse Rollup Query Start-Date [" + config.rollupQueryStartDate() + "]");
+			}
+		}
+		this.queryLatencies.put(null, new Histogram());
+		for (RollupTier tier : RollupTier.values()) {
+			this.queryLatencies.put(tier, new Histogram());
+		}
+
 		this.influxConnector = new InfluxConnector(config.url(), config.port(), config.username(), config.password(),
-				config.database(), config.retentionPolicy(), config.isReadOnly(), //
+				config.database(), config.retentionPolicy(), config.isReadOnly(), config.queryCacheSize(), //
 				(failedPoints, throwable) -> {
 					if (throwable instanceof FieldTypeConflictException) {
 						this.fieldTypeConflictHandler.handleException((FieldTypeConflictException) throwable);
@@ -158,6 +201,24 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 
 		// Write data to default location
 		this.writeData(influxEdgeId, data);
+
+		// Write downsampled data
+		long now = System.currentTimeMillis();
+		for (Rollup rollup : this.rollups) {
+			for (Rollup.Bucket bucket : rollup.add(influxEdgeId, data, now)) {
+				this.influxConnector.write(bucket.toPoint());
+			}
+			long droppedRows = rollup.getAndResetDroppedRows();
+			if (droppedRows > 0) {
+				this.logWarn(this.log, "Ignored [" + droppedRows + "] late rows of Edge [" + edgeId + "] for Rollup ["
+						+ rollup.getTier().getMeasurement() + "]");
+			}
+			long futureRows = rollup.getAndResetFutureRows();
+			if (futureRows > 0) {
+				this.logWarn(this.log, "Ignored [" + futureRows + "] rows with future timestamps of Edge [" + edgeId
+						+ "] for Rollup [" + rollup.getTier().getMeasurement() + "]");
+			}
+		}
 	}
 
 	/**
@@ -217,7 +278,17 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 		// parse the numeric EdgeId
 		Optional<Integer> influxEdgeId = Optional.of(Influx.parseNumberFromName(edgeId));
 
-		return this.influxConnector.queryHistoricData(influxEdgeId, fromDate, toDate, channels, resolution);
+		RollupTier tier = this.getRollupTier(fromDate, resolution);
+		long start = System.nanoTime();
+		try {
+			if (tier == null) {
+				return this.influxConnector.queryHistoricData(influxEdgeId, fromDate, toDate, channels, resolution);
+			}
+			return this.influxConnector.queryHistoricData(influxEdgeId, fromDate, toDate, channels, resolution,
+					tier.getMeasurement());
+		} finally {
+			this.recordQueryLatency(tier, start);
+		}
 	}
 
 	@Override
@@ -235,7 +306,61 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 		// parse the numeric EdgeId
 		Optional<Integer> influxEdgeId = Optional.of(Influx.parseNumberFromName(edgeId));
 
-		return this.influxConnector.queryHistoricEnergyPerPeriod(influxEdgeId, fromDate, toDate, channels, resolution);
+		RollupTier tier = this.getRollupTier(fromDate, resolution);
+		long start = System.nanoTime();
+		try {
+			if (tier == null) {
+				return this.influxConnector.queryHistoricEnergyPerPeriod(influxEdgeId, fromDate, toDate, channels,
+						resolution);
+			}
+			return this.influxConnector.queryHistoricEnergyPerPeriod(influxEdgeId, fromDate, toDate, channels,
+					resolution, tier.getMeasurement(), InfluxConstants.ROLLUP_LAST_SUFFIX);
+		} finally {
+			this.recordQueryLatency(tier, start);
+		}
+	}
+
+	/**
+	 * Gets the coarsest {@link RollupTier} that satisfies the query.
+	 * 
+	 * @param fromDate   the From-Date
+	 * @param resolution the resolution in seconds
+	 * @return the {@link RollupTier}; or null to query the raw data
+	 */
+	private RollupTier getRollupTier(ZonedDateTime fromDate, int resolution) {
+		if (this.rollupQueryStartDate == null || fromDate.isBefore(this.rollupQueryStartDate)) {
+			return null;
+		}
+		return RollupTier.forResolution(resolution);
+	}
+
+	/**
+	 * Records the latency of a query and regularly logs the latencies per tier.
+	 * 
+	 * @param tier  the {@link RollupTier}; null for raw data
+	 * @param start the start of the query from {@link System#nanoTime()}
+	 */
+	private void recordQueryLatency(RollupTier tier, long start) {
+		this.queryLatencies.get(tier).record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+		long now = System.currentTimeMillis();
+		if (now - this.lastQueryLatencyLog < QUERY_LATENCY_LOG_INTERVAL) {
+			return;
+		}
+		this.lastQueryLatencyLog = now;
+		StringBuilder b = new StringBuilder("Query latencies:");
+		this.appendQueryLatency(b, "raw", this.queryLatencies.get(null));
+		for (RollupTier t : RollupTier.values()) {
+			this.appendQueryLatency(b, t.getMeasurement(), this.queryLatencies.get(t));
+		}
+		b.append(" | Query-Cache: " + this.influxConnector.getQueryCacheStatistics());
+		this.logInfo(this.log, b.toString());
+	}
+
+	private void appendQueryLatency(StringBuilder b, String name, Histogram histogram) {
+		b.append(" " + name + " [" + histogram.getCount() + " queries, p50 " + histogram.getPercentile(50)
+				+ " ms, p99 " + histogram.getPercentile(99) + " ms]");
+		histogram.reset();
 	}
 
 	/**
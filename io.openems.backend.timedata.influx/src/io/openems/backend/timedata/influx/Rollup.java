@@ -0,0 +1,335 @@
+package io.openems.backend.timedata.influx;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.influxdb.dto.Point;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.shared.influxdb.InfluxConstants;
+
+/**
+ * Incrementally aggregates the raw data of all Edges into the buckets of one
+ * {@link RollupTier}.
+ *
+ * <p>
+ * For every numeric Channel the minimum, maximum, average and last value per
+ * bucket are kept. A bucket is returned for writing as soon as newer data of
+ * the Edge starts a later bucket; the still open bucket is returned at most
+ * every {@link #FLUSH_INTERVAL_MILLIS}, so that queries also see the current
+ * period. InfluxDB overwrites the fields of an earlier written Point with the
+ * same timestamp and tags.
+ *
+ * <p>
+ * Closed buckets are kept for {@link #LATE_DATA_GRACE_MILLIS}, so that late
+ * data - e.g. replayed by the Edge after a reconnect - is merged and the
+ * complete bucket is written again. Data for buckets that were already dropped
+ * is ignored, as it would overwrite the complete bucket with partial values.
+ *
+ * <p>
+ * For the same reason the bucket that is open when an Edge is first seen -
+ * e.g. after a restart of the Backend - is skipped: it would only contain the
+ * data received afterwards. Rows with a timestamp more than
+ * {@link #FUTURE_TOLERANCE_MILLIS} ahead of the Backend clock - e.g. from an
+ * Edge with a wrong RTC - are ignored, so they can not close the current
+ * buckets. Edges without data for one bucket plus the grace period are
+ * evicted; their pending buckets are written.
+ */
+public class Rollup {
+
+	protected static final long FLUSH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+	protected static final long LATE_DATA_GRACE_MILLIS = TimeUnit.HOURS.toMillis(1);
+	protected static final long FUTURE_TOLERANCE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+	private final RollupTier tier;
+
+	/**
+	 * Buckets per numeric Edge-ID.
+	 */
+	private final Map<Integer, EdgeBuckets> edges = new HashMap<>();
+
+	private long droppedRows = 0;
+	private long futureRows = 0;
+	private long lastEviction = Long.MIN_VALUE;
+
+	public Rollup(RollupTier tier) {
+		this.tier = tier;
+	}
+
+	public RollupTier getTier() {
+		return this.tier;
+	}
+
+	/**
+	 * Adds raw data of an Edge.
+	 *
+	 * @param influxEdgeId the unique, numeric identifier of the Edge
+	 * @param data         the raw data
+	 * @param now          the current time in milliseconds
+	 * @return the {@link Bucket}s that should be written now; possibly also of
+	 *         other, evicted Edges
+	 */
+	public synchronized List<Bucket> add(int influxEdgeId, TreeBasedTable<Long, ChannelAddress, JsonElement> data,
+			long now) {
+		long bucketMillis = this.tier.getMillis();
+		List<Bucket> result = new ArrayList<>();
+		this.evictIdleEdges(now, result);
+
+		EdgeBuckets edge = this.edges.get(influxEdgeId);
+		if (edge == null) {
+			// skip the currently open bucket: it is incomplete
+			edge = new EdgeBuckets();
+			edge.droppedBefore = now - Math.floorMod(now, bucketMillis) + bucketMillis;
+			this.edges.put(influxEdgeId, edge);
+		}
+		edge.lastSeen = now;
+		for (Entry<Long, Map<ChannelAddress, JsonElement>> row : data.rowMap().entrySet()) {
+			long timestamp = row.getKey();
+			if (timestamp > now + FUTURE_TOLERANCE_MILLIS) {
+				// timestamp is in the future
+				this.futureRows++;
+				continue;
+			}
+			long start = timestamp - Math.floorMod(timestamp, bucketMillis);
+			if (start < edge.droppedBefore) {
+				// bucket was already dropped or skipped
+				this.droppedRows++;
+				continue;
+			}
+			Bucket bucket = edge.buckets.computeIfAbsent(start, s -> new Bucket(influxEdgeId, this.tier, s, now));
+			for (Entry<ChannelAddress, JsonElement> cell : row.getValue().entrySet()) {
+				JsonElement value = cell.getValue();
+				if (value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber()) {
+					bucket.add(cell.getKey(), timestamp, value.getAsDouble());
+				}
+			}
+			edge.latestTimestamp = Math.max(edge.latestTimestamp, timestamp);
+		}
+
+		Iterator<Bucket> iterator = edge.buckets.values().iterator();
+		while (iterator.hasNext()) {
+			Bucket bucket = iterator.next();
+			long end = bucket.start + bucketMillis;
+			boolean isClosed = end <= edge.latestTimestamp;
+			if (bucket.isDirty && (isClosed || now - bucket.lastFlush >= FLUSH_INTERVAL_MILLIS)) {
+				// write current state; closed buckets are written immediately
+				bucket.isDirty = false;
+				bucket.lastFlush = now;
+				result.add(bucket.copy());
+			}
+			if (end + LATE_DATA_GRACE_MILLIS <= edge.latestTimestamp) {
+				// grace period for late data is over
+				iterator.remove();
+				edge.droppedBefore = Math.max(edge.droppedBefore, end);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Evicts Edges that sent no data for one bucket plus the grace period. Checks
+	 * at most every {@link #FLUSH_INTERVAL_MILLIS}.
+	 *
+	 * @param now    the current time in milliseconds
+	 * @param result receives the pending {@link Bucket}s of the evicted Edges
+	 */
+	private void evictIdleEdges(long now, List<Bucket> result) {
+		if (this.lastEviction != Long.MIN_VALUE && now - this.lastEviction < FLUSH_INTERVAL_MILLIS) {
+			return;
+		}
+		this.lastEviction = now;
+		long idleMillis = this.tier.getMillis() + LATE_DATA_GRACE_MILLIS;
+		Iterator<EdgeBuckets> iterator = this.edges.values().iterator();
+		while (iterator.hasNext()) {
+			EdgeBuckets edge = iterator.next();
+			if (now - edge.lastSeen < idleMillis) {
+				continue;
+			}
+			for (Bucket bucket : edge.buckets.values()) {
+				if (bucket.isDirty) {
+					result.add(bucket.copy());
+				}
+			}
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Gets the number of Edges with buckets in memory.
+	 *
+	 * @return the number of Edges
+	 */
+	protected synchronized int getNoOfEdges() {
+		return this.edges.size();
+	}
+
+	/**
+	 * Gets the number of rows that were ignored because they arrived after the
+	 * grace period of their bucket, and resets the counter.
+	 *
+	 * @return the number of dropped rows
+	 */
+	public synchronized long getAndResetDroppedRows() {
+		long result = this.droppedRows;
+		this.droppedRows = 0;
+		return result;
+	}
+
+	/**
+	 * Gets the number of rows that were ignored because their timestamp was in
+	 * the future, and resets the counter.
+	 *
+	 * @return the number of ignored rows
+	 */
+	public synchronized long getAndResetFutureRows() {
+		long result = this.futureRows;
+		this.futureRows = 0;
+		return result;
+	}
+
+	/**
+	 * The buckets of one Edge.
+	 */
+	private static class EdgeBuckets {
+
+		/**
+		 * Buckets per start timestamp.
+		 */
+		private final TreeMap<Long, Bucket> buckets = new TreeMap<>();
+
+		private long latestTimestamp = Long.MIN_VALUE;
+		private long droppedBefore = Long.MIN_VALUE;
+		private long lastSeen;
+	}
+
+	/**
+	 * The aggregated values of one Edge within one bucket.
+	 */
+	public static class Bucket {
+
+		private final int influxEdgeId;
+		private final RollupTier tier;
+		private final long start;
+		private final Map<ChannelAddress, Aggregate> aggregates = new HashMap<>();
+
+		private boolean isDirty = false;
+		private long lastFlush;
+
+		private Bucket(int influxEdgeId, RollupTier tier, long start, long now) {
+			this.influxEdgeId = influxEdgeId;
+			this.tier = tier;
+			this.start = start;
+			this.lastFlush = now;
+		}
+
+		private void add(ChannelAddress channel, long timestamp, double value) {
+			this.aggregates.computeIfAbsent(channel, c -> new Aggregate()).add(timestamp, value);
+			this.isDirty = true;
+		}
+
+		private Bucket copy() {
+			Bucket result = new Bucket(this.influxEdgeId, this.tier, this.start, this.lastFlush);
+			for (Entry<ChannelAddress, Aggregate> entry : this.aggregates.entrySet()) {
+				result.aggregates.put(entry.getKey(), entry.getValue().copy());
+			}
+			return result;
+		}
+
+		public long getStart() {
+			return this.start;
+		}
+
+		public Map<ChannelAddress, Aggregate> getAggregates() {
+			return Collections.unmodifiableMap(this.aggregates);
+		}
+
+		/**
+		 * Converts this Bucket to an InfluxDB Point. The average is stored in the
+		 * field named like the Channel, so that queries on the raw data can be
+		 * reused; minimum, maximum and last value get a suffix.
+		 *
+		 * @return the {@link Point}
+		 */
+		public Point toPoint() {
+			Point.Builder builder = Point //
+					.measurement(this.tier.getMeasurement()) //
+					.tag(InfluxConstants.TAG, String.valueOf(this.influxEdgeId)) //
+					.time(this.start, TimeUnit.MILLISECONDS);
+			for (Entry<ChannelAddress, Aggregate> entry : this.aggregates.entrySet()) {
+				String field = entry.getKey().toString();
+				Aggregate aggregate = entry.getValue();
+				builder.addField(field, aggregate.getAverage());
+				builder.addField(field + InfluxConstants.ROLLUP_MIN_SUFFIX, aggregate.getMin());
+				builder.addField(field + InfluxConstants.ROLLUP_MAX_SUFFIX, aggregate.getMax());
+				builder.addField(field + InfluxConstants.ROLLUP_LAST_SUFFIX, aggregate.getLast());
+			}
+			return builder.build();
+		}
+	}
+
+	/**
+	 * The aggregated values of one Channel within one bucket.
+	 */
+	public static class Aggregate {
+
+		private double min = Double.POSITIVE_INFINITY;
+		private double max = Double.NEGATIVE_INFINITY;
+		private double sum = 0;
+		private int count = 0;
+		private double last = Double.NaN;
+		private long lastTimestamp = Long.MIN_VALUE;
+
+		private void add(long timestamp, double value) {
+			this.min = Math.min(this.min, value);
+			this.max = Math.max(this.max, value);
+			this.sum += value;
+			this.count++;
+			if (timestamp >= this.lastTimestamp) {
+				this.last = value;
+				this.lastTimestamp = timestamp;
+			}
+		}
+
+		private Aggregate copy() {
+			Aggregate result = new Aggregate();
+			result.min = this.min;
+			result.max = this.max;
+			result.sum = this.sum;
+			result.count = this.count;
+			result.last = this.last;
+			result.lastTimestamp = this.lastTimestamp;
+			return result;
+		}
+
+		public double getMin() {
+			return this.min;
+		}
+
+		public double getMax() {
+			return this.max;
+		}
+
+		public double getAverage() {
+			return this.sum / this.count;
+		}
+
+		public double getLast() {
+			return this.last;
+		}
+
+		public int getCount() {
+			return this.count;
+		}
+	}
+
+}
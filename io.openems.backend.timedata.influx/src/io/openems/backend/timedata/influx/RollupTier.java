@@ -0,0 +1,66 @@
+package io.openems.backend.timedata.influx;
+
+/**
+ * The downsampled tiers that are kept in addition to the raw data.
+ */
+public enum RollupTier {
+	/**
+	 * Aggregates per 15 minutes.
+	 */
+	FIFTEEN_MINUTES(15 * 60, "data_15m"), //
+	/**
+	 * Aggregates per day (UTC).
+	 */
+	ONE_DAY(24 * 60 * 60, "data_1d");
+
+	private final int seconds;
+	private final String measurement;
+
+	private RollupTier(int seconds, String measurement) {
+		this.seconds = seconds;
+		this.measurement = measurement;
+	}
+
+	/**
+	 * Gets the length of one bucket in seconds.
+	 * 
+	 * @return the seconds
+	 */
+	public int getSeconds() {
+		return this.seconds;
+	}
+
+	/**
+	 * Gets the length of one bucket in milliseconds.
+	 * 
+	 * @return the milliseconds
+	 */
+	public long getMillis() {
+		return this.seconds * 1000L;
+	}
+
+	/**
+	 * Gets the InfluxDB measurement of this tier.
+	 * 
+	 * @return the measurement name
+	 */
+	public String getMeasurement() {
+		return this.measurement;
+	}
+
+	/**
+	 * Gets the coarsest tier whose buckets exactly fit into the given resolution.
+	 * 
+	 * @param resolution the requested resolution in seconds
+	 * @return the {@link RollupTier}; or null if the raw data is required
+	 */
+	public static RollupTier forResolution(int resolution) {
+		RollupTier result = null;
+		for (RollupTier tier : RollupTier.values()) {
+			if (resolution >= tier.seconds && resolution % tier.seconds == 0) {
+				result = tier;
+			}
+		}
+		return result;
+	}
+}
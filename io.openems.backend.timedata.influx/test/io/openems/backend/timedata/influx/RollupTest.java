@@ -0,0 +1,244 @@
+package io.openems.backend.timedata.influx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+
+public class RollupTest {
+
+	private static final ChannelAddress SOC = new ChannelAddress("ess0", "Soc");
+	private static final ChannelAddress POWER = new ChannelAddress("meter0", "ActivePower");
+	private static final ChannelAddress STATE = new ChannelAddress("ess0", "State");
+	private static final double DELTA = 0.000001;
+
+	@Test
+	public void testFifteenMinutes() {
+		Rollup rollup = new Rollup(RollupTier.FIFTEEN_MINUTES);
+		long bucketMillis = RollupTier.FIFTEEN_MINUTES.getMillis();
+		Random random = new Random(42);
+
+		// raw data as it would be stored in the 'data' measurement
+		Map<Long, List<Double>> rawSoc = new TreeMap<>();
+		Map<Long, List<Double>> rawPower = new TreeMap<>();
+		// last written Point per bucket, as it is stored in InfluxDB
+		Map<Long, Rollup.Bucket> written = new TreeMap<>();
+
+		// one hour of data every 10 seconds, written in packets of one minute
+		long start = 1_600_000_000_000L - 1_600_000_000_000L % bucketMillis;
+		seen(rollup, 1, start - 1);
+		for (int minute = 0; minute < 60; minute++) {
+			TreeBasedTable<Long, ChannelAddress, JsonElement> data = TreeBasedTable.create();
+			for (int second = 0; second < 60; second += 10) {
+				long timestamp = start + minute * 60_000L + second * 1000L;
+				long bucket = timestamp - timestamp % bucketMillis;
+				double soc = random.nextInt(100);
+				double power = random.nextInt(10000) - 5000;
+				data.put(timestamp, SOC, new JsonPrimitive(soc));
+				data.put(timestamp, POWER, new JsonPrimitive(power));
+				data.put(timestamp, STATE, new JsonPrimitive("Ok")); // not numeric
+				rawSoc.computeIfAbsent(bucket, b -> new ArrayList<>()).add(soc);
+				rawPower.computeIfAbsent(bucket, b -> new ArrayList<>()).add(power);
+			}
+			write(written, rollup.add(1, data, data.rowKeySet().last()));
+		}
+
+		// close the last bucket
+		TreeBasedTable<Long, ChannelAddress, JsonElement> data = TreeBasedTable.create();
+		data.put(start + 60 * 60_000L, SOC, new JsonPrimitive(50));
+		write(written, rollup.add(1, data, start + 60 * 60_000L));
+
+		assertEquals(4, written.size());
+		for (Rollup.Bucket bucket : written.values()) {
+			assertMatchesRaw(rawSoc.get(bucket.getStart()), bucket.getAggregates().get(SOC));
+			assertMatchesRaw(rawPower.get(bucket.getStart()), bucket.getAggregates().get(POWER));
+			assertEquals(null, bucket.getAggregates().get(STATE));
+			assertTrue(bucket.toPoint().lineProtocol().startsWith("data_15m,edge=1 "));
+		}
+	}
+
+	@Test
+	public void testFlushOpenBucket() {
+		Rollup rollup = new Rollup(RollupTier.ONE_DAY);
+		long start = 1_600_000_000_000L - 1_600_000_000_000L % RollupTier.ONE_DAY.getMillis();
+
+		seen(rollup, 1, start - 1);
+
+		// within the flush interval: nothing is written
+		TreeBasedTable<Long, ChannelAddress, JsonElement> data = TreeBasedTable.create();
+		data.put(start, SOC, new JsonPrimitive(10));
+		assertEquals(0, rollup.add(1, data, start).size());
+		data = TreeBasedTable.create();
+		data.put(start + 1000, SOC, new JsonPrimitive(20));
+		assertEquals(0, rollup.add(1, data, start + 1000).size());
+
+		// after the flush interval: the open bucket is written
+		List<Rollup.Bucket> written = seen(rollup, 1, start + Rollup.FLUSH_INTERVAL_MILLIS);
+		assertEquals(1, written.size());
+		assertEquals(15, written.get(0).getAggregates().get(SOC).getAverage(), DELTA);
+		assertEquals(20, written.get(0).getAggregates().get(SOC).getLast(), DELTA);
+
+		// only dirty buckets are written again
+		assertEquals(0, seen(rollup, 1, start + 2 * Rollup.FLUSH_INTERVAL_MILLIS).size());
+	}
+
+	@Test
+	public void testLateData() {
+		Rollup rollup = new Rollup(RollupTier.FIFTEEN_MINUTES);
+		long start = 1_600_000_000_000L - 1_600_000_000_000L % RollupTier.FIFTEEN_MINUTES.getMillis();
+		long minute = 60_000L;
+		seen(rollup, 1, start - 1);
+
+		TreeBasedTable<Long, ChannelAddress, JsonElement> data = TreeBasedTable.create();
+		data.put(start, SOC, new JsonPrimitive(10));
+		data.put(start + 5 * minute, SOC, new JsonPrimitive(20));
+		data.put(start + 16 * minute, SOC, new JsonPrimitive(30));
+		List<Rollup.Bucket> written = rollup.add(1, data, start + 16 * minute);
+		assertEquals(1, written.size());
+		assertEquals(2, written.get(0).getAggregates().get(SOC).getCount());
+
+		// late data is merged into the closed bucket, which is written completely
+		data = TreeBasedTable.create();
+		data.put(start + 10 * minute, SOC, new JsonPrimitive(60));
+		written = rollup.add(1, data, start + 16 * minute);
+		assertEquals(1, written.size());
+		assertEquals(start, written.get(0).getStart());
+		assertEquals(3, written.get(0).getAggregates().get(SOC).getCount());
+		assertEquals(30, written.get(0).getAggregates().get(SOC).getAverage(), DELTA);
+		assertEquals(60, written.get(0).getAggregates().get(SOC).getLast(), DELTA);
+
+		// after the grace period the bucket is dropped
+		data = TreeBasedTable.create();
+		long now = start + 15 * minute + Rollup.LATE_DATA_GRACE_MILLIS;
+		data.put(now, SOC, new JsonPrimitive(40));
+		rollup.add(1, data, now);
+		assertEquals(0, rollup.getAndResetDroppedRows());
+
+		// later data for the dropped bucket is ignored instead of overwriting it
+		data = TreeBasedTable.create();
+		data.put(start + 12 * minute, SOC, new JsonPrimitive(99));
+		for (Rollup.Bucket bucket : rollup.add(1, data, now)) {
+			assertTrue(bucket.getStart() != start);
+		}
+		assertEquals(1, rollup.getAndResetDroppedRows());
+	}
+
+	@Test
+	public void testSkipFirstBucket() {
+		Rollup rollup = new Rollup(RollupTier.FIFTEEN_MINUTES);
+		long start = 1_600_000_000_000L - 1_600_000_000_000L % RollupTier.FIFTEEN_MINUTES.getMillis();
+		long minute = 60_000L;
+
+		// e.g. after a restart of the Backend: the open bucket is incomplete
+		TreeBasedTable<Long, ChannelAddress, JsonElement> data = TreeBasedTable.create();
+		data.put(start + 5 * minute, SOC, new JsonPrimitive(10));
+		assertEquals(0, rollup.add(1, data, start + 5 * minute).size());
+		assertEquals(1, rollup.getAndResetDroppedRows());
+
+		// the next bucket is complete
+		data = TreeBasedTable.create();
+		data.put(start + 15 * minute, SOC, new JsonPrimitive(20));
+		data.put(start + 30 * minute, SOC, new JsonPrimitive(30));
+		List<Rollup.Bucket> written = rollup.add(1, data, start + 30 * minute);
+		assertEquals(1, written.size());
+		assertEquals(start + 15 * minute, written.get(0).getStart());
+		assertEquals(0, rollup.getAndResetDroppedRows());
+	}
+
+	@Test
+	public void testFutureTimestamp() {
+		Rollup rollup = new Rollup(RollupTier.FIFTEEN_MINUTES);
+		long start = 1_600_000_000_000L - 1_600_000_000_000L % RollupTier.FIFTEEN_MINUTES.getMillis();
+		long minute = 60_000L;
+		seen(rollup, 1, start - 1);
+
+		// a timestamp from a wrong RTC does not close the current bucket
+		TreeBasedTable<Long, ChannelAddress, JsonElement> data = TreeBasedTable.create();
+		data.put(start, SOC, new JsonPrimitive(10));
+		data.put(start + TimeUnit.DAYS.toMillis(365), SOC, new JsonPrimitive(99));
+		assertEquals(0, rollup.add(1, data, start).size());
+		assertEquals(1, rollup.getAndResetFutureRows());
+
+		// later data is still accepted
+		data = TreeBasedTable.create();
+		data.put(start + 5 * minute, SOC, new JsonPrimitive(20));
+		data.put(start + 15 * minute, SOC, new JsonPrimitive(30));
+		List<Rollup.Bucket> written = rollup.add(1, data, start + 15 * minute);
+		assertEquals(1, written.size());
+		assertEquals(2, written.get(0).getAggregates().get(SOC).getCount());
+		assertEquals(0, rollup.getAndResetDroppedRows());
+	}
+
+	@Test
+	public void testEvictIdleEdges() {
+		Rollup rollup = new Rollup(RollupTier.FIFTEEN_MINUTES);
+		long start = 1_600_000_000_000L - 1_600_000_000_000L % RollupTier.FIFTEEN_MINUTES.getMillis();
+		seen(rollup, 1, start - 1);
+		TreeBasedTable<Long, ChannelAddress, JsonElement> data = TreeBasedTable.create();
+		data.put(start, SOC, new JsonPrimitive(10));
+		assertEquals(0, rollup.add(1, data, start).size());
+		assertEquals(1, rollup.getNoOfEdges());
+
+		// Edge 1 is idle: its pending bucket is written by the data of Edge 2
+		long now = start + RollupTier.FIFTEEN_MINUTES.getMillis() + Rollup.LATE_DATA_GRACE_MILLIS;
+		List<Rollup.Bucket> written = seen(rollup, 2, now);
+		assertEquals(1, written.size());
+		assertEquals(start, written.get(0).getStart());
+		assertEquals(1, rollup.getNoOfEdges());
+	}
+
+	/**
+	 * Adds empty data for an Edge.
+	 *
+	 * @param rollup       the {@link Rollup}
+	 * @param influxEdgeId the Edge
+	 * @param now          the current time in milliseconds
+	 * @return the {@link Rollup.Bucket}s that should be written
+	 */
+	private static List<Rollup.Bucket> seen(Rollup rollup, int influxEdgeId, long now) {
+		return rollup.add(influxEdgeId, TreeBasedTable.create(), now);
+	}
+
+	private static void write(Map<Long, Rollup.Bucket> written, List<Rollup.Bucket> buckets) {
+		for (Rollup.Bucket bucket : buckets) {
+			written.put(bucket.getStart(), bucket);
+		}
+	}
+
+	/**
+	 * Asserts that the {@link Rollup.Aggregate} matches the MIN, MAX, MEAN and LAST
+	 * aggregation of the raw values.
+	 *
+	 * @param raw       the raw values in chronological order
+	 * @param aggregate the {@link Rollup.Aggregate}
+	 */
+	private static void assertMatchesRaw(List<Double> raw, Rollup.Aggregate aggregate) {
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		double sum = 0;
+		for (double value : raw) {
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+			sum += value;
+		}
+		assertEquals(raw.size(), aggregate.getCount());
+		assertEquals(min, aggregate.getMin(), DELTA);
+		assertEquals(max, aggregate.getMax(), DELTA);
+		assertEquals(sum / raw.size(), aggregate.getAverage(), DELTA);
+		assertEquals(raw.get(raw.size() - 1), aggregate.getLast(), DELTA);
+	}
+
+}
@@ -3,6 +3,8 @@ package io.openems.backend.uiwebsocket.impl;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
+import io.openems.common.websocket.AbstractWebsocketServer;
+
 @ObjectClassDefinition(//
 		name = "Ui.Websocket", //
 		description = "Configures the websocket server for OpenEMS UI")
@@ -11,6 +13,9 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Port", description = "The port of the websocket server.")
 	int port() default 8082;
 
+	@AttributeDefinition(name = "Pool size", description = "Number of threads per executor for Requests, Notifications and lifecycle events.")
+	int poolSize() default AbstractWebsocketServer.DEFAULT_POOL_SIZE;
+
 	String webconsole_configurationFactory_nameHint() default "Ui Websocket";
 
 }
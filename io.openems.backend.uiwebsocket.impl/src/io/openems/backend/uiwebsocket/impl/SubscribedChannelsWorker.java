@@ -16,11 +16,20 @@ public class SubscribedChannelsWorker extends io.openems.common.websocket.Subscr
 	private final String edgeId;
 
 	public SubscribedChannelsWorker(UiWebsocketImpl parent, String edgeId, WsData wsData) {
-		super(wsData);
+		super(parent.subscribedChannelsScheduler, wsData);
 		this.parent = parent;
 		this.edgeId = edgeId;
 	}
 
+	@Override
+	protected Object getGroupKey() {
+		if (this.edgeId == null) {
+			return this;
+		}
+		// all Sessions of one Edge receive the same data
+		return this.edgeId;
+	}
+
 	@Override
 	protected JsonElement getChannelValue(ChannelAddress channelAddress) {
 		if (this.edgeId == null) {
@@ -30,6 +30,7 @@ import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 import io.openems.common.session.Role;
+import io.openems.common.websocket.SubscribedChannelsScheduler;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(name = "Ui.Websocket", configurationPolicy = ConfigurationPolicy.REQUIRE, immediate = true)
@@ -39,6 +40,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent implements
 
 	protected WebsocketServer server = null;
 
+	protected SubscribedChannelsScheduler subscribedChannelsScheduler = null;
+
 	@Reference
 	protected volatile JsonRpcRequestHandler jsonRpcRequestHandler;
 
@@ -57,21 +60,26 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent implements
 
 	@Activate
 	void activate(Config config) {
-		this.startServer(config.port());
+		this.subscribedChannelsScheduler = new SubscribedChannelsScheduler();
+		this.startServer(config.port(), config.poolSize());
 	}
 
 	@Deactivate
 	void deactivate() {
 		this.stopServer();
+		if (this.subscribedChannelsScheduler != null) {
+			this.subscribedChannelsScheduler.shutdown();
+		}
 	}
 
 	/**
 	 * Create and start new server.
 	 * 
-	 * @param port the port
+	 * @param port     the port
+	 * @param poolSize number of threads per executor
 	 */
-	private synchronized void startServer(int port) {
-		this.server = new WebsocketServer(this, "Ui.Websocket", port);
+	private synchronized void startServer(int port, int poolSize) {
+		this.server = new WebsocketServer(this, "Ui.Websocket", port, poolSize);
 		this.server.start();
 	}
 
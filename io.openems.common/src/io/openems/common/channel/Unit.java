@@ -191,6 +191,11 @@ public enum Unit {
 	 */
 	MILLISECONDS("ms", SECONDS, -3),
 
+	/**
+	 * Unit of Time [us]
+	 */
+	MICROSECONDS("us", SECONDS, -6),
+
 	/**
 	 * Unit of Time
 	 */
@@ -284,6 +289,7 @@ public enum Unit {
 		case MILLIAMPERE_HOURS:
 		case MILLIOHM:
 		case MILLISECONDS:
+		case MICROSECONDS:
 		case MINUTE:
 		case THOUSANDTH:
 		case VOLT_AMPERE_HOURS:
@@ -1,8 +1,11 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
@@ -52,4 +55,50 @@ public abstract class JsonrpcResponseSuccess extends JsonrpcResponse {
 
 	public abstract JsonObject getResult();
 
+	/**
+	 * Serializes this Response to a JSON String via {@link #write(JsonWriter)}.
+	 */
+	@Override
+	public String toString() {
+		StringWriter out = new StringWriter();
+		try {
+			JsonWriter writer = new JsonWriter(out);
+			writer.setLenient(true);
+			this.write(writer);
+			writer.flush();
+		} catch (IOException e) {
+			// StringWriter does not throw IOExceptions
+			return super.toString();
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Writes this Response as JSON. Equals the serialization of
+	 * {@link #toJsonObject()}.
+	 * 
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	public void write(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		writer.name("jsonrpc").value(JSONRPC_VERSION);
+		writer.name("id").value(this.getId().toString());
+		writer.name("result");
+		this.writeResult(writer);
+		writer.endObject();
+	}
+
+	/**
+	 * Writes the 'result' as JSON. Responses with large results override this to
+	 * stream the result without building the {@link JsonObject} of
+	 * {@link #getResult()}.
+	 * 
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	protected void writeResult(JsonWriter writer) throws IOException {
+		writer.jsonValue(this.getResult().toString());
+	}
+
 }
\ No newline at end of file
@@ -1,12 +1,17 @@
 package io.openems.common.jsonrpc.notification;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 
+import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.types.ChannelAddress;
@@ -31,6 +36,10 @@ import io.openems.common.utils.JsonUtils;
 public class TimestampedDataNotification extends JsonrpcNotification {
 
 	public static TimestampedDataNotification from(JsonrpcNotification notification) throws OpenemsNamedException {
+		if (notification instanceof TimestampedDataNotification) {
+			// already parsed, e.g. by fromString()
+			return (TimestampedDataNotification) notification;
+		}
 		TimestampedDataNotification result = new TimestampedDataNotification();
 		JsonObject j = notification.getParams();
 		for (Entry<String, JsonElement> e1 : j.entrySet()) {
@@ -43,8 +52,77 @@ public class TimestampedDataNotification extends JsonrpcNotification {
 		return result;
 	}
 
+	/**
+	 * Parses a JSON-RPC message String to a {@link TimestampedDataNotification}.
+	 * 
+	 * <p>
+	 * The String is decoded with a streaming {@link JsonReader} directly into the
+	 * data table, i.e. without building and walking an intermediate
+	 * {@link JsonObject} tree. Only the single values are parsed to
+	 * {@link JsonElement}s.
+	 * 
+	 * @param json the JSON-RPC message String
+	 * @return the {@link TimestampedDataNotification}; or null if the message is
+	 *         not a 'timestampedData' Notification or if 'params' precedes
+	 *         'method'
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public static TimestampedDataNotification fromString(String json) throws OpenemsNamedException {
+		try (JsonReader reader = new JsonReader(new StringReader(json))) {
+			TimestampedDataNotification result = null;
+			boolean hasParams = false;
+			reader.beginObject();
+			while (reader.hasNext()) {
+				switch (reader.nextName()) {
+				case "method":
+					if (!METHOD.equals(reader.nextString())) {
+						return null;
+					}
+					result = new TimestampedDataNotification();
+					break;
+
+				case "id":
+					// this is a Request
+					return null;
+
+				case "params":
+					if (result == null) {
+						// unknown method
+						return null;
+					}
+					hasParams = true;
+					reader.beginObject();
+					while (reader.hasNext()) {
+						long timestamp = Long.parseLong(reader.nextName());
+						reader.beginObject();
+						while (reader.hasNext()) {
+							ChannelAddress address = ChannelAddress.fromString(reader.nextName());
+							result.add(timestamp, address, PARSER.parse(reader));
+						}
+						reader.endObject();
+					}
+					reader.endObject();
+					break;
+
+				default:
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+			if (!hasParams) {
+				return null;
+			}
+			return result;
+
+		} catch (IOException | RuntimeException e) {
+			throw OpenemsError.JSON_PARSE_FAILED.exception(e.getMessage(), json);
+		}
+	}
+
 	public static final String METHOD = "timestampedData";
 
+	private static final JsonParser PARSER = new JsonParser();
+
 	private final TreeBasedTable<Long, ChannelAddress, JsonElement> data = TreeBasedTable.create();
 
 	public TimestampedDataNotification() {
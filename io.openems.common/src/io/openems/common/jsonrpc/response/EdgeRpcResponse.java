@@ -1,8 +1,10 @@
 package io.openems.common.jsonrpc.response;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 import io.openems.common.utils.JsonUtils;
@@ -36,4 +38,16 @@ public class EdgeRpcResponse extends JsonrpcResponseSuccess {
 				.build();
 	}
 
+	/**
+	 * Writes the 'result' and delegates the 'payload' to the wrapped Response, so
+	 * that a streamed Response is not converted to a {@link JsonObject}.
+	 */
+	@Override
+	protected void writeResult(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		writer.name("payload");
+		this.payload.write(writer);
+		writer.endObject();
+	}
+
 }
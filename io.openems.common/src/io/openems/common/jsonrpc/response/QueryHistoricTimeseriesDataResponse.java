@@ -1,14 +1,21 @@
 package io.openems.common.jsonrpc.response;
 
+import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.UUID;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 import io.openems.common.types.ChannelAddress;
@@ -52,30 +59,87 @@ public class QueryHistoricTimeseriesDataResponse extends JsonrpcResponseSuccess
 		JsonObject result = new JsonObject();
 
 		JsonArray timestamps = new JsonArray();
-		for (ZonedDateTime timestamp : table.keySet()) {
+		for (ZonedDateTime timestamp : this.table.keySet()) {
 			timestamps.add(timestamp.format(DateTimeFormatter.ISO_INSTANT));
 		}
 		result.add("timestamps", timestamps);
 
-		JsonObject data = new JsonObject();
-		for (Entry<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> rowEntry : table.entrySet()) {
-			for (Entry<ChannelAddress, JsonElement> colEntry : rowEntry.getValue().entrySet()) {
-				String channelAddress = colEntry.getKey().toString();
-				JsonElement value = colEntry.getValue();
-				JsonElement channelValuesElement = data.get(channelAddress);
-				JsonArray channelValues;
-				if (channelValuesElement != null) {
-					channelValues = channelValuesElement.getAsJsonArray();
-				} else {
-					channelValues = new JsonArray();
-				}
-				channelValues.add(value);
-				data.add(channelAddress, channelValues);
+		// collect the values per Channel in one pass
+		Map<ChannelAddress, JsonArray> columns = new LinkedHashMap<>();
+		for (SortedMap<ChannelAddress, JsonElement> row : this.table.values()) {
+			for (Entry<ChannelAddress, JsonElement> colEntry : row.entrySet()) {
+				columns.computeIfAbsent(colEntry.getKey(), c -> new JsonArray()).add(colEntry.getValue());
 			}
 		}
+		JsonObject data = new JsonObject();
+		for (Entry<ChannelAddress, JsonArray> column : columns.entrySet()) {
+			data.add(column.getKey().toString(), column.getValue());
+		}
 		result.add("data", data);
 
 		return result;
 	}
 
+	/**
+	 * Writes the 'result' object column by column directly from the table, without
+	 * building the intermediate {@link JsonObject} of {@link #getResult()}.
+	 * 
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	@Override
+	protected void writeResult(JsonWriter writer) throws IOException {
+		writer.beginObject();
+
+		writer.name("timestamps").beginArray();
+		for (ZonedDateTime timestamp : this.table.keySet()) {
+			writer.value(timestamp.format(DateTimeFormatter.ISO_INSTANT));
+		}
+		writer.endArray();
+
+		// Channels in order of their first appearance, like in getResult()
+		Set<ChannelAddress> channels = new LinkedHashSet<>();
+		for (SortedMap<ChannelAddress, JsonElement> row : this.table.values()) {
+			channels.addAll(row.keySet());
+		}
+		writer.name("data").beginObject();
+		for (ChannelAddress channel : channels) {
+			writer.name(channel.toString()).beginArray();
+			for (SortedMap<ChannelAddress, JsonElement> row : this.table.values()) {
+				if (row.containsKey(channel)) {
+					writeValue(writer, row.get(channel));
+				}
+			}
+			writer.endArray();
+		}
+		writer.endObject();
+
+		writer.endObject();
+	}
+
+	/**
+	 * Writes a single value.
+	 * 
+	 * @param writer the {@link JsonWriter}
+	 * @param value  the value
+	 * @throws IOException on error
+	 */
+	private static void writeValue(JsonWriter writer, JsonElement value) throws IOException {
+		if (value == null || value.isJsonNull()) {
+			writer.nullValue();
+		} else if (value.isJsonPrimitive()) {
+			JsonPrimitive primitive = value.getAsJsonPrimitive();
+			if (primitive.isNumber()) {
+				writer.value(primitive.getAsNumber());
+			} else if (primitive.isBoolean()) {
+				writer.value(primitive.getAsBoolean());
+			} else {
+				writer.value(primitive.getAsString());
+			}
+		} else {
+			// not expected for timeseries data
+			writer.jsonValue(value.toString());
+		}
+	}
+
 }
@@ -1,5 +1,7 @@
 package io.openems.common.types;
 
+import java.util.Objects;
+
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 
@@ -8,10 +10,21 @@ public class ChannelAddress implements Comparable<ChannelAddress> {
 	private final String componentId;
 	private final String channelId;
 
+	/**
+	 * The hash code; equal to the hash code of {@link #toString()}.
+	 */
+	private final int hash;
+
+	/**
+	 * The lazily created String representation.
+	 */
+	private volatile String string = null;
+
 	public ChannelAddress(String componentId, String channelId) {
 		super();
 		this.componentId = componentId;
 		this.channelId = channelId;
+		this.hash = hash(componentId, channelId);
 	}
 
 	/**
@@ -34,7 +47,12 @@ public class ChannelAddress implements Comparable<ChannelAddress> {
 
 	@Override
 	public String toString() {
-		return componentId + "/" + channelId;
+		String string = this.string;
+		if (string == null) {
+			string = componentId + "/" + channelId;
+			this.string = string;
+		}
+		return string;
 	}
 
 	/**
@@ -46,23 +64,53 @@ public class ChannelAddress implements Comparable<ChannelAddress> {
 	 */
 	public static ChannelAddress fromString(String address) throws OpenemsNamedException {
 		try {
-			String[] addressArray = address.split("/");
-			String componentId = addressArray[0];
-			String channelId = addressArray[1];
+			int separator = address.indexOf('/');
+			if (separator < 0) {
+				throw OpenemsError.COMMON_NO_VALID_CHANNEL_ADDRESS.exception(address);
+			}
+			int end = address.indexOf('/', separator + 1);
+			if (end < 0) {
+				end = address.length();
+			}
+			if (end == separator + 1) {
+				// empty Channel-ID
+				throw OpenemsError.COMMON_NO_VALID_CHANNEL_ADDRESS.exception(address);
+			}
+			String componentId = address.substring(0, separator);
+			String channelId = address.substring(separator + 1, end);
 			return new ChannelAddress(componentId, channelId);
+		} catch (OpenemsNamedException e) {
+			throw e;
 		} catch (Exception e) {
 			throw OpenemsError.COMMON_NO_VALID_CHANNEL_ADDRESS.exception(address);
 		}
 	}
 
+	/**
+	 * Compares the String representations "Component-ID/Channel-ID" character by
+	 * character, without actually creating them.
+	 */
 	@Override
 	public int compareTo(ChannelAddress other) {
-		return this.toString().compareTo(other.toString());
+		if (this == other) {
+			return 0;
+		}
+		int length1 = this.length();
+		int length2 = other.length();
+		int limit = Math.min(length1, length2);
+		for (int i = 0; i < limit; i++) {
+			char c1 = this.charAt(i);
+			char c2 = other.charAt(i);
+			if (c1 != c2) {
+				return c1 - c2;
+			}
+		}
+		return length1 - length2;
 	}
 
 	@Override
 	public int hashCode() {
-		return this.toString().hashCode();
+		return this.hash;
 	}
 
 	@Override
@@ -77,6 +125,43 @@ public class ChannelAddress implements Comparable<ChannelAddress> {
 			return false;
 		}
 		ChannelAddress other = (ChannelAddress) obj;
-		return this.toString().equals(other.toString());
+		return this.hash == other.hash //
+				&& Objects.equals(this.componentId, other.componentId) //
+				&& Objects.equals(this.channelId, other.channelId);
+	}
+
+	private int length() {
+		return String.valueOf(this.componentId).length() + 1 + String.valueOf(this.channelId).length();
+	}
+
+	private char charAt(int index) {
+		String componentId = String.valueOf(this.componentId);
+		int componentIdLength = componentId.length();
+		if (index < componentIdLength) {
+			return componentId.charAt(index);
+		}
+		if (index == componentIdLength) {
+			return '/';
+		}
+		return String.valueOf(this.channelId).charAt(index - componentIdLength - 1);
+	}
+
+	/**
+	 * Calculates the hash code of "Component-ID/Channel-ID" as defined by
+	 * {@link String#hashCode()}.
+	 * 
+	 * @param componentId the Component-ID
+	 * @param channelId   the Channel-ID
+	 * @return the hash code
+	 */
+	private static int hash(String componentId, String channelId) {
+		// like toString(), null is represented as "null"
+		channelId = String.valueOf(channelId);
+		int h = String.valueOf(componentId).hashCode();
+		h = 31 * h + '/';
+		for (int i = 0; i < channelId.length(); i++) {
+			h = 31 * h + channelId.charAt(i);
+		}
+		return h;
 	}
 }
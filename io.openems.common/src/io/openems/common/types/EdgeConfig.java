@@ -1,11 +1,14 @@
 package io.openems.common.types;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
@@ -250,6 +253,17 @@ public class EdgeConfig {
 		private final TreeMap<String, JsonElement> properties;
 		private final TreeMap<String, Channel> channels;
 
+		/**
+		 * Index of StateChannels by Channel-ID; rebuilt whenever the Channels change.
+		 */
+		private volatile Map<String, Channel> stateChannels;
+
+		/**
+		 * Index of StateChannels by {@link Level}; rebuilt together with
+		 * {@link #stateChannels}.
+		 */
+		private volatile Map<Level, Map<String, Channel>> stateChannelsByLevel;
+
 		public Component(String servicePid, String id, String alias, String factoryId,
 				TreeMap<String, JsonElement> properties, TreeMap<String, Channel> channels) {
 			this.servicePid = servicePid;
@@ -258,6 +272,7 @@ public class EdgeConfig {
 			this.factoryId = factoryId;
 			this.properties = properties;
 			this.channels = channels;
+			this.updateStateChannelIndex();
 		}
 
 		public String getPid() {
@@ -284,13 +299,37 @@ public class EdgeConfig {
 			return Optional.ofNullable(this.properties.get(propertyId));
 		}
 
+		/**
+		 * Gets the Channels of this Component. The returned Map is not modifiable;
+		 * use {@link #setChannels(Map)} or {@link #addChannels(Map)} instead.
+		 * 
+		 * @return the Channels by Channel-ID
+		 */
 		public Map<String, Channel> getChannels() {
-			return this.channels;
+			return Collections.unmodifiableMap(this.channels);
 		}
 
+		/**
+		 * Replaces all Channels of this Component.
+		 * 
+		 * @param channels the Channels by Channel-ID
+		 */
 		public void setChannels(Map<String, Channel> channels) {
 			this.channels.clear();
 			this.channels.putAll(channels);
+			this.updateStateChannelIndex();
+		}
+
+		/**
+		 * Adds the given Channels if they do not exist yet.
+		 * 
+		 * @param channels the Channels by Channel-ID
+		 */
+		public void addChannels(Map<String, Channel> channels) {
+			for (Entry<String, Channel> channel : channels.entrySet()) {
+				this.channels.putIfAbsent(channel.getKey(), channel.getValue());
+			}
+			this.updateStateChannelIndex();
 		}
 
 		public Map<String, Channel> getChannelsOfCategory(ChannelCategory channelCategory) {
@@ -300,7 +339,21 @@ public class EdgeConfig {
 		}
 
 		public Map<String, Channel> getStateChannels() {
-			return this.getChannelsOfCategory(ChannelCategory.STATE);
+			return this.stateChannels;
+		}
+
+		/**
+		 * Gets the StateChannels with the given {@link Level}.
+		 * 
+		 * @param level the {@link Level}
+		 * @return the StateChannels by Channel-ID; empty Map if there are none
+		 */
+		public Map<String, Channel> getStateChannels(Level level) {
+			Map<String, Channel> result = this.stateChannelsByLevel.get(level);
+			if (result == null) {
+				return Collections.emptyMap();
+			}
+			return result;
 		}
 
 		/**
@@ -310,12 +363,7 @@ public class EdgeConfig {
 		 * @return true if it is a StateChannel
 		 */
 		public boolean isStateChannel(String channelId) {
-			return this.channels.entrySet().stream() //
-					.anyMatch(entry ->
-					/* find Channel-ID */
-					entry.getKey().equals(channelId)
-							/* is of type StateChannel */
-							&& entry.getValue().getDetail().getCategory() == ChannelCategory.STATE);
+			return this.stateChannels.containsKey(channelId);
 		}
 
 		/**
@@ -326,14 +374,31 @@ public class EdgeConfig {
 		 *         StateChannel.
 		 */
 		public Optional<Component.Channel> getStateChannel(String channelId) {
-			return this.channels.entrySet().stream() //
-					.filter(entry ->
-					/* find Channel-ID */
-					entry.getKey().equals(channelId)
-							/* is of type StateChannel */
-							&& entry.getValue().getDetail().getCategory() == ChannelCategory.STATE) //
-					.map(entry -> entry.getValue()) //
-					.findFirst();
+			return Optional.ofNullable(this.stateChannels.get(channelId));
+		}
+
+		/**
+		 * Rebuilds the immutable StateChannel indexes from {@link #channels}.
+		 */
+		private void updateStateChannelIndex() {
+			Map<String, Channel> stateChannels = new HashMap<>();
+			Map<Level, Map<String, Channel>> stateChannelsByLevel = new EnumMap<>(Level.class);
+			for (Entry<String, Channel> entry : this.channels.entrySet()) {
+				Channel.ChannelDetail detail = entry.getValue().getDetail();
+				if (detail.getCategory() != ChannelCategory.STATE) {
+					continue;
+				}
+				stateChannels.put(entry.getKey(), entry.getValue());
+				if (detail instanceof Channel.ChannelDetailState) {
+					stateChannelsByLevel.computeIfAbsent(((Channel.ChannelDetailState) detail).getLevel(),
+							l -> new HashMap<>()).put(entry.getKey(), entry.getValue());
+				}
+			}
+			for (Entry<Level, Map<String, Channel>> entry : stateChannelsByLevel.entrySet()) {
+				entry.setValue(Collections.unmodifiableMap(entry.getValue()));
+			}
+			this.stateChannelsByLevel = Collections.unmodifiableMap(stateChannelsByLevel);
+			this.stateChannels = Collections.unmodifiableMap(stateChannels);
 		}
 
 		/**
@@ -791,18 +856,54 @@ public class EdgeConfig {
 		}
 	}
 
+	/**
+	 * Immutable lookup indexes of Components by Factory and by Nature.
+	 */
+	private static class Index {
+
+		private final Map<String, List<Component>> componentsByFactory = new HashMap<>();
+		private final Map<String, List<String>> componentIdsByNature = new HashMap<>();
+
+		private Index(TreeMap<String, Component> components, TreeMap<String, Factory> factories) {
+			for (Entry<String, Component> componentEntry : components.entrySet()) {
+				Component component = componentEntry.getValue();
+				this.componentsByFactory.computeIfAbsent(component.factoryId, f -> new ArrayList<>()).add(component);
+				Factory factory = factories.get(component.factoryId);
+				if (factory == null) {
+					continue;
+				}
+				for (String natureId : factory.natureIds) {
+					List<String> componentIds = this.componentIdsByNature.computeIfAbsent(natureId,
+							n -> new ArrayList<>());
+					// Nature-IDs might be listed twice
+					if (componentIds.isEmpty()
+							|| !componentIds.get(componentIds.size() - 1).equals(componentEntry.getKey())) {
+						componentIds.add(componentEntry.getKey());
+					}
+				}
+			}
+		}
+	}
+
 	private final TreeMap<String, Component> components = new TreeMap<>();
 	private final TreeMap<String, Factory> factories = new TreeMap<>();
 
+	/**
+	 * The lazily built {@link Index}; reset on every modification.
+	 */
+	private volatile Index index = null;
+
 	public EdgeConfig() {
 	}
 
-	public void addComponent(String id, Component component) {
+	public synchronized void addComponent(String id, Component component) {
 		this.components.put(id, component);
+		this.index = null;
 	}
 
-	public void removeComponent(String id) {
+	public synchronized void removeComponent(String id) {
 		this.components.remove(id);
+		this.index = null;
 	}
 
 	public Optional<Component> getComponent(String componentId) {
@@ -816,16 +917,37 @@ public class EdgeConfig {
 	 * @param factory the {@link Factory}
 	 * @return true if this operation changed the {@link EdgeConfig}
 	 */
-	public boolean addFactory(String id, Factory factory) {
-		return this.factories.put(id, factory) != null;
+	public synchronized boolean addFactory(String id, Factory factory) {
+		boolean result = this.factories.put(id, factory) != null;
+		this.index = null;
+		return result;
 	}
 
-	public TreeMap<String, Component> getComponents() {
-		return this.components;
+	/**
+	 * Gets the Components by Component-ID.
+	 * 
+	 * <p>
+	 * The returned map is an unmodifiable view; use
+	 * {@link #addComponent(String, Component)} and
+	 * {@link #removeComponent(String)}, so that the indexes are updated.
+	 * 
+	 * @return the Components
+	 */
+	public SortedMap<String, Component> getComponents() {
+		return Collections.unmodifiableSortedMap(this.components);
 	}
 
-	public TreeMap<String, Factory> getFactories() {
-		return this.factories;
+	/**
+	 * Gets the Factories by Factory-ID.
+	 * 
+	 * <p>
+	 * The returned map is an unmodifiable view; use
+	 * {@link #addFactory(String, Factory)}, so that the indexes are updated.
+	 * 
+	 * @return the Factories
+	 */
+	public SortedMap<String, Factory> getFactories() {
+		return Collections.unmodifiableSortedMap(this.factories);
 	}
 
 	/**
@@ -836,10 +958,8 @@ public class EdgeConfig {
 	 */
 	public List<String> getComponentIdsByFactory(String factoryId) {
 		List<String> result = new ArrayList<>();
-		for (Entry<String, Component> componentEntry : this.components.entrySet()) {
-			if (factoryId.equals(componentEntry.getValue().factoryId)) {
-				result.add(componentEntry.getKey());
-			}
+		for (Component component : this.getComponentsByFactory(factoryId)) {
+			result.add(component.id);
 		}
 		return result;
 	}
@@ -851,13 +971,11 @@ public class EdgeConfig {
 	 * @return a List of Components.
 	 */
 	public List<Component> getComponentsByFactory(String factoryId) {
-		List<Component> result = new ArrayList<>();
-		for (Entry<String, Component> componentEntry : this.components.entrySet()) {
-			if (factoryId.equals(componentEntry.getValue().factoryId)) {
-				result.add(componentEntry.getValue());
-			}
+		List<Component> result = this.getIndex().componentsByFactory.get(factoryId);
+		if (result == null) {
+			return new ArrayList<>();
 		}
-		return result;
+		return new ArrayList<>(result);
 	}
 
 	/**
@@ -867,21 +985,31 @@ public class EdgeConfig {
 	 * @return a List of Component-IDs.
 	 */
 	public List<String> getComponentsImplementingNature(String nature) {
-		List<String> result = new ArrayList<>();
-		for (Entry<String, Component> componentEntry : this.components.entrySet()) {
-			String factoryId = componentEntry.getValue().factoryId;
-			Factory factory = this.factories.get(factoryId);
-			if (factory == null) {
-				continue;
-			}
-			for (String thisNature : factory.natureIds) {
-				if (nature.equals(thisNature)) {
-					result.add(componentEntry.getKey());
-					break;
+		List<String> result = this.getIndex().componentIdsByNature.get(nature);
+		if (result == null) {
+			return new ArrayList<>();
+		}
+		return new ArrayList<>(result);
+	}
+
+	/**
+	 * Gets the {@link Index}; builds it if the {@link EdgeConfig} was modified
+	 * since the last call.
+	 * 
+	 * @return the {@link Index}
+	 */
+	private Index getIndex() {
+		Index index = this.index;
+		if (index == null) {
+			synchronized (this) {
+				index = this.index;
+				if (index == null) {
+					index = new Index(this.components, this.factories);
+					this.index = index;
 				}
 			}
 		}
-		return result;
+		return index;
 	}
 
 	/**
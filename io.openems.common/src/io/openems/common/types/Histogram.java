@@ -0,0 +1,169 @@
+package io.openems.common.types;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * A low-overhead histogram for positive long values, e.g. durations.
+ *
+ * <p>
+ * Values are counted in a fixed array of log-linear buckets, i.e. every power
+ * of two is split into 16 sub-buckets. This keeps the relative error below
+ * 6.25 % over the full value range, while recording a value is only a few
+ * arithmetic operations and an array increment - without any allocation.
+ */
+public class Histogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int NO_OF_BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final long[] counts = new long[NO_OF_BUCKETS];
+
+	private long count = 0;
+	private long sum = 0;
+	private long max = 0;
+
+	/**
+	 * Records a value. Negative values are recorded as zero.
+	 *
+	 * @param value the value
+	 */
+	public synchronized void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		this.counts[indexOf(value)]++;
+		this.count++;
+		this.sum += value;
+		if (value > this.max) {
+			this.max = value;
+		}
+	}
+
+	/**
+	 * Removes all recorded values.
+	 */
+	public synchronized void reset() {
+		for (int i = 0; i < this.counts.length; i++) {
+			this.counts[i] = 0;
+		}
+		this.count = 0;
+		this.sum = 0;
+		this.max = 0;
+	}
+
+	/**
+	 * Gets the number of recorded values.
+	 *
+	 * @return the count
+	 */
+	public synchronized long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Gets the maximum recorded value.
+	 *
+	 * @return the max value; zero if no value was recorded
+	 */
+	public synchronized long getMax() {
+		return this.max;
+	}
+
+	/**
+	 * Gets the mean of all recorded values.
+	 *
+	 * @return the mean value; zero if no value was recorded
+	 */
+	public synchronized long getMean() {
+		if (this.count == 0) {
+			return 0;
+		}
+		return this.sum / this.count;
+	}
+
+	/**
+	 * Gets the value at the given percentile. The result is the upper bound of the
+	 * matching bucket, limited to the maximum recorded value.
+	 *
+	 * @param percentile the percentile in the range [0, 100]
+	 * @return the value; zero if no value was recorded
+	 */
+	public synchronized long getPercentile(double percentile) {
+		if (this.count == 0) {
+			return 0;
+		}
+		long target = (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100d * this.count);
+		if (target < 1) {
+			target = 1;
+		}
+		long cumulated = 0;
+		for (int i = 0; i < this.counts.length; i++) {
+			cumulated += this.counts[i];
+			if (cumulated >= target) {
+				return Math.min(highestValueOf(i), this.max);
+			}
+		}
+		return this.max;
+	}
+
+	/**
+	 * Exports count, mean, 50th and 99th percentile and max value as JSON.
+	 *
+	 * <pre>
+	 * {
+	 *   "count": number,
+	 *   "mean": number,
+	 *   "p50": number,
+	 *   "p99": number,
+	 *   "max": number
+	 * }
+	 * </pre>
+	 *
+	 * @return a {@link JsonObject}
+	 */
+	public synchronized JsonObject toJson() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("count", this.count) //
+				.addProperty("mean", this.getMean()) //
+				.addProperty("p50", this.getPercentile(50)) //
+				.addProperty("p99", this.getPercentile(99)) //
+				.addProperty("max", this.max) //
+				.build();
+	}
+
+	/**
+	 * Gets the bucket index for a non-negative value.
+	 *
+	 * @param value the value
+	 * @return the index
+	 */
+	protected static int indexOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Gets the highest value that is counted in the bucket with the given index.
+	 *
+	 * @param index the index
+	 * @return the highest value
+	 */
+	protected static long highestValueOf(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		long subBucket = index % SUB_BUCKETS;
+		long lowest = (SUB_BUCKETS + subBucket) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+
+}
@@ -4,7 +4,8 @@ import java.io.IOException;
 import java.net.BindException;
 import java.net.InetSocketAddress;
 import java.util.Collection;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.ClientHandshake;
@@ -23,17 +24,58 @@ import io.openems.common.jsonrpc.base.JsonrpcResponse;
 
 public abstract class AbstractWebsocketServer<T extends WsData> extends AbstractWebsocket<T> {
 
+	/**
+	 * Default number of threads per executor.
+	 */
+	public static final int DEFAULT_POOL_SIZE = 10;
+
+	/**
+	 * Interval for logging the executor statistics in [ms].
+	 */
+	private static final long STATISTICS_INTERVAL = TimeUnit.MINUTES.toMillis(15);
+
 	private final Logger log = LoggerFactory.getLogger(AbstractWebsocketServer.class);
 	private final int port;
 	private final WebSocketServer ws;
 
+	/**
+	 * Executes JSON-RPC Requests.
+	 */
+	private final OrderedExecutor requestExecutor;
+
+	/**
+	 * Executes JSON-RPC Notifications.
+	 */
+	private final OrderedExecutor notificationExecutor;
+
+	/**
+	 * Executes OnOpen, OnClose and OnError events and JSON-RPC Responses, i.e.
+	 * everything that Request handlers might be waiting for.
+	 */
+	private final OrderedExecutor lifecycleExecutor;
+
+	private final AtomicLong lastStatisticsLog = new AtomicLong(System.currentTimeMillis());
+
 	/**
 	 * @param name to identify this server
 	 * @param port to listen on
 	 */
 	protected AbstractWebsocketServer(String name, int port) {
+		this(name, port, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * @param name     to identify this server
+	 * @param port     to listen on
+	 * @param poolSize number of threads per executor for Requests, Notifications
+	 *                 and lifecycle events
+	 */
+	protected AbstractWebsocketServer(String name, int port, int poolSize) {
 		super(name);
 		this.port = port;
+		this.requestExecutor = new OrderedExecutor(name + "-Requests", poolSize);
+		this.notificationExecutor = new OrderedExecutor(name + "-Notifications", poolSize);
+		this.lifecycleExecutor = new OrderedExecutor(name + "-Lifecycle", poolSize);
 		this.ws = new WebSocketServer(new InetSocketAddress(port)) {
 
 			@Override
@@ -46,15 +88,17 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 				wsData.setWebsocket(ws);
 				ws.setAttachment(wsData);
 				JsonObject jHandshake = WebsocketUtils.handshakeToJsonObject(handshake);
-				CompletableFuture.runAsync(new OnOpenHandler(AbstractWebsocketServer.this, ws, jHandshake));
+				AbstractWebsocketServer.this.lifecycleExecutor.execute(ws,
+						new OnOpenHandler(AbstractWebsocketServer.this, ws, jHandshake));
 			}
 
 			@Override
 			public void onMessage(WebSocket ws, String stringMessage) {
+				AbstractWebsocketServer.this.logExecutorStatisticsIfDue();
 				try {
 					JsonrpcMessage message;
 					try {
-						message = JsonrpcMessage.from(stringMessage);
+						message = AbstractWebsocketServer.this.parseMessage(stringMessage);
 
 					} catch (OpenemsNamedException e) {
 						// handle deprecated non-JSON-RPC messages
@@ -62,18 +106,18 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 					}
 
 					if (message instanceof JsonrpcRequest) {
-						CompletableFuture.runAsync(new OnRequestHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcRequest) message, (response) -> {
+						AbstractWebsocketServer.this.requestExecutor.execute(ws, new OnRequestHandler(
+								AbstractWebsocketServer.this, ws, (JsonrpcRequest) message, (response) -> {
 									AbstractWebsocketServer.this.sendMessage(ws, response);
 								}));
 
 					} else if (message instanceof JsonrpcResponse) {
-						CompletableFuture.runAsync(
+						AbstractWebsocketServer.this.lifecycleExecutor.execute(ws,
 								new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
 
 					} else if (message instanceof JsonrpcNotification) {
-						CompletableFuture.runAsync(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcNotification) message));
+						AbstractWebsocketServer.this.notificationExecutor.execute(ws, new OnNotificationHandler(
+								AbstractWebsocketServer.this, ws, (JsonrpcNotification) message));
 
 					}
 				} catch (OpenemsNamedException e) {
@@ -86,13 +130,15 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 				if (ws == null) {
 					AbstractWebsocketServer.this.handleInternalErrorAsync(ex);
 				} else {
-					CompletableFuture.runAsync(new OnErrorHandler(AbstractWebsocketServer.this, ws, ex));
+					AbstractWebsocketServer.this.lifecycleExecutor.execute(ws,
+							new OnErrorHandler(AbstractWebsocketServer.this, ws, ex));
 				}
 			}
 
 			@Override
 			public void onClose(WebSocket ws, int code, String reason, boolean remote) {
-				CompletableFuture.runAsync(new OnCloseHandler(AbstractWebsocketServer.this, ws, code, reason, remote));
+				AbstractWebsocketServer.this.lifecycleExecutor.execute(ws,
+						new OnCloseHandler(AbstractWebsocketServer.this, ws, code, reason, remote));
 			}
 		};
 		// Allow the port to be reused. See
@@ -111,6 +157,42 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		};
 	};
 
+	/**
+	 * Gets the queue depth and handler latency of the executors.
+	 * 
+	 * <pre>
+	 * {
+	 *   [executor name]: {@link OrderedExecutor#toJson()}
+	 * }
+	 * </pre>
+	 * 
+	 * @return a {@link JsonObject}
+	 */
+	public JsonObject getExecutorStatistics() {
+		JsonObject result = new JsonObject();
+		for (OrderedExecutor executor : new OrderedExecutor[] { this.requestExecutor, this.notificationExecutor,
+				this.lifecycleExecutor }) {
+			result.add(executor.getName(), executor.toJson());
+		}
+		return result;
+	}
+
+	/**
+	 * Logs the {@link #getExecutorStatistics()} every
+	 * {@link #STATISTICS_INTERVAL} and resets the latency statistics.
+	 */
+	private void logExecutorStatisticsIfDue() {
+		long now = System.currentTimeMillis();
+		long last = this.lastStatisticsLog.get();
+		if (now - last < STATISTICS_INTERVAL || !this.lastStatisticsLog.compareAndSet(last, now)) {
+			return;
+		}
+		this.logInfo(this.log, "Executor statistics: " + this.getExecutorStatistics());
+		this.requestExecutor.getLatency().reset();
+		this.notificationExecutor.getLatency().reset();
+		this.lifecycleExecutor.getLatency().reset();
+	}
+
 	public Collection<WebSocket> getConnections() {
 		return this.ws.getConnections();
 	}
@@ -152,6 +234,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		while (tries-- > 0) {
 			try {
 				this.ws.stop();
+				this.shutdownExecutors();
 				return;
 			} catch (NullPointerException | InterruptedException | IOException e) {
 				this.log.warn("Unable to stop websocket server [" + this.getName() + "]. "
@@ -164,6 +247,25 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 			}
 		}
 		this.log.error("Stopping websocket server [" + this.getName() + "] failed too often.");
+		this.shutdownExecutors();
+	}
+
+	private void shutdownExecutors() {
+		this.requestExecutor.shutdown();
+		this.notificationExecutor.shutdown();
+		this.lifecycleExecutor.shutdown();
+	}
+
+	/**
+	 * Parses a received String to a {@link JsonrpcMessage}. Override this method
+	 * to decode specific messages more efficiently.
+	 * 
+	 * @param stringMessage the received String
+	 * @return the {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException on parse error
+	 */
+	protected JsonrpcMessage parseMessage(String stringMessage) throws OpenemsNamedException {
+		return JsonrpcMessage.from(stringMessage);
 	}
 
 	/**
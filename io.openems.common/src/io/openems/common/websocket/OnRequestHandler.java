@@ -1,6 +1,7 @@
 package io.openems.common.websocket;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 
@@ -14,6 +15,14 @@ import io.openems.common.jsonrpc.base.JsonrpcResponse;
 import io.openems.common.jsonrpc.base.JsonrpcResponseError;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 
+/**
+ * Handles a JSON-RPC Request.
+ * 
+ * <p>
+ * The handler does not wait for the response: the response callback is called
+ * when the {@link CompletableFuture} of the {@link OnRequest} completes, so a
+ * slow request does not block a thread of the executor.
+ */
 public class OnRequestHandler implements Runnable {
 
 	private final Logger log = LoggerFactory.getLogger(OnRequestHandler.class);
@@ -33,23 +42,35 @@ public class OnRequestHandler implements Runnable {
 
 	@Override
 	public final void run() {
-		JsonrpcResponse response;
+		CompletableFuture<? extends JsonrpcResponseSuccess> responseFuture;
 		try {
-			CompletableFuture<? extends JsonrpcResponseSuccess> responseFuture = this.parent.getOnRequest().run(this.ws,
-					this.request);
-			// Get success response
-			response = responseFuture.get();
+			responseFuture = this.parent.getOnRequest().run(this.ws, this.request);
 		} catch (OpenemsNamedException e) {
-			// Get Named Exception error response
-			this.parent.logWarn(this.log, "JSON-RPC Error Response: " + e.getMessage());
-			response = new JsonrpcResponseError(request.getId(), e);
-		} catch (ExecutionException | InterruptedException e) {
-			// Get GENERIC error response
-			this.parent.logWarn(this.log, "JSON-RPC Error Response: " + e.getMessage());
-			response = new JsonrpcResponseError(request.getId(), e.getMessage());
+			this.responseCallback.accept(this.toErrorResponse(e));
+			return;
 		}
 
-		responseCallback.accept(response);
+		responseFuture.whenComplete((response, ex) -> {
+			if (ex != null) {
+				this.responseCallback.accept(this.toErrorResponse(ex));
+			} else {
+				this.responseCallback.accept(response);
+			}
+		});
+	}
+
+	private JsonrpcResponseError toErrorResponse(Throwable ex) {
+		// Unwrap exception of the CompletableFuture
+		while ((ex instanceof CompletionException || ex instanceof ExecutionException) && ex.getCause() != null) {
+			ex = ex.getCause();
+		}
+		this.parent.logWarn(this.log, "JSON-RPC Error Response: " + ex.getMessage());
+		if (ex instanceof OpenemsNamedException) {
+			// Get Named Exception error response
+			return new JsonrpcResponseError(this.request.getId(), (OpenemsNamedException) ex);
+		}
+		// Get GENERIC error response
+		return new JsonrpcResponseError(this.request.getId(), ex.getMessage());
 	}
 
 }
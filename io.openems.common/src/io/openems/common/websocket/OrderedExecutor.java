@@ -0,0 +1,161 @@
+package io.openems.common.websocket;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.types.Histogram;
+
+/**
+ * A named thread pool that executes tasks with the same key - e.g. the same
+ * WebSocket connection - one after the other in the order they were added,
+ * while tasks of different keys are executed in parallel.
+ * 
+ * <p>
+ * Every key has its own serial sub-queue. After each task the sub-queue is
+ * scheduled again at the end of the pool queue, so a single busy key cannot
+ * occupy a thread while other keys are waiting.
+ */
+public class OrderedExecutor {
+
+	private final Logger log = LoggerFactory.getLogger(OrderedExecutor.class);
+	private final String name;
+	private final ExecutorService executor;
+	private final Map<Object, Deque<Runnable>> queues = new HashMap<>();
+
+	// Statistics
+	private final AtomicInteger queueDepth = new AtomicInteger(0);
+	private final Histogram latency = new Histogram();
+
+	public OrderedExecutor(String name, int poolSize) {
+		this.name = name;
+		AtomicInteger threadNumber = new AtomicInteger(0);
+		this.executor = Executors.newFixedThreadPool(Math.max(1, poolSize),
+				runnable -> new Thread(runnable, name + "-" + threadNumber.getAndIncrement()));
+	}
+
+	/**
+	 * Gets the name of this executor.
+	 * 
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Executes the task after all previously added tasks with the same key.
+	 * 
+	 * @param key  the key, e.g. the WebSocket
+	 * @param task the task
+	 */
+	public void execute(Object key, Runnable task) {
+		this.queueDepth.incrementAndGet();
+		synchronized (this.queues) {
+			Deque<Runnable> queue = this.queues.get(key);
+			if (queue != null) {
+				// sub-queue is already scheduled
+				queue.add(task);
+				return;
+			}
+			this.queues.put(key, new ArrayDeque<>());
+		}
+		this.schedule(key, task);
+	}
+
+	/**
+	 * Stops the executor. Queued tasks are discarded.
+	 */
+	public void shutdown() {
+		this.executor.shutdownNow();
+		synchronized (this.queues) {
+			this.queues.clear();
+		}
+	}
+
+	/**
+	 * Gets the number of tasks that are queued or being executed.
+	 * 
+	 * @return the queue depth
+	 */
+	public int getQueueDepth() {
+		return this.queueDepth.get();
+	}
+
+	/**
+	 * Gets the {@link Histogram} of the task execution times in [ms].
+	 * 
+	 * @return the {@link Histogram}
+	 */
+	public Histogram getLatency() {
+		return this.latency;
+	}
+
+	/**
+	 * Exports the queue depth and the latency statistics as JSON.
+	 * 
+	 * <pre>
+	 * {
+	 *   "queueDepth": number,
+	 *   "latency": {@link Histogram#toJson()}
+	 * }
+	 * </pre>
+	 * 
+	 * @return a {@link JsonObject}
+	 */
+	public JsonObject toJson() {
+		JsonObject result = new JsonObject();
+		result.addProperty("queueDepth", this.getQueueDepth());
+		result.add("latency", this.latency.toJson());
+		return result;
+	}
+
+	private void schedule(Object key, Runnable task) {
+		try {
+			this.executor.execute(() -> this.run(key, task));
+		} catch (RejectedExecutionException e) {
+			// executor was shut down
+			this.queueDepth.decrementAndGet();
+		}
+	}
+
+	private void run(Object key, Runnable task) {
+		long start = System.nanoTime();
+		try {
+			task.run();
+		} catch (Throwable t) {
+			this.log.warn("Error in [" + this.name + "]. " + t.getClass().getSimpleName() + ": " + t.getMessage());
+		} finally {
+			this.latency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+			this.queueDepth.decrementAndGet();
+		}
+
+		// schedule next task of this key
+		Runnable next;
+		synchronized (this.queues) {
+			Deque<Runnable> queue = this.queues.get(key);
+			if (queue == null) {
+				// executor was shut down
+				return;
+			}
+			next = queue.poll();
+			if (next == null) {
+				this.queues.remove(key);
+				return;
+			}
+		}
+		this.schedule(key, next);
+	}
+
+}
@@ -0,0 +1,121 @@
+package io.openems.common.websocket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Regularly sends the values of the subscribed Channels of all
+ * {@link SubscribedChannelsWorker}s of one Websocket component.
+ *
+ * <p>
+ * On every tick the active workers are grouped by
+ * {@link SubscribedChannelsWorker#getGroupKey()} and subscribed Channels, so
+ * that the {@link CurrentDataNotification} for one group is built and
+ * serialized only once and then sent to all Websockets of the group.
+ *
+ * <p>
+ * The Scheduler is owned by the Websocket component: create it on activate
+ * and call {@link #shutdown()} on deactivate.
+ */
+public class SubscribedChannelsScheduler {
+
+	/**
+	 * Number of threads of the scheduler.
+	 */
+	private final static int THREADS = 2;
+
+	private final Logger log = LoggerFactory.getLogger(SubscribedChannelsScheduler.class);
+
+	private final ScheduledThreadPoolExecutor executor;
+
+	/**
+	 * Holds all SubscribedChannelsWorkers with subscribed Channels.
+	 */
+	private final Set<SubscribedChannelsWorker> activeWorkers = ConcurrentHashMap.newKeySet();
+
+	public SubscribedChannelsScheduler() {
+		this(SubscribedChannelsWorker.UPDATE_INTERVAL_IN_SECONDS);
+	}
+
+	protected SubscribedChannelsScheduler(int updateIntervalInSeconds) {
+		AtomicInteger threadNumber = new AtomicInteger(0);
+		this.executor = new ScheduledThreadPoolExecutor(THREADS, runnable -> {
+			Thread thread = new Thread(runnable, "SubscribedChannelsScheduler-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor.setRemoveOnCancelPolicy(true);
+		this.executor.scheduleWithFixedDelay(this::sendAll, updateIntervalInSeconds, updateIntervalInSeconds,
+				TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Stops the Scheduler and forgets all workers.
+	 */
+	public void shutdown() {
+		this.executor.shutdownNow();
+		this.activeWorkers.clear();
+	}
+
+	/**
+	 * Registers a worker with subscribed Channels and sends its first data
+	 * immediately; afterwards with the next tick.
+	 *
+	 * @param worker the {@link SubscribedChannelsWorker}
+	 */
+	protected void add(SubscribedChannelsWorker worker) {
+		if (this.executor.isShutdown()) {
+			return;
+		}
+		this.activeWorkers.add(worker);
+		this.executor.execute(() -> {
+			worker.send(worker.getJsonRpcNotification(worker.getCurrentData(worker.getChannels())).toString());
+		});
+	}
+
+	/**
+	 * Unregisters a worker.
+	 *
+	 * @param worker the {@link SubscribedChannelsWorker}
+	 */
+	protected void remove(SubscribedChannelsWorker worker) {
+		this.activeWorkers.remove(worker);
+	}
+
+	/**
+	 * Sends the current data to all active workers. Called regularly by the
+	 * executor.
+	 */
+	protected void sendAll() {
+		Map<Object, Map<Set<ChannelAddress>, String>> messages = new HashMap<>();
+		for (SubscribedChannelsWorker worker : this.activeWorkers) {
+			try {
+				SortedSet<ChannelAddress> channels = worker.getChannels();
+				Map<Set<ChannelAddress>, String> groupMessages = messages.computeIfAbsent(worker.getGroupKey(),
+						key -> new HashMap<>());
+				String message = groupMessages.get(channels);
+				if (message == null) {
+					message = worker.getJsonRpcNotification(worker.getCurrentData(channels)).toString();
+					groupMessages.put(channels, message);
+				}
+				worker.send(message);
+
+			} catch (RuntimeException e) {
+				this.log.warn(
+						"Unable to send SubscribedChannels: " + e.getClass().getSimpleName() + ": " + e.getMessage());
+			}
+		}
+	}
+}
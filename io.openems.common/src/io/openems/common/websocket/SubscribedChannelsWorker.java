@@ -1,58 +1,56 @@
 package io.openems.common.websocket;
 
-import java.util.Optional;
+import java.util.Collections;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
 
-import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.notification.CurrentDataNotification;
 import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
 import io.openems.common.session.Role;
 import io.openems.common.types.ChannelAddress;
 
+/**
+ * Sends the values of the subscribed Channels regularly to a Websocket.
+ *
+ * <p>
+ * The worker does not hold a thread of its own; while Channels are subscribed
+ * it is registered with the {@link SubscribedChannelsScheduler} of its
+ * Websocket component.
+ */
 public abstract class SubscribedChannelsWorker {
 
 	protected final static int UPDATE_INTERVAL_IN_SECONDS = 2;
 
-	private final Logger log = LoggerFactory.getLogger(SubscribedChannelsWorker.class);
+	private final static Logger LOG = LoggerFactory.getLogger(SubscribedChannelsWorker.class);
 
-	/**
-	 * Executor for subscriptions task
-	 */
-	private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1);
+	private final SubscribedChannelsScheduler scheduler;
 
 	/**
-	 * Holds subscribed channels
+	 * Holds subscribed channels; replaced on every change.
 	 */
-	private final TreeSet<ChannelAddress> channels = new TreeSet<>();
-
-	/**
-	 * Holds the scheduled task for currentData
-	 */
-	private Optional<ScheduledFuture<?>> futureOpt = Optional.empty();
+	private volatile SortedSet<ChannelAddress> channels = Collections.emptySortedSet();
 
 	protected final WsData wsData;
 
 	private int lastRequestCount = Integer.MIN_VALUE;
 
-	public SubscribedChannelsWorker(WsData wsData) {
+	public SubscribedChannelsWorker(SubscribedChannelsScheduler scheduler, WsData wsData) {
+		this.scheduler = scheduler;
 		this.wsData = wsData;
 	}
 
 	/**
 	 * Applies a SubscribeChannelsRequest.
-	 * 
+	 *
 	 * @param role    the Role - no specific level required
 	 * @param request the SubscribeChannelsRequest
 	 */
@@ -65,60 +63,74 @@ public abstract class SubscribedChannelsWorker {
 
 	/**
 	 * Sets the subscribed Channels.
-	 * 
+	 *
 	 * @param channels Set of ChannelAddresses
 	 */
 	private synchronized void setChannels(Set<ChannelAddress> channels) {
-		// stop current thread
-		if (this.futureOpt.isPresent()) {
-			this.futureOpt.get().cancel(true);
-			this.futureOpt = Optional.empty();
-		}
+		this.channels = Collections.unmodifiableSortedSet(new TreeSet<>(channels));
+
+		if (channels.isEmpty()) {
+			this.scheduler.remove(this);
 
-		// clear existing channels
-		this.channels.clear();
-
-		// set new channels
-		this.channels.addAll(channels);
-
-		if (!channels.isEmpty()) {
-			// registered channels -> create new thread
-			this.futureOpt = Optional.of(this.executor.scheduleWithFixedDelay(() -> {
-				/*
-				 * This task is executed regularly. Sends data to Websocket.
-				 */
-				WebSocket ws = this.wsData.getWebsocket();
-				if (ws == null || !ws.isOpen()) {
-					// disconnected; stop worker
-					this.dispose();
-					return;
-				}
-
-				try {
-					this.wsData.send(this.getJsonRpcNotification(this.getCurrentData()));
-				} catch (OpenemsException e) {
-					this.log.warn("Unable to send SubscribedChannels: " + e.getMessage());
-				}
-
-			}, 0, UPDATE_INTERVAL_IN_SECONDS, TimeUnit.SECONDS));
+		} else {
+			this.scheduler.add(this);
 		}
 	}
 
+	/**
+	 * Gets the subscribed Channels.
+	 *
+	 * @return an unmodifiable Set of ChannelAddresses
+	 */
+	protected SortedSet<ChannelAddress> getChannels() {
+		return this.channels;
+	}
+
 	public void dispose() {
 		// unsubscribe regular task
-		if (this.futureOpt.isPresent()) {
-			futureOpt.get().cancel(true);
+		this.scheduler.remove(this);
+	}
+
+	/**
+	 * Gets the key for grouping workers whose {@link CurrentDataNotification}s
+	 * are equal for equal subscribed Channels, e.g. the Edge-ID. Defaults to this
+	 * worker, i.e. no grouping.
+	 *
+	 * @return the group key
+	 */
+	protected Object getGroupKey() {
+		return this;
+	}
+
+	/**
+	 * Sends the serialized Notification to the Websocket. Disposes the worker if
+	 * the Websocket is disconnected.
+	 *
+	 * @param message the serialized {@link JsonrpcNotification}
+	 */
+	protected void send(String message) {
+		WebSocket ws = this.wsData.getWebsocket();
+		if (ws == null || !ws.isOpen()) {
+			// disconnected; stop worker
+			this.dispose();
+			return;
+		}
+		try {
+			ws.send(message);
+		} catch (WebsocketNotConnectedException e) {
+			LOG.warn("Unable to send SubscribedChannels: Websocket is not connected: " + e.getMessage());
 		}
 	}
 
 	/**
 	 * Gets a JSON-RPC Notification with all subscribed channels data
 	 *
-	 * @return
+	 * @param channels the subscribed Channels
+	 * @return the {@link CurrentDataNotification}
 	 */
-	private CurrentDataNotification getCurrentData() {
+	protected CurrentDataNotification getCurrentData(Set<ChannelAddress> channels) {
 		CurrentDataNotification result = new CurrentDataNotification();
-		for (ChannelAddress channel : this.channels) {
+		for (ChannelAddress channel : channels) {
 			JsonElement value = this.getChannelValue(channel);
 			result.add(channel, value);
 		}
@@ -0,0 +1,41 @@
+package io.openems.common.jsonrpc.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.types.ChannelAddress;
+
+public class TimestampedDataNotificationTest {
+
+	@Test
+	public void testFromString() throws OpenemsNamedException {
+		TimestampedDataNotification expected = new TimestampedDataNotification();
+		expected.add(1000L, new ChannelAddress("ess0", "Soc"), new JsonPrimitive(50));
+		expected.add(1000L, new ChannelAddress("_meta", "Version"), new JsonPrimitive("2020.10.0"));
+		expected.add(2000L, new ChannelAddress("meter0", "ActivePower"), JsonNull.INSTANCE);
+		String json = expected.toString();
+
+		TimestampedDataNotification streamed = TimestampedDataNotification.fromString(json);
+		TimestampedDataNotification parsed = TimestampedDataNotification
+				.from((GenericJsonrpcNotification) JsonrpcMessage.from(json));
+		assertEquals(parsed.getData(), streamed.getData());
+		assertEquals(expected.getParams(), streamed.getParams());
+	}
+
+	@Test
+	public void testFromStringOtherMessage() throws OpenemsNamedException {
+		assertNull(TimestampedDataNotification
+				.fromString("{\"jsonrpc\":\"2.0\",\"method\":\"systemLog\",\"params\":{}}"));
+		assertNull(TimestampedDataNotification
+				.fromString("{\"jsonrpc\":\"2.0\",\"id\":\"x\",\"method\":\"timestampedData\",\"params\":{}}"));
+	}
+
+}
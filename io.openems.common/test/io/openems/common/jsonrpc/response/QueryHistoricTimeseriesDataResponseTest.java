@@ -0,0 +1,60 @@
+package io.openems.common.jsonrpc.response;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+
+public class QueryHistoricTimeseriesDataResponseTest {
+
+	private static final ChannelAddress SOC = new ChannelAddress("ess0", "Soc");
+	private static final ChannelAddress STATE = new ChannelAddress("ess0", "State");
+	private static final ChannelAddress GRID = new ChannelAddress("meter0", "ActivePower");
+
+	@Test
+	public void testToString() {
+		ZonedDateTime start = ZonedDateTime.of(2020, 07, 01, 0, 0, 0, 0, ZoneId.of("UTC"));
+		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
+
+		SortedMap<ChannelAddress, JsonElement> row0 = new TreeMap<>();
+		row0.put(SOC, new JsonPrimitive(50));
+		row0.put(GRID, JsonNull.INSTANCE);
+		table.put(start, row0);
+
+		SortedMap<ChannelAddress, JsonElement> row1 = new TreeMap<>();
+		row1.put(SOC, new JsonPrimitive(51.5));
+		row1.put(STATE, new JsonPrimitive("Ok"));
+		row1.put(GRID, new JsonPrimitive(-1200));
+		table.put(start.plusMinutes(5), row1);
+
+		QueryHistoricTimeseriesDataResponse response = new QueryHistoricTimeseriesDataResponse(UUID.randomUUID(),
+				table);
+
+		// streamed serialization matches the JsonObject
+		assertEquals(response.toJsonObject().toString(), response.toString());
+
+		// also when wrapped, e.g. for the UI
+		EdgeRpcResponse edgeRpcResponse = new EdgeRpcResponse(UUID.randomUUID(), response);
+		assertEquals(edgeRpcResponse.toJsonObject().toString(), edgeRpcResponse.toString());
+	}
+
+	@Test
+	public void testEmpty() {
+		QueryHistoricTimeseriesDataResponse response = new QueryHistoricTimeseriesDataResponse(UUID.randomUUID(),
+				new TreeMap<>());
+
+		assertEquals(response.toJsonObject().toString(), response.toString());
+	}
+
+}
@@ -0,0 +1,59 @@
+package io.openems.common.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+
+public class ChannelAddressTest {
+
+	@Test
+	public void testFromString() throws OpenemsNamedException {
+		ChannelAddress address = new ChannelAddress("ess0", "ActivePower");
+		assertEquals(address, ChannelAddress.fromString("ess0/ActivePower"));
+		assertEquals(address, ChannelAddress.fromString("ess0/ActivePower/ignored"));
+		assertNotEquals(address, ChannelAddress.fromString("ess1/ActivePower"));
+
+		for (String invalid : new String[] { "ess0", "ess0/", "ess0//ActivePower" }) {
+			try {
+				ChannelAddress.fromString(invalid);
+				fail("Expected exception for [" + invalid + "]");
+			} catch (OpenemsNamedException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testEqualsAndHashCode() {
+		ChannelAddress address = new ChannelAddress("ess0", "ActivePower");
+		assertEquals(new ChannelAddress("ess0", "ActivePower"), address);
+		assertEquals("ess0/ActivePower".hashCode(), address.hashCode());
+		assertEquals("ess0/ActivePower", address.toString());
+
+		// like the String representation, null is allowed
+		ChannelAddress nullAddress = new ChannelAddress(null, "ActivePower");
+		assertEquals("null/ActivePower".hashCode(), nullAddress.hashCode());
+		assertEquals(new ChannelAddress(null, "ActivePower"), nullAddress);
+	}
+
+	@Test
+	public void testCompareTo() {
+		String[][] ids = { { "ess0", "ActivePower" }, { "ess0", "ActivePowerL1" }, { "ess0-a", "Soc" },
+				{ "ess01", "Soc" }, { "ess0", "Soc" }, { "meter0", "ActivePower" } };
+		for (String[] a : ids) {
+			for (String[] b : ids) {
+				int expected = Integer.signum((a[0] + "/" + a[1]).compareTo(b[0] + "/" + b[1]));
+				int actual = Integer
+						.signum(new ChannelAddress(a[0], a[1]).compareTo(new ChannelAddress(b[0], b[1])));
+				assertEquals(expected, actual);
+			}
+		}
+		assertTrue(new ChannelAddress("ess0", "Soc").compareTo(new ChannelAddress("ess0", "Soc")) == 0);
+	}
+
+}
@@ -0,0 +1,92 @@
+package io.openems.common.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.Level;
+import io.openems.common.channel.Unit;
+import io.openems.common.types.EdgeConfig.Component;
+import io.openems.common.types.EdgeConfig.Component.Channel;
+import io.openems.common.types.EdgeConfig.Component.Channel.ChannelDetailOpenemsType;
+import io.openems.common.types.EdgeConfig.Component.Channel.ChannelDetailState;
+
+public class EdgeConfigTest {
+
+	private static Component createComponent(String id, String factoryId) {
+		TreeMap<String, Channel> channels = new TreeMap<>();
+		channels.put("ActivePower", new Channel("ActivePower", OpenemsType.INTEGER, AccessMode.READ_ONLY, "",
+				Unit.WATT, new ChannelDetailOpenemsType()));
+		channels.put("Fault", new Channel("Fault", OpenemsType.BOOLEAN, AccessMode.READ_ONLY, "", Unit.NONE,
+				new ChannelDetailState(Level.FAULT)));
+		return new Component("pid", id, id, factoryId, new TreeMap<String, JsonElement>(), channels);
+	}
+
+	@Test
+	public void testStateChannels() {
+		EdgeConfig config = new EdgeConfig();
+		config.addComponent("ess0", createComponent("ess0", "Ess.Factory"));
+
+		assertTrue(config.isStateChannel(new ChannelAddress("ess0", "Fault")));
+		assertFalse(config.isStateChannel(new ChannelAddress("ess0", "ActivePower")));
+		assertFalse(config.isStateChannel(new ChannelAddress("ess1", "Fault")));
+		assertEquals("Fault", config.getStateChannel(new ChannelAddress("ess0", "Fault")).get().getId());
+
+		Component component = config.getComponent("ess0").get();
+		assertEquals(1, component.getStateChannels(Level.FAULT).size());
+		assertTrue(component.getStateChannels(Level.WARNING).isEmpty());
+
+		// index is updated on change
+		component.setChannels(new TreeMap<>());
+		assertFalse(config.isStateChannel(new ChannelAddress("ess0", "Fault")));
+	}
+
+	@Test
+	public void testComponentIndexes() {
+		EdgeConfig config = new EdgeConfig();
+		config.addFactory("Ess.Factory", new EdgeConfig.Factory("Ess.Factory", "", "", new EdgeConfig.Factory.Property[0],
+				new String[] { "io.openems.edge.ess.api.SymmetricEss" }));
+		config.addComponent("ess0", createComponent("ess0", "Ess.Factory"));
+		config.addComponent("ess1", createComponent("ess1", "Ess.Factory"));
+		config.addComponent("meter0", createComponent("meter0", "Meter.Factory"));
+
+		assertEquals(2, config.getComponentsByFactory("Ess.Factory").size());
+		assertEquals(1, config.getComponentIdsByFactory("Meter.Factory").size());
+		assertTrue(config.getComponentsByFactory("Foo.Factory").isEmpty());
+		assertEquals(2, config.getComponentsImplementingNature("io.openems.edge.ess.api.SymmetricEss").size());
+
+		// index is rebuilt on change
+		config.removeComponent("ess1");
+		assertEquals(1, config.getComponentsImplementingNature("io.openems.edge.ess.api.SymmetricEss").size());
+		config.addFactory("Meter.Factory", new EdgeConfig.Factory("Meter.Factory", "", "",
+				new EdgeConfig.Factory.Property[0], new String[] { "io.openems.edge.meter.api.SymmetricMeter" }));
+		assertEquals(1, config.getComponentsImplementingNature("io.openems.edge.meter.api.SymmetricMeter").size());
+		config.addComponent("meter1", createComponent("meter1", "Meter.Factory"));
+		assertEquals(2, config.getComponentsImplementingNature("io.openems.edge.meter.api.SymmetricMeter").size());
+		assertEquals(2, config.getComponentIdsByFactory("Meter.Factory").size());
+
+		// the maps can not be modified without updating the index
+		try {
+			config.getComponents().remove("meter1");
+			fail("Expected UnsupportedOperationException");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		try {
+			config.getFactories().clear();
+			fail("Expected UnsupportedOperationException");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		assertEquals(2, config.getComponentIdsByFactory("Meter.Factory").size());
+	}
+
+}
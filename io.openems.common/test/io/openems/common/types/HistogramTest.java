@@ -0,0 +1,43 @@
+package io.openems.common.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HistogramTest {
+
+	@Test
+	public void testIndex() {
+		for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 33, 1000, 123_456_789L, Long.MAX_VALUE }) {
+			int index = Histogram.indexOf(value);
+			assertTrue(value <= Histogram.highestValueOf(index));
+			if (index > 0) {
+				assertTrue(value > Histogram.highestValueOf(index - 1));
+			}
+		}
+	}
+
+	@Test
+	public void testPercentile() {
+		Histogram h = new Histogram();
+		assertEquals(0, h.getPercentile(50));
+
+		for (int i = 1; i <= 1000; i++) {
+			h.record(i);
+		}
+		assertEquals(1000, h.getCount());
+		assertEquals(1000, h.getMax());
+		assertEquals(500, h.getMean());
+
+		// relative error is below 6.25 %
+		assertEquals(500, h.getPercentile(50), 500 * 0.0625);
+		assertEquals(990, h.getPercentile(99), 990 * 0.0625);
+		assertEquals(1000, h.getPercentile(100));
+
+		h.reset();
+		assertEquals(0, h.getCount());
+		assertEquals(0, h.getMax());
+	}
+
+}
@@ -0,0 +1,157 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.java_websocket.WebSocket;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
+import io.openems.common.session.Role;
+import io.openems.common.types.ChannelAddress;
+
+public class SubscribedChannelsSchedulerTest {
+
+	private static class TestWsData extends WsData {
+
+		private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+
+		public TestWsData() {
+			this.setWebsocket((WebSocket) Proxy.newProxyInstance(WebSocket.class.getClassLoader(),
+					new Class<?>[] { WebSocket.class }, (proxy, method, args) -> {
+						switch (method.getName()) {
+						case "isOpen":
+							return true;
+						case "send":
+							this.messages.add((String) args[0]);
+							return null;
+						default:
+							throw new UnsupportedOperationException(method.getName());
+						}
+					}));
+		}
+
+		@Override
+		public String toString() {
+			return "TestWsData";
+		}
+	}
+
+	private static class TestWorker extends SubscribedChannelsWorker {
+
+		private final String groupKey;
+		private final AtomicInteger notifications;
+
+		public TestWorker(SubscribedChannelsScheduler scheduler, String groupKey, AtomicInteger notifications) {
+			super(scheduler, new TestWsData());
+			this.groupKey = groupKey;
+			this.notifications = notifications;
+		}
+
+		@Override
+		protected Object getGroupKey() {
+			return this.groupKey;
+		}
+
+		@Override
+		protected JsonElement getChannelValue(ChannelAddress channelAddress) {
+			return new JsonPrimitive(this.groupKey);
+		}
+
+		@Override
+		protected JsonrpcNotification getJsonRpcNotification(CurrentDataNotification currentData) {
+			this.notifications.incrementAndGet();
+			return currentData;
+		}
+
+		private BlockingQueue<String> getMessages() {
+			return ((TestWsData) this.wsData).messages;
+		}
+
+		private void subscribe(int count, ChannelAddress... channels) {
+			SubscribeChannelsRequest request = new SubscribeChannelsRequest(count);
+			for (ChannelAddress channel : channels) {
+				request.getChannels().add(channel);
+			}
+			this.handleSubscribeChannelsRequest(Role.GUEST, request);
+		}
+	}
+
+	private static final ChannelAddress X_Y = new ChannelAddress("x", "y");
+	private static final ChannelAddress X_Z = new ChannelAddress("x", "z");
+
+	@Test
+	public void testGroupByGroupKey() throws InterruptedException {
+		SubscribedChannelsScheduler scheduler = new SubscribedChannelsScheduler(3600);
+		try {
+			AtomicInteger notifications = new AtomicInteger();
+			TestWorker a1 = new TestWorker(scheduler, "A", notifications);
+			TestWorker a2 = new TestWorker(scheduler, "A", notifications);
+			TestWorker a3 = new TestWorker(scheduler, "A", notifications);
+			TestWorker b1 = new TestWorker(scheduler, "B", notifications);
+			a1.subscribe(0, X_Y);
+			a2.subscribe(0, X_Y);
+			a3.subscribe(0, X_Z);
+			b1.subscribe(0, X_Y);
+
+			// first data is sent immediately
+			for (TestWorker worker : new TestWorker[] { a1, a2, a3, b1 }) {
+				assertNotNull(worker.getMessages().poll(5, TimeUnit.SECONDS));
+			}
+
+			// one Notification per group key and subscribed Channels
+			notifications.set(0);
+			scheduler.sendAll();
+			assertEquals(3, notifications.get());
+			String a1Message = a1.getMessages().poll();
+			assertEquals(a1Message, a2.getMessages().poll());
+			assertNotEquals(a1Message, a3.getMessages().poll());
+			assertNotEquals(a1Message, b1.getMessages().poll());
+
+			// disposed and unsubscribed workers are not served anymore
+			a2.dispose();
+			a3.subscribe(1);
+			a3.subscribe(0, X_Z); // outdated request is ignored
+			scheduler.sendAll();
+			assertNotNull(a1.getMessages().poll());
+			assertNull(a2.getMessages().poll());
+			assertNull(a3.getMessages().poll());
+			assertNotNull(b1.getMessages().poll());
+
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	public void testShutdown() throws InterruptedException {
+		SubscribedChannelsScheduler scheduler = new SubscribedChannelsScheduler(3600);
+		AtomicInteger notifications = new AtomicInteger();
+		TestWorker a1 = new TestWorker(scheduler, "A", notifications);
+		a1.subscribe(0, X_Y);
+		assertNotNull(a1.getMessages().poll(5, TimeUnit.SECONDS));
+
+		scheduler.shutdown();
+		scheduler.sendAll();
+		assertNull(a1.getMessages().poll());
+
+		// subscribing after shutdown is ignored
+		TestWorker a2 = new TestWorker(scheduler, "A", notifications);
+		a2.subscribe(0, X_Y);
+		scheduler.sendAll();
+		assertNull(a2.getMessages().poll(100, TimeUnit.MILLISECONDS));
+	}
+}
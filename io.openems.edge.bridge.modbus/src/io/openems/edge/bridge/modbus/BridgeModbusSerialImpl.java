@@ -21,6 +21,7 @@ import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusSerial;
 import io.openems.edge.bridge.modbus.api.Parity;
 import io.openems.edge.bridge.modbus.api.Stopbit;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskPlanner;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
@@ -94,7 +95,10 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 	@Activate
 	void activate(ComponentContext context, ConfigSerial config) {
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.deadlineConfidence(),
+				config.mergeReadTasks()
+						? new ReadTaskPlanner(config.mergeReadTasksMaxGap(), config.mergeReadTasksMaxLength())
+						: null);
 		this.portName = config.portName();
 		this.baudrate = config.baudRate();
 		this.databits = config.databits();
@@ -20,6 +20,7 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskPlanner;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
@@ -45,6 +46,11 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	private InetAddress ipAddress = null;
 	private int port;
 
+	/**
+	 * One connection per parallel lane of the ModbusWorker.
+	 */
+	private TCPMasterConnection[] connections = new TCPMasterConnection[1];
+
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		;
 		private final Doc doc;
@@ -69,8 +75,12 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 
 	@Activate
 	protected void activate(ComponentContext context, ConfigTcp config) throws UnknownHostException {
+		this.connections = new TCPMasterConnection[Math.max(1, config.connections())];
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.deadlineConfidence(),
+				config.mergeReadTasks()
+						? new ReadTaskPlanner(config.mergeReadTasksMaxGap(), config.mergeReadTasksMaxLength())
+						: null);
 		this.setIpAddress(InetAddress.getByName(config.ip()));
 		this.port = config.port();
 	}
@@ -78,13 +88,27 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		synchronized (this) {
+			for (int i = 0; i < this.connections.length; i++) {
+				this.closeModbusConnection(i);
+			}
+		}
+	}
+
+	@Override
+	protected int getNoOfConnections() {
+		return this.connections.length;
 	}
 
 	@Override
-	public void closeModbusConnection() {
-		if (this._connection != null) {
-			this._connection.close();
-			this._connection = null;
+	public synchronized void closeModbusConnection() {
+		this.closeModbusConnection(this.getConnectionIndex());
+	}
+
+	private void closeModbusConnection(int index) {
+		if (this.connections[index] != null) {
+			this.connections[index].close();
+			this.connections[index] = null;
 		}
 	}
 
@@ -96,27 +120,42 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		return transaction;
 	}
 
-	private TCPMasterConnection _connection = null;
-
-	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
-		if (this._connection == null) {
-			/*
-			 * create new connection
-			 */
-			TCPMasterConnection connection = new TCPMasterConnection(this.getIpAddress());
-			connection.setPort(this.port);
-			this._connection = connection;
+	private TCPMasterConnection getModbusConnection() throws OpenemsException {
+		int index = this.getConnectionIndex();
+		TCPMasterConnection connection;
+		synchronized (this) {
+			connection = this.connections[index];
+			if (connection == null) {
+				/*
+				 * create new connection
+				 */
+				connection = new TCPMasterConnection(this.getIpAddress());
+				connection.setPort(this.port);
+				this.connections[index] = connection;
+			}
 		}
-		if (!this._connection.isConnected()) {
+		// Connections are only used by the thread of their lane; no need to
+		// block the other lanes while connecting
+		if (!connection.isConnected()) {
 			try {
-				this._connection.connect();
+				connection.connect();
 			} catch (Exception e) {
 				throw new OpenemsException(
 						"Connection to [" + this.getIpAddress().getHostAddress() + "] failed: " + e.getMessage());
 			}
-			this._connection.getModbusTransport().setTimeout(AbstractModbusBridge.DEFAULT_TIMEOUT);
+			connection.getModbusTransport().setTimeout(AbstractModbusBridge.DEFAULT_TIMEOUT);
 		}
-		return this._connection;
+		return connection;
+	}
+
+	/**
+	 * Gets the index of the connection of the current thread, limited to the
+	 * configured number of connections.
+	 * 
+	 * @return the index
+	 */
+	private int getConnectionIndex() {
+		return Math.floorMod(this.getCurrentConnectionIndex(), this.connections.length);
 	}
 
 	public InetAddress getIpAddress() {
@@ -3,7 +3,9 @@ package io.openems.edge.bridge.modbus;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskPlanner;
 import io.openems.edge.bridge.modbus.api.Parity;
 import io.openems.edge.bridge.modbus.api.Stopbit;
 
@@ -42,5 +44,17 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Deadline confidence [%]", description = "Confidence that the high priority reads finish within one Cycle, based on the learned execution durations. Increase this value if reads regularly miss their deadline.")
+	int deadlineConfidence() default AbstractModbusBridge.DEFAULT_DEADLINE_CONFIDENCE;
+
+	@AttributeDefinition(name = "Merge read tasks?", description = "Merges adjacent read tasks of a device with the same function code and priority into one Modbus request.")
+	boolean mergeReadTasks() default false;
+
+	@AttributeDefinition(name = "Merge read tasks: maximum gap", description = "Maximum number of unused registers between two merged read tasks. The gap is read, but ignored.")
+	int mergeReadTasksMaxGap() default 0;
+
+	@AttributeDefinition(name = "Merge read tasks: maximum length", description = "Maximum number of registers of one merged read request; at most 125.")
+	int mergeReadTasksMaxLength() default ReadTaskPlanner.DEFAULT_MAX_LENGTH;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
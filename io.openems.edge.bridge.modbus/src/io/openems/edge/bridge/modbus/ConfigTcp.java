@@ -5,7 +5,9 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
 import com.ghgande.j2mod.modbus.Modbus;
 
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskPlanner;
 
 @ObjectClassDefinition(//
 		name = "Bridge Modbus/TCP", //
@@ -27,11 +29,26 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Port", description = "The port of the Modbus/TCP device.")
 	int port() default Modbus.DEFAULT_PORT;
 
+	@AttributeDefinition(name = "Connections", description = "Number of parallel connections. With more than one connection, requests to different Unit-IDs are executed in parallel, e.g. for gateways with many slaves.")
+	int connections() default 1;
+
 	@AttributeDefinition(name = "Log-Verbosity", description = "The log verbosity.")
 	LogVerbosity logVerbosity() default LogVerbosity.NONE;
 
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Deadline confidence [%]", description = "Confidence that the high priority reads finish within one Cycle, based on the learned execution durations. Increase this value if reads regularly miss their deadline.")
+	int deadlineConfidence() default AbstractModbusBridge.DEFAULT_DEADLINE_CONFIDENCE;
+
+	@AttributeDefinition(name = "Merge read tasks?", description = "Merges adjacent read tasks of a device with the same function code and priority into one Modbus request.")
+	boolean mergeReadTasks() default false;
+
+	@AttributeDefinition(name = "Merge read tasks: maximum gap", description = "Maximum number of unused registers between two merged read tasks. The gap is read, but ignored.")
+	int mergeReadTasksMaxGap() default 0;
+
+	@AttributeDefinition(name = "Merge read tasks: maximum length", description = "Maximum number of registers of one merged read request; at most 125.")
+	int mergeReadTasksMaxLength() default ReadTaskPlanner.DEFAULT_MAX_LENGTH;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/TCP [{id}]";
 }
\ No newline at end of file
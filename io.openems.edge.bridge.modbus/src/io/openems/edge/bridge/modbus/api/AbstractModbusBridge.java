@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskPlanner;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 
@@ -32,23 +33,37 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	protected static final int DEFAULT_RETRIES = 1;
 
+	/**
+	 * Default confidence in [%] for finishing the HIGH priority ReadTasks within
+	 * a Cycle.
+	 */
+	public static final int DEFAULT_DEADLINE_CONFIDENCE = 95;
+
 	private LogVerbosity logVerbosity = LogVerbosity.NONE;
 	private int invalidateElementsAfterReadErrors = 1;
+	private int deadlineConfidence = DEFAULT_DEADLINE_CONFIDENCE;
+	private ReadTaskPlanner readTaskPlanner = null;
 
 	// private final Logger log =
 	// LoggerFactory.getLogger(AbstractModbusBridge.class);
 	private final ModbusWorker worker = new ModbusWorker(this);
 
+	// Index of the connection that is used by the current thread
+	private final ThreadLocal<Integer> currentConnectionIndex = ThreadLocal.withInitial(() -> 0);
+
 	protected AbstractModbusBridge(io.openems.edge.common.channel.ChannelId[] firstInitialChannelIds,
 			io.openems.edge.common.channel.ChannelId[]... furtherInitialChannelIds) {
 		super(firstInitialChannelIds, furtherInitialChannelIds);
 	}
 
 	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
-			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int deadlineConfidence,
+			ReadTaskPlanner readTaskPlanner) {
 		super.activate(context, id, alias, enabled);
 		this.logVerbosity = logVerbosity;
 		this.invalidateElementsAfterReadErrors = invalidateElementsAfterReadErrors;
+		this.deadlineConfidence = deadlineConfidence;
+		this.readTaskPlanner = readTaskPlanner;
 		if (this.isEnabled()) {
 			this.worker.activate(id);
 		}
@@ -107,6 +122,36 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	public abstract void closeModbusConnection();
 
+	/**
+	 * Gets the number of connections that can be used in parallel. If this is
+	 * more than one, the {@link ModbusWorker} executes the Tasks of different
+	 * Unit-IDs in parallel and sets the index of the connection for each
+	 * executing thread.
+	 * 
+	 * @return the number of connections
+	 */
+	protected int getNoOfConnections() {
+		return 1;
+	}
+
+	/**
+	 * Gets the index of the connection that should be used by the current thread.
+	 * 
+	 * @return the index in the range [0, {@link #getNoOfConnections()})
+	 */
+	protected int getCurrentConnectionIndex() {
+		return this.currentConnectionIndex.get();
+	}
+
+	/**
+	 * Sets the index of the connection that should be used by the current thread.
+	 * 
+	 * @param index the index
+	 */
+	void setCurrentConnectionIndex(int index) {
+		this.currentConnectionIndex.set(index);
+	}
+
 	public LogVerbosity getLogVerbosity() {
 		return logVerbosity;
 	}
@@ -134,4 +179,24 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	public int invalidateElementsAfterReadErrors() {
 		return this.invalidateElementsAfterReadErrors;
 	}
+
+	/**
+	 * Gets the confidence in [%] for finishing the HIGH priority ReadTasks within
+	 * a Cycle.
+	 * 
+	 * @return value
+	 */
+	public int getDeadlineConfidence() {
+		return this.deadlineConfidence;
+	}
+
+	/**
+	 * Gets the {@link ReadTaskPlanner} that merges the ReadTasks of every added
+	 * {@link ModbusProtocol}.
+	 * 
+	 * @return the {@link ReadTaskPlanner}; null if merging is disabled
+	 */
+	public ReadTaskPlanner getReadTaskPlanner() {
+		return this.readTaskPlanner;
+	}
 }
@@ -7,6 +7,7 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -21,7 +22,24 @@ public interface BridgeModbus extends OpenemsComponent {
 		CYCLE_TIME_IS_TOO_SHORT(Doc.of(Level.WARNING) //
 				.debounce(10, Debounce.TRUE_VALUES_IN_A_ROW_TO_SET_TRUE)), //
 		EXECUTION_DURATION(Doc.of(OpenemsType.LONG) //
-				.unit(Unit.MILLISECONDS));
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Estimated execution duration of the planned Tasks including the safety
+		 * margin for the configured deadline confidence.
+		 */
+		ESTIMATED_EXECUTION_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Number of LOW priority ReadTasks planned for the current Cycle.
+		 */
+		PLANNED_LOW_PRIORITY_TASKS(Doc.of(OpenemsType.INTEGER)), //
+		/**
+		 * Number of Tasks that missed their deadline in the current Cycle, i.e. HIGH
+		 * priority ReadTasks that were not finished before the next
+		 * BEFORE_PROCESS_IMAGE event or LOW priority ReadTasks that were planned too
+		 * late.
+		 */
+		MISSED_DEADLINES(Doc.of(OpenemsType.INTEGER));
 
 		private final Doc doc;
 
@@ -122,6 +140,90 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getExecutionDurationChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#ESTIMATED_EXECUTION_DURATION}.
+	 * 
+	 * @return the Channel
+	 */
+	public default LongReadChannel getEstimatedExecutionDurationChannel() {
+		return this.channel(ChannelId.ESTIMATED_EXECUTION_DURATION);
+	}
+
+	/**
+	 * Gets the Estimated Execution Duration in [ms], see {@link ChannelId#ESTIMATED_EXECUTION_DURATION}.
+	 * 
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getEstimatedExecutionDuration() {
+		return this.getEstimatedExecutionDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#ESTIMATED_EXECUTION_DURATION}
+	 * Channel.
+	 * 
+	 * @param value the next value
+	 */
+	public default void _setEstimatedExecutionDuration(long value) {
+		this.getEstimatedExecutionDurationChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PLANNED_LOW_PRIORITY_TASKS}.
+	 * 
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getPlannedLowPriorityTasksChannel() {
+		return this.channel(ChannelId.PLANNED_LOW_PRIORITY_TASKS);
+	}
+
+	/**
+	 * Gets the number of Planned Low Priority Tasks, see {@link ChannelId#PLANNED_LOW_PRIORITY_TASKS}.
+	 * 
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getPlannedLowPriorityTasks() {
+		return this.getPlannedLowPriorityTasksChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#PLANNED_LOW_PRIORITY_TASKS}
+	 * Channel.
+	 * 
+	 * @param value the next value
+	 */
+	public default void _setPlannedLowPriorityTasks(int value) {
+		this.getPlannedLowPriorityTasksChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MISSED_DEADLINES}.
+	 * 
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getMissedDeadlinesChannel() {
+		return this.channel(ChannelId.MISSED_DEADLINES);
+	}
+
+	/**
+	 * Gets the number of Missed Deadlines, see {@link ChannelId#MISSED_DEADLINES}.
+	 * 
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getMissedDeadlines() {
+		return this.getMissedDeadlinesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#MISSED_DEADLINES}
+	 * Channel.
+	 * 
+	 * @param value the next value
+	 */
+	public default void _setMissedDeadlines(int value) {
+		this.getMissedDeadlinesChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 * 
@@ -1,12 +1,17 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.AbstractTask;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskPlanner;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.common.taskmanager.TasksManager;
@@ -30,6 +35,21 @@ public class ModbusProtocol {
 	 */
 	private final TasksManager<WriteTask> writeTaskManager = new TasksManager<>();
 
+	/**
+	 * Merges adjacent ReadTasks; null if disabled.
+	 */
+	private ReadTaskPlanner readTaskPlanner = null;
+
+	/**
+	 * Holds the originally added ReadTasks of each merged ReadTask.
+	 */
+	private final Map<ReadTask, List<ReadTask>> mergedReadTasks = new HashMap<>();
+
+	/**
+	 * Number of originally added ReadTasks.
+	 */
+	private int noOfReadTasks = 0;
+
 	public ModbusProtocol(AbstractOpenemsModbusComponent parent, Task... tasks) {
 		this.parent = parent;
 		for (Task task : tasks) {
@@ -68,19 +88,158 @@ public class ModbusProtocol {
 		 * fill readTaskManager
 		 */
 		if (task instanceof ReadTask) {
-			this.readTaskManager.addTask((ReadTask) task);
+			this.noOfReadTasks++;
+			this.addReadTask((ReadTask) task);
 		}
 	}
 
+	/**
+	 * Removes a Task from the Protocol.
+	 * 
+	 * <p>
+	 * If the Task was merged by the {@link ReadTaskPlanner}, the merged Task is
+	 * planned again from the remaining original Tasks.
+	 * 
+	 * @param task the task
+	 */
 	public synchronized void removeTask(Task task) {
 		if (task instanceof ReadTask) {
-			this.readTaskManager.removeTask((ReadTask) task);
+			this.removeReadTask((ReadTask) task);
 		}
 		if (task instanceof WriteTask) {
 			this.writeTaskManager.removeTask((WriteTask) task);
 		}
 	}
 
+	/**
+	 * Enables merging of adjacent ReadTasks via the given
+	 * {@link ReadTaskPlanner}. Already added ReadTasks are planned again.
+	 * 
+	 * @param readTaskPlanner the {@link ReadTaskPlanner}; null to disable
+	 * @return myself
+	 */
+	public synchronized ModbusProtocol setReadTaskPlanner(ReadTaskPlanner readTaskPlanner) {
+		List<ReadTask> originalTasks = new ArrayList<>();
+		for (ReadTask task : new ArrayList<>(this.readTaskManager.getAllTasks())) {
+			this.readTaskManager.removeTask(task);
+			List<ReadTask> merged = this.mergedReadTasks.remove(task);
+			if (merged != null) {
+				for (ReadTask originalTask : merged) {
+					restoreElements(originalTask);
+					originalTasks.add(originalTask);
+				}
+			} else {
+				originalTasks.add(task);
+			}
+		}
+		this.readTaskPlanner = readTaskPlanner;
+		for (ReadTask task : originalTasks) {
+			this.addReadTask(task);
+		}
+		return this;
+	}
+
+	/**
+	 * Gets the number of ReadTasks as they were added to the Protocol, i.e. the
+	 * number of Modbus round-trips without {@link ReadTaskPlanner}.
+	 * 
+	 * @return the number of ReadTasks
+	 */
+	public synchronized int getNoOfReadTasks() {
+		return this.noOfReadTasks;
+	}
+
+	/**
+	 * Gets the number of ReadTasks that are actually executed, i.e. after merging
+	 * by the {@link ReadTaskPlanner}.
+	 * 
+	 * @return the number of planned ReadTasks
+	 */
+	public synchronized int getNoOfPlannedReadTasks() {
+		return this.readTaskManager.getAllTasks().size();
+	}
+
+	/**
+	 * Adds a ReadTask to the Read-Tasks Manager; merges it with existing ReadTasks
+	 * if a {@link ReadTaskPlanner} is set.
+	 * 
+	 * @param task the ReadTask
+	 */
+	private void addReadTask(ReadTask task) {
+		if (this.readTaskPlanner == null) {
+			this.readTaskManager.addTask(task);
+			return;
+		}
+		List<ReadTask> originalTasks = new ArrayList<>();
+		originalTasks.add(task);
+		ReadTask planned = task;
+		boolean hasMerged;
+		do {
+			hasMerged = false;
+			for (ReadTask existing : this.readTaskManager.getAllTasks()) {
+				ReadTask merged = this.readTaskPlanner.merge(planned, existing);
+				if (merged != null) {
+					this.readTaskManager.removeTask(existing);
+					List<ReadTask> existingOriginals = this.mergedReadTasks.remove(existing);
+					if (existingOriginals != null) {
+						originalTasks.addAll(existingOriginals);
+					} else {
+						originalTasks.add(existing);
+					}
+					planned = merged;
+					hasMerged = true;
+					break;
+				}
+			}
+		} while (hasMerged);
+
+		if (planned != task) {
+			planned.setParent(this.parent);
+			this.mergedReadTasks.put(planned, originalTasks);
+		}
+		this.readTaskManager.addTask(planned);
+	}
+
+	/**
+	 * Removes a ReadTask from the Read-Tasks Manager.
+	 * 
+	 * @param task the originally added ReadTask
+	 */
+	private void removeReadTask(ReadTask task) {
+		if (this.readTaskManager.getAllTasks().contains(task)) {
+			this.noOfReadTasks--;
+			this.readTaskManager.removeTask(task);
+			return;
+		}
+		for (Map.Entry<ReadTask, List<ReadTask>> entry : this.mergedReadTasks.entrySet()) {
+			List<ReadTask> originalTasks = entry.getValue();
+			if (!originalTasks.remove(task)) {
+				continue;
+			}
+			this.noOfReadTasks--;
+			ReadTask merged = entry.getKey();
+			this.mergedReadTasks.remove(merged);
+			this.readTaskManager.removeTask(merged);
+			for (ReadTask originalTask : originalTasks) {
+				restoreElements(originalTask);
+				this.addReadTask(originalTask);
+			}
+			return;
+		}
+	}
+
+	/**
+	 * Assigns the Elements of an originally added ReadTask back to the Task after
+	 * they had been assigned to a merged Task.
+	 * 
+	 * @param task the originally added ReadTask
+	 */
+	private static void restoreElements(ReadTask task) {
+		for (ModbusElement<?> element : task.getElements()) {
+			element.setModbusTask((AbstractTask) task);
+		}
+	}
+
 	/**
 	 * Gets the Read-Tasks Manager.
 	 * 
@@ -3,12 +3,16 @@ package io.openems.edge.bridge.modbus.api;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 
@@ -21,7 +25,9 @@ import com.google.common.collect.Multimap;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.ExecuteDurationEstimate;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskPlanner;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
@@ -37,6 +43,24 @@ import io.openems.edge.common.taskmanager.Priority;
  * TOPIC_CYCLE_EXECUTE_WRITE event) and all Read-Tasks as late as possible to
  * have correct values available exactly when they are needed (i.e. at the
  * TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event).
+ * 
+ * <p>
+ * Planning uses an {@link ExecuteDurationEstimate} per Task. HIGH priority
+ * ReadTasks and WriteTasks are planned in every Cycle. Additionally one ONCE
+ * priority ReadTask or one LOW priority ReadTask is planned per Cycle; the LOW
+ * priority ReadTask is picked by earliest deadline first, preferring a Task
+ * whose estimated duration including a safety margin for the configured
+ * deadline confidence still fits into the Cycle on its lane.
+ * 
+ * <p>
+ * If the bridge provides more than one connection (see
+ * {@link AbstractModbusBridge#getNoOfConnections()}), Tasks are executed in
+ * parallel on one 'lane' per connection. All Tasks of a Unit-ID are executed on
+ * the same lane, so their order is kept. Across Unit-IDs there is no order: the
+ * Tasks of a Cycle are handed to the lanes at once, so a ReadTask of one
+ * Unit-ID may be executed before a WriteTask of another Unit-ID that it would
+ * follow in sequential execution. The order of reads and writes is therefore
+ * only guaranteed per Unit-ID.
  */
 public class ModbusWorker extends AbstractImmediateWorker {
 
@@ -49,16 +73,58 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	private final MetaTasksManager<ReadTask> readTasksManager = new MetaTasksManager<>();
 	private final MetaTasksManager<WriteTask> writeTasksManager = new MetaTasksManager<>();
 	// Holds source Component-IDs that are known to have errors.
-	private final Set<String> defectiveComponents = new HashSet<>();
+	private final Set<String> defectiveComponents = ConcurrentHashMap.newKeySet();
+	// Holds Tasks that are currently queued or executed on a lane
+	private final Set<Task> pendingTasks = ConcurrentHashMap.newKeySet();
 	private final AbstractModbusBridge parent;
 
 	// The measured duration between BeforeProcessImage event and ExecuteWrite event
 	private long durationBetweenBeforeProcessImageTillExecuteWrite = 0;
 
+	// Deadlines of LOW priority ReadTasks for 'earliest deadline first' planning
+	private final Map<ReadTask, Long> lowPriorityDeadlines = new WeakHashMap<>();
+	// Safety factor for the estimated durations derived from the deadline
+	// confidence
+	private double confidenceFactor = 0;
+
+	// One single-threaded executor per connection; null for sequential execution
+	private volatile ExecutorService[] lanes = null;
+
 	protected ModbusWorker(AbstractModbusBridge parent) {
 		this.parent = parent;
 	}
 
+	@Override
+	public void activate(String name) {
+		this.confidenceFactor = getConfidenceFactor(this.parent.getDeadlineConfidence());
+		int noOfConnections = this.parent.getNoOfConnections();
+		if (noOfConnections > 1) {
+			ExecutorService[] lanes = new ExecutorService[noOfConnections];
+			for (int i = 0; i < noOfConnections; i++) {
+				final int connectionIndex = i;
+				lanes[i] = Executors.newSingleThreadExecutor(runnable -> new Thread(() -> {
+					this.parent.setCurrentConnectionIndex(connectionIndex);
+					runnable.run();
+				}, name + "-Lane-" + connectionIndex));
+			}
+			this.lanes = lanes;
+		}
+		super.activate(name);
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		ExecutorService[] lanes = this.lanes;
+		this.lanes = null;
+		if (lanes != null) {
+			for (ExecutorService lane : lanes) {
+				lane.shutdownNow();
+			}
+		}
+		this.pendingTasks.clear();
+	}
+
 	/**
 	 * This is called on TOPIC_CYCLE_BEFORE_PROCESS_IMAGE cycle event.
 	 */
@@ -70,39 +136,84 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		}
 		this.cycleStopwatch.reset();
 		this.cycleStopwatch.start();
+		this.planTasks(cycleTime, TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+	}
+
+	/**
+	 * Plans the Tasks for the next Cycle.
+	 * 
+	 * @param cycleTime the measured Cycle-Time in [ms]
+	 * @param now       the current time in [ms]
+	 */
+	protected void planTasks(long cycleTime, long now) {
+		// HIGH priority ReadTasks of the previous Cycle that are still queued or
+		// still executed on a lane missed their deadline. This also covers the Tasks
+		// that are skipped on a lane, because they are still pending.
+		int missedDeadlines = this.getNoOfUnfinishedHighPriorityReadTasks();
 
 		// If the current tasks queue spans multiple cycles and we are in-between ->
 		// stop here
 		if (!this.tasksQueue.isEmpty()) {
+			this.parent._setMissedDeadlines(missedDeadlines);
+			this.parent._setPlannedLowPriorityTasks(0);
 			return;
 		}
 
-		// Collect the next read-tasks
-		List<ReadTask> nextReadTasks = new ArrayList<>();
-		ReadTask lowPriorityTask = this.getOneLowPriorityReadTask();
-		if (lowPriorityTask != null) {
-			nextReadTasks.add(lowPriorityTask);
+		// Collect the HIGH priority read-tasks and the write-tasks. They have to be
+		// executed in every Cycle. Lanes are executed in parallel, so the durations
+		// are estimated per lane.
+		List<ReadTask> nextReadTasks = this.getAllHighPriorityReadTasks();
+		List<WriteTask> nextWriteTasks = this.getAllWriteTasks();
+		ExecutorService[] lanes = this.lanes;
+		int noOfLanes = lanes == null ? 1 : lanes.length;
+		Estimate[] laneEstimates = new Estimate[noOfLanes];
+		for (int i = 0; i < noOfLanes; i++) {
+			laneEstimates[i] = new Estimate();
 		}
-		nextReadTasks.addAll(this.getAllHighPriorityReadTasks());
-		long readTasksDuration = 0;
 		for (ReadTask task : nextReadTasks) {
-			readTasksDuration += task.getExecuteDuration();
+			laneEstimates[getLane(task, noOfLanes)].add(task);
 		}
-
-		// collect the next write-tasks
-		long writeTasksDuration = 0;
-		List<WriteTask> nextWriteTasks = this.getAllWriteTasks();
 		for (WriteTask task : nextWriteTasks) {
-			writeTasksDuration += task.getExecuteDuration();
+			laneEstimates[getLane(task, noOfLanes)].add(task);
 		}
 
-		// plan the execution for the next cycles
-		long totalDuration = readTasksDuration + writeTasksDuration;
-		long totalDurationWithBuffer = totalDuration + TASK_DURATION_BUFFER;
+		// Add one not yet executed ONCE priority task or one LOW priority task
+		int noOfLowPriorityTasks = 0;
+		ReadTask optionalTask = this.readTasksManager.getOneTask(Priority.ONCE);
+		if (optionalTask == null || optionalTask.hasBeenExecuted()) {
+			// No more Priority ONCE tasks available -> add Priority LOW task
+			List<ReadTask> lowPriorityTasks = this.getAllLowPriorityReadTasks();
+			optionalTask = this.getEarliestDeadlineTask(lowPriorityTasks, laneEstimates, cycleTime, now);
+			if (optionalTask != null) {
+				noOfLowPriorityTasks = 1;
+				if (this.lowPriorityDeadlines.getOrDefault(optionalTask, now) < now) {
+					missedDeadlines++;
+				}
+				// every LOW priority task is due again after one round through all of them
+				this.lowPriorityDeadlines.put(optionalTask, now + cycleTime * lowPriorityTasks.size());
+			}
+		}
+		if (optionalTask != null) {
+			nextReadTasks.add(0, optionalTask);
+			laneEstimates[getLane(optionalTask, noOfLanes)].add(optionalTask);
+		}
+
+		// plan the execution for the next cycles; the slowest lane determines the
+		// duration
+		long totalDuration = 0;
+		long estimatedDuration = 0;
+		for (Estimate estimate : laneEstimates) {
+			totalDuration = Math.max(totalDuration, Math.round(estimate.mean));
+			estimatedDuration = Math.max(estimatedDuration, estimate.get(this.confidenceFactor));
+		}
+		long totalDurationWithBuffer = estimatedDuration + TASK_DURATION_BUFFER;
 		long noOfRequiredCycles = ceilDiv(totalDurationWithBuffer, cycleTime);
 
-		// Set EXECUTION_DURATION channel
+		// Set EXECUTION_DURATION and planning channels
 		this.parent._setExecutionDuration(totalDuration);
+		this.parent._setEstimatedExecutionDuration(estimatedDuration);
+		this.parent._setPlannedLowPriorityTasks(noOfLowPriorityTasks);
+		this.parent._setMissedDeadlines(missedDeadlines);
 
 		// Set CYCLE_TIME_IS_TOO_SHORT state-channel if more than one cycle is required;
 		// but only if SlaveCommunicationFailed-Channel is not set
@@ -119,7 +230,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 				break;
 			}
 			noOfTasksBeforeExecuteWriteEvent++;
-			durationOfTasksBeforeExecuteWriteEvent += task.getExecuteDuration();
+			durationOfTasksBeforeExecuteWriteEvent += Math.round(task.getExecuteDurationEstimate().getMean());
 		}
 
 		// Build Queue
@@ -143,7 +254,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		}
 
 		// Add a waiting-task to the end of the queue
-		long waitTillStart = noOfRequiredCycles * cycleTime - totalDurationWithBuffer;
+		long waitTillStart = Math.max(0, noOfRequiredCycles * cycleTime - totalDurationWithBuffer);
 		tasksQueue.addLast(new WaitTask(waitTillStart));
 
 		// Copy all Tasks to the global tasks-queue
@@ -167,6 +278,101 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	@Override
 	protected void forever() throws InterruptedException {
 		Task task = this.tasksQueue.takeLast();
+		ExecutorService[] lanes = this.lanes;
+		if (lanes == null || task.getParent() == null) {
+			// sequential execution; WaitTasks are always executed by the worker
+			this.execute(task);
+			return;
+		}
+
+		if (!this.pendingTasks.add(task)) {
+			// Task from a previous Cycle is still pending on its lane
+			return;
+		}
+		lanes[getLane(task, lanes.length)].execute(() -> {
+			try {
+				this.execute(task);
+			} finally {
+				this.pendingTasks.remove(task);
+			}
+		});
+	}
+
+	/**
+	 * Gets the number of HIGH priority ReadTasks that are still queued or pending
+	 * on a lane.
+	 * 
+	 * @return the number of Tasks
+	 */
+	private int getNoOfUnfinishedHighPriorityReadTasks() {
+		int result = 0;
+		for (Task task : this.pendingTasks) {
+			if (task instanceof ReadTask && task.getPriority() == Priority.HIGH) {
+				result++;
+			}
+		}
+		for (Task task : this.tasksQueue) {
+			if (task instanceof ReadTask && task.getPriority() == Priority.HIGH && !this.pendingTasks.contains(task)) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the lane of a Task. All Tasks of a Unit-ID are executed on the same
+	 * lane.
+	 * 
+	 * @param task      the Task
+	 * @param noOfLanes the number of lanes
+	 * @return the index of the lane
+	 */
+	private static int getLane(Task task, int noOfLanes) {
+		if (task.getParent() == null) {
+			return 0;
+		}
+		return Math.floorMod(task.getParent().getUnitId(), noOfLanes);
+	}
+
+	/**
+	 * Gets the Task with the earliest deadline that still fits into the Cycle on
+	 * its lane. If no Task fits, the Task with the earliest deadline is returned
+	 * anyway, so that every Task is eventually executed.
+	 * 
+	 * @param tasks         the Tasks
+	 * @param laneEstimates the {@link Estimate}s of the already planned Tasks per
+	 *                      lane
+	 * @param cycleTime     the Cycle-Time in [ms]
+	 * @param now           the current time in [ms]
+	 * @return the Task; null if there are no Tasks
+	 */
+	private ReadTask getEarliestDeadlineTask(List<ReadTask> tasks, Estimate[] laneEstimates, long cycleTime,
+			long now) {
+		ReadTask earliest = null;
+		long earliestDeadline = Long.MAX_VALUE;
+		ReadTask earliestFitting = null;
+		long earliestFittingDeadline = Long.MAX_VALUE;
+		for (ReadTask task : tasks) {
+			long deadline = this.lowPriorityDeadlines.getOrDefault(task, now);
+			if (deadline < earliestDeadline) {
+				earliest = task;
+				earliestDeadline = deadline;
+			}
+			if (deadline < earliestFittingDeadline && laneEstimates[getLane(task, laneEstimates.length)]
+					.getWith(task, this.confidenceFactor) <= cycleTime - TASK_DURATION_BUFFER) {
+				earliestFitting = task;
+				earliestFittingDeadline = deadline;
+			}
+		}
+		return earliestFitting != null ? earliestFitting : earliest;
+	}
+
+	/**
+	 * Executes a Task and handles the defective Components.
+	 * 
+	 * @param task the Task
+	 */
+	private void execute(Task task) {
 		try {
 			// execute the task
 			int noOfExecutedSubTasks = task.execute(this.parent);
@@ -200,24 +406,17 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	}
 
 	/**
-	 * Gets one Read-Tasks with priority Low or Once.
+	 * Gets all Read-Tasks with priority Low.
+	 * 
+	 * <p>
+	 * This checks if a device is listed as defective and - if it is - adds only one
+	 * ReadTask of this Source-Component
 	 * 
-	 * @return a list of ReadTasks by Source-ID
+	 * @return a list of ReadTasks
 	 */
-	private ReadTask getOneLowPriorityReadTask() {
-		// Get next Priority ONCE task
-		ReadTask oncePriorityTask = this.readTasksManager.getOneTask(Priority.ONCE);
-		if (oncePriorityTask != null && !oncePriorityTask.hasBeenExecuted()) {
-			return oncePriorityTask;
-
-		} else {
-			// No more Priority ONCE tasks available -> add Priority LOW task
-			ReadTask lowPriorityTask = this.readTasksManager.getOneTask(Priority.LOW);
-			if (lowPriorityTask != null) {
-				return lowPriorityTask;
-			}
-		}
-		return null;
+	private List<ReadTask> getAllLowPriorityReadTasks() {
+		Multimap<String, ReadTask> tasks = this.readTasksManager.getAllTasksBySourceId(Priority.LOW);
+		return this.filterDefectiveComponents(tasks);
 	}
 
 	/**
@@ -278,14 +477,24 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	}
 
 	/**
-	 * Adds the protocol.
+	 * Adds the protocol. Its ReadTasks are merged by the {@link ReadTaskPlanner}
+	 * of the bridge, if configured; the number of saved Modbus round-trips is
+	 * logged.
 	 * 
 	 * @param sourceId Component-ID of the source
 	 * @param protocol the ModbusProtocol
 	 */
 	public void addProtocol(String sourceId, ModbusProtocol protocol) {
+		protocol.setReadTaskPlanner(this.parent.getReadTaskPlanner());
 		this.readTasksManager.addTasksManager(sourceId, protocol.getReadTasksManager());
 		this.writeTasksManager.addTasksManager(sourceId, protocol.getWriteTasksManager());
+
+		int noOfReadTasks = protocol.getNoOfReadTasks();
+		int noOfPlannedReadTasks = protocol.getNoOfPlannedReadTasks();
+		if (noOfPlannedReadTasks < noOfReadTasks) {
+			this.parent.logInfo(this.log, "Merged ReadTasks for [" + sourceId + "]: " + noOfReadTasks + " -> "
+					+ noOfPlannedReadTasks + " Modbus round-trips");
+		}
 	}
 
 	/**
@@ -298,6 +507,70 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		this.writeTasksManager.removeTasksManager(sourceId);
 	}
 
+	/**
+	 * Calculates the safety factor for a normally distributed execution duration,
+	 * i.e. the number of standard deviations above the mean that are not exceeded
+	 * with the given confidence.
+	 * 
+	 * <p>
+	 * Uses the rational approximation from Abramowitz and Stegun, formula
+	 * 26.2.23, with an absolute error below 4.5e-4.
+	 * 
+	 * @param confidence the confidence in [%], e.g. 95
+	 * @return the safety factor; zero for a confidence of 50 % or below
+	 */
+	protected static double getConfidenceFactor(int confidence) {
+		if (confidence <= 50) {
+			return 0;
+		}
+		double p = 1 - Math.min(confidence, 99.99) / 100.;
+		double t = Math.sqrt(-2 * Math.log(p));
+		return t - (2.515517 + 0.802853 * t + 0.010328 * t * t)
+				/ (1 + 1.432788 * t + 0.189269 * t * t + 0.001308 * t * t * t);
+	}
+
+	/**
+	 * Sums up the {@link ExecuteDurationEstimate}s of independent Tasks.
+	 */
+	private static class Estimate {
+		private double mean = 0;
+		private double variance = 0;
+
+		private void add(Task task) {
+			ExecuteDurationEstimate estimate = task.getExecuteDurationEstimate();
+			this.mean += estimate.getMean();
+			this.variance += estimate.getVariance();
+		}
+
+		/**
+		 * Gets the duration that is not exceeded with the confidence of the given
+		 * safety factor.
+		 * 
+		 * @param confidenceFactor the safety factor
+		 * @return the duration in [ms]
+		 */
+		private long get(double confidenceFactor) {
+			return get(this.mean, this.variance, confidenceFactor);
+		}
+
+		/**
+		 * Gets the duration including one more Task that is not exceeded with the
+		 * confidence of the given safety factor.
+		 * 
+		 * @param task             the additional Task
+		 * @param confidenceFactor the safety factor
+		 * @return the duration in [ms]
+		 */
+		private long getWith(Task task, double confidenceFactor) {
+			ExecuteDurationEstimate estimate = task.getExecuteDurationEstimate();
+			return get(this.mean + estimate.getMean(), this.variance + estimate.getVariance(), confidenceFactor);
+		}
+
+		private static long get(double mean, double variance, double confidenceFactor) {
+			return Math.round(mean + confidenceFactor * Math.sqrt(Math.max(0, variance)));
+		}
+	}
+
 	/**
 	 * This is a helper function. It calculates the opposite of Math.floorDiv().
 	 * 
@@ -28,6 +28,8 @@ public abstract class AbstractTask implements Task {
 	private AbstractOpenemsModbusComponent parent = null; // this is always set by ModbusProtocol.addTask()
 	private boolean hasBeenExecutedSuccessfully = false;
 	private long lastExecuteDuration = DEFAULT_EXECUTION_DURATION; // initialize to some default
+	private final ExecuteDurationEstimate executeDurationEstimate = new ExecuteDurationEstimate(
+			DEFAULT_EXECUTION_DURATION);
 
 	public AbstractTask(int startAddress, AbstractModbusElement<?>... elements) {
 		this.startAddress = startAddress;
@@ -86,6 +88,7 @@ public abstract class AbstractTask implements Task {
 
 		} finally {
 			this.lastExecuteDuration = this.stopwatch.elapsed(TimeUnit.MILLISECONDS);
+			this.executeDurationEstimate.update(this.lastExecuteDuration);
 		}
 	}
 
@@ -153,5 +156,10 @@ public abstract class AbstractTask implements Task {
 		return lastExecuteDuration;
 	}
 
+	@Override
+	public ExecuteDurationEstimate getExecuteDurationEstimate() {
+		return this.executeDurationEstimate;
+	}
+
 	protected abstract String getActiondescription();
 }
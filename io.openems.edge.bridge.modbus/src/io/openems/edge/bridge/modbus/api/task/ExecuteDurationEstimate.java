@@ -0,0 +1,57 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+/**
+ * Estimates the execution duration of a {@link Task} from the measured
+ * durations using an exponentially weighted moving average and variance.
+ */
+public class ExecuteDurationEstimate {
+
+	/**
+	 * Weight of a new measurement.
+	 */
+	private static final double ALPHA = 0.125;
+
+	private boolean hasMeasurement = false;
+	private double mean;
+	private double variance = 0;
+
+	public ExecuteDurationEstimate(long initialDuration) {
+		this.mean = initialDuration;
+	}
+
+	/**
+	 * Adds a measured execution duration.
+	 * 
+	 * @param duration the duration in [ms]
+	 */
+	public synchronized void update(long duration) {
+		if (!this.hasMeasurement) {
+			// replace the initial value with the first measurement
+			this.hasMeasurement = true;
+			this.mean = duration;
+			return;
+		}
+		double diff = duration - this.mean;
+		this.mean += ALPHA * diff;
+		this.variance = (1 - ALPHA) * (this.variance + ALPHA * diff * diff);
+	}
+
+	/**
+	 * Gets the estimated mean execution duration.
+	 * 
+	 * @return the mean in [ms]
+	 */
+	public synchronized double getMean() {
+		return this.mean;
+	}
+
+	/**
+	 * Gets the estimated variance of the execution duration.
+	 * 
+	 * @return the variance in [ms^2]
+	 */
+	public synchronized double getVariance() {
+		return this.variance;
+	}
+
+}
@@ -0,0 +1,106 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.openems.edge.bridge.modbus.api.element.AbstractModbusElement;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Merges {@link FC3ReadRegistersTask}s and {@link FC4ReadInputRegistersTask}s
+ * with the same function code and {@link Priority} that are adjacent or
+ * separated by small gaps, to reduce the number of Modbus round-trips.
+ * 
+ * <p>
+ * Gaps are filled with {@link DummyRegisterElement}s. Only enable this for
+ * devices that allow reading those gap registers.
+ */
+public class ReadTaskPlanner {
+
+	/**
+	 * Maximum number of registers in one read request as defined by the Modbus
+	 * specification.
+	 */
+	public static final int DEFAULT_MAX_LENGTH = 125;
+
+	private final int maxGap;
+	private final int maxLength;
+
+	/**
+	 * Creates a {@link ReadTaskPlanner} that merges only directly adjacent
+	 * tasks up to {@link #DEFAULT_MAX_LENGTH}.
+	 */
+	public ReadTaskPlanner() {
+		this(0, DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * Creates a {@link ReadTaskPlanner}.
+	 * 
+	 * @param maxGap    the maximum number of unused registers between two tasks
+	 * @param maxLength the maximum length of a merged task in registers
+	 */
+	public ReadTaskPlanner(int maxGap, int maxLength) {
+		this.maxGap = Math.max(0, maxGap);
+		this.maxLength = Math.min(DEFAULT_MAX_LENGTH, maxLength);
+	}
+
+	/**
+	 * Merges two {@link ReadTask}s if possible.
+	 * 
+	 * @param task1 the first {@link ReadTask}
+	 * @param task2 the second {@link ReadTask}
+	 * @return a new merged {@link ReadTask}; null if the tasks cannot be merged
+	 */
+	public ReadTask merge(ReadTask task1, ReadTask task2) {
+		if (task1 == task2 || task1.getClass() != task2.getClass() || task1.getPriority() != task2.getPriority()) {
+			return null;
+		}
+		if (task1.getClass() != FC3ReadRegistersTask.class && task1.getClass() != FC4ReadInputRegistersTask.class) {
+			return null;
+		}
+		AbstractReadInputRegistersTask first = (AbstractReadInputRegistersTask) task1;
+		AbstractReadInputRegistersTask second = (AbstractReadInputRegistersTask) task2;
+		if (second.getStartAddress() < first.getStartAddress()) {
+			first = (AbstractReadInputRegistersTask) task2;
+			second = (AbstractReadInputRegistersTask) task1;
+		}
+		int firstEnd = first.getStartAddress() + first.getLength();
+		int gap = second.getStartAddress() - firstEnd;
+		if (gap < 0 /* overlapping */ || gap > this.maxGap) {
+			return null;
+		}
+		int startAddress = first.getStartAddress();
+		if (second.getStartAddress() + second.getLength() - startAddress > this.maxLength) {
+			return null;
+		}
+
+		List<AbstractModbusElement<?>> elements = new ArrayList<>();
+		addElements(elements, first);
+		if (gap > 0) {
+			elements.add(new DummyRegisterElement(firstEnd, second.getStartAddress() - 1));
+		}
+		addElements(elements, second);
+		AbstractModbusElement<?>[] array = elements.toArray(new AbstractModbusElement<?>[elements.size()]);
+
+		final AbstractReadInputRegistersTask result;
+		if (first instanceof FC3ReadRegistersTask) {
+			result = new FC3ReadRegistersTask(startAddress, first.getPriority(), array);
+		} else {
+			result = new FC4ReadInputRegistersTask(startAddress, first.getPriority(), array);
+		}
+		if (first.isDebug() || second.isDebug()) {
+			result.debug();
+		}
+		return result;
+	}
+
+	private static void addElements(List<AbstractModbusElement<?>> elements, AbstractTask task) {
+		for (ModbusElement<?> element : task.getElements()) {
+			elements.add((AbstractModbusElement<?>) element);
+		}
+	}
+
+}
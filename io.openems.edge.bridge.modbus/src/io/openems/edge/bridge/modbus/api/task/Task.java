@@ -68,4 +68,12 @@ public interface Task extends ManagedTask {
 	 */
 	long getExecuteDuration();
 
+	/**
+	 * Gets the {@link ExecuteDurationEstimate} that is learned from the execution
+	 * durations of this Task.
+	 * 
+	 * @return the {@link ExecuteDurationEstimate}
+	 */
+	ExecuteDurationEstimate getExecuteDurationEstimate();
+
 }
\ No newline at end of file
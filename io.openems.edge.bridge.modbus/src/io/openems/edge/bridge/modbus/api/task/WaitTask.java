@@ -13,11 +13,13 @@ public class WaitTask implements Task {
 
 	private final Logger log = LoggerFactory.getLogger(WaitTask.class);
 	private final long delay;
+	private final ExecuteDurationEstimate executeDurationEstimate;
 
 	private AbstractOpenemsModbusComponent parent = null;
 
 	public WaitTask(long delay) {
 		this.delay = delay;
+		this.executeDurationEstimate = new ExecuteDurationEstimate(delay);
 	}
 
 	@Override
@@ -69,4 +71,9 @@ public class WaitTask implements Task {
 		return this.delay;
 	}
 
+	@Override
+	public ExecuteDurationEstimate getExecuteDurationEstimate() {
+		return this.executeDurationEstimate;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package io.openems.edge.bridge.modbus.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.api.element.AbstractModbusElement;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskPlanner;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ModbusProtocolTest {
+
+	@Test
+	public void testMergeReadTasks() {
+		FC3ReadRegistersTask task1 = new FC3ReadRegistersTask(100, Priority.HIGH, //
+				new UnsignedWordElement(100), //
+				new UnsignedDoublewordElement(101));
+		FC3ReadRegistersTask task2 = new FC3ReadRegistersTask(103, Priority.HIGH, //
+				new UnsignedWordElement(103));
+		FC3ReadRegistersTask task3 = new FC3ReadRegistersTask(106, Priority.HIGH, //
+				new UnsignedWordElement(106));
+		// different Priority
+		FC3ReadRegistersTask task4 = new FC3ReadRegistersTask(107, Priority.LOW, //
+				new UnsignedWordElement(107));
+		// different Function Code
+		FC4ReadInputRegistersTask task5 = new FC4ReadInputRegistersTask(108, Priority.HIGH, //
+				new UnsignedWordElement(108));
+		ModbusProtocol protocol = new ModbusProtocol(null, task1, task2, task3, task4, task5);
+		assertEquals(5, protocol.getNoOfPlannedReadTasks());
+
+		protocol.setReadTaskPlanner(new ReadTaskPlanner(2, ReadTaskPlanner.DEFAULT_MAX_LENGTH));
+		assertEquals(5, protocol.getNoOfReadTasks());
+		assertEquals(3, protocol.getNoOfPlannedReadTasks());
+
+		ReadTask merged = protocol.getReadTasksManager().getAllTasks(Priority.HIGH).stream() //
+				.filter(t -> t instanceof FC3ReadRegistersTask) //
+				.findFirst().get();
+		assertEquals(100, merged.getStartAddress());
+		ModbusElement<?>[] elements = merged.getElements();
+		assertEquals(5, elements.length);
+		assertEquals(DummyRegisterElement.class, elements[3].getClass());
+		assertEquals(104, elements[3].getStartAddress());
+		assertEquals(2, elements[3].getLength());
+		assertEquals(106, elements[4].getStartAddress());
+
+		// Removing an original Task plans the remaining Tasks again
+		protocol.removeTask(task2);
+		assertEquals(4, protocol.getNoOfReadTasks());
+		assertEquals(4, protocol.getNoOfPlannedReadTasks());
+		assertTrue(task1 == ((AbstractModbusElement<?>) task1.getElements()[0]).getModbusTask());
+	}
+
+	@Test
+	public void testMaxLength() {
+		FC3ReadRegistersTask task1 = new FC3ReadRegistersTask(0, Priority.HIGH, //
+				new DummyRegisterElement(0, 99));
+		FC3ReadRegistersTask task2 = new FC3ReadRegistersTask(100, Priority.HIGH, //
+				new DummyRegisterElement(100, 125));
+		ModbusProtocol protocol = new ModbusProtocol(null, task1, task2) //
+				.setReadTaskPlanner(new ReadTaskPlanner());
+		assertEquals(2, protocol.getNoOfPlannedReadTasks());
+	}
+
+}
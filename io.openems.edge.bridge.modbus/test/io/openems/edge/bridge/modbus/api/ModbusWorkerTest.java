@@ -0,0 +1,326 @@
+package io.openems.edge.bridge.modbus.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.ExecuteDurationEstimate;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskPlanner;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ModbusWorkerTest {
+
+	@Test
+	public void testGetConfidenceFactor() {
+		assertEquals(0, ModbusWorker.getConfidenceFactor(50), 0.001);
+		assertEquals(1.282, ModbusWorker.getConfidenceFactor(90), 0.001);
+		assertEquals(1.645, ModbusWorker.getConfidenceFactor(95), 0.001);
+		assertEquals(2.326, ModbusWorker.getConfidenceFactor(99), 0.001);
+	}
+
+	@Test
+	public void testExecuteDurationEstimate() {
+		ExecuteDurationEstimate estimate = new ExecuteDurationEstimate(300);
+		assertEquals(300, estimate.getMean(), 0.001);
+
+		// First measurement replaces the initial value
+		estimate.update(20);
+		assertEquals(20, estimate.getMean(), 0.001);
+		assertEquals(0, estimate.getVariance(), 0.001);
+
+		estimate.update(28);
+		assertEquals(21, estimate.getMean(), 0.001);
+		assertEquals(7, estimate.getVariance(), 0.001);
+	}
+
+	@Test
+	public void testOneLowPriorityTaskPerCycle() throws InterruptedException {
+		TestBridge bridge = new TestBridge(1);
+		ModbusWorker worker = new ModbusWorker(bridge);
+		TestTask high = new TestTask(Priority.HIGH, 10);
+		TestTask[] lows = { new TestTask(Priority.LOW, 10), new TestTask(Priority.LOW, 10),
+				new TestTask(Priority.LOW, 10) };
+		worker.addProtocol("device0", new ModbusProtocol(new TestComponent(1), high, lows[0], lows[1], lows[2]));
+
+		// Cycle-Time fits exactly one HIGH and one LOW task, so the WaitTask does not
+		// wait
+		long cycleTime = 10 + 10 + 50;
+		for (int cycle = 0; cycle < 4; cycle++) {
+			worker.planTasks(cycleTime, cycle * cycleTime);
+			assertEquals(1, (int) bridge.getPlannedLowPriorityTasksChannel().getNextValue().get());
+			assertEquals(0, (int) bridge.getMissedDeadlinesChannel().getNextValue().get());
+			// WaitTask, LOW task, HIGH task
+			for (int i = 0; i < 3; i++) {
+				worker.forever();
+			}
+		}
+
+		// earliest deadline first: every LOW task once per round
+		assertEquals(4, high.executions.get());
+		assertEquals(2, lows[0].executions.get());
+		assertEquals(1, lows[1].executions.get());
+		assertEquals(1, lows[2].executions.get());
+	}
+
+	@Test
+	public void testLanePlanning() {
+		TestTask task1 = new TestTask(Priority.HIGH, 100);
+		TestTask task2 = new TestTask(Priority.HIGH, 100);
+
+		// sequential: durations add up
+		TestBridge bridge = new TestBridge(1);
+		ModbusWorker worker = new ModbusWorker(bridge);
+		worker.addProtocol("device1", new ModbusProtocol(new TestComponent(1), task1));
+		worker.addProtocol("device2", new ModbusProtocol(new TestComponent(2), task2));
+		worker.planTasks(1000, 0);
+		assertEquals(200, (long) bridge.getEstimatedExecutionDurationChannel().getNextValue().get());
+
+		// parallel lanes: the slowest lane determines the duration
+		bridge = new TestBridge(2);
+		worker = new ModbusWorker(bridge);
+		worker.addProtocol("device1", new ModbusProtocol(new TestComponent(1), task1));
+		worker.addProtocol("device2", new ModbusProtocol(new TestComponent(2), task2));
+		worker.activate("testLanePlanning");
+		try {
+			worker.planTasks(100 + 50, 0);
+			assertEquals(100, (long) bridge.getEstimatedExecutionDurationChannel().getNextValue().get());
+		} finally {
+			worker.deactivate();
+		}
+	}
+
+	@Test
+	public void testMissedDeadlinesOnLanes() throws InterruptedException {
+		TestBridge bridge = new TestBridge(2);
+		ModbusWorker worker = new ModbusWorker(bridge);
+		TestTask task = new TestTask(Priority.HIGH, 10);
+		task.release = new CountDownLatch(1);
+		worker.addProtocol("device1", new ModbusProtocol(new TestComponent(1), task));
+		worker.activate("testMissedDeadlinesOnLanes");
+		try {
+			worker.planTasks(10 + 50, 0);
+			assertTrue(task.started.await(5, TimeUnit.SECONDS));
+
+			// Task is still executed on its lane
+			worker.planTasks(10 + 50, 60);
+			assertEquals(1, (int) bridge.getMissedDeadlinesChannel().getNextValue().get());
+
+			task.release.countDown();
+			int missedDeadlines = 1;
+			for (int i = 0; i < 500 && missedDeadlines != 0; i++) {
+				Thread.sleep(10);
+				worker.planTasks(10 + 50, 120 + i * 60);
+				missedDeadlines = bridge.getMissedDeadlinesChannel().getNextValue().get();
+			}
+			assertEquals(0, missedDeadlines);
+		} finally {
+			worker.deactivate();
+		}
+	}
+
+	@Test
+	public void testParallelLanes() throws InterruptedException {
+		TestBridge bridge = new TestBridge(2);
+		ModbusWorker worker = new ModbusWorker(bridge);
+		// every Task waits until all of them are executed at the same time
+		CountDownLatch rendezvous = new CountDownLatch(2);
+		TestTask task1 = new TestTask(Priority.HIGH, 10);
+		task1.rendezvous = rendezvous;
+		TestTask task2 = new TestTask(Priority.HIGH, 10);
+		task2.rendezvous = rendezvous;
+		// same Unit-ID as task1: same lane
+		TestTask task3 = new TestTask(Priority.HIGH, 10);
+		worker.addProtocol("device1", new ModbusProtocol(new TestComponent(1), task1, task3));
+		worker.addProtocol("device2", new ModbusProtocol(new TestComponent(2), task2));
+		worker.activate("testParallelLanes");
+		try {
+			worker.planTasks(2 * 10 + 50, 0);
+			assertTrue(task1.started.await(5, TimeUnit.SECONDS));
+			assertTrue(task2.started.await(5, TimeUnit.SECONDS));
+			assertTrue(task3.started.await(5, TimeUnit.SECONDS));
+			assertTrue(task1.metRendezvous);
+			assertTrue(task2.metRendezvous);
+			assertEquals(1, task1.connectionIndex);
+			assertEquals(0, task2.connectionIndex);
+			assertEquals(1, task3.connectionIndex);
+		} finally {
+			worker.deactivate();
+		}
+	}
+
+	@Test
+	public void testReadTaskPlanner() {
+		FC3ReadRegistersTask task1 = new FC3ReadRegistersTask(100, Priority.HIGH, //
+				new UnsignedWordElement(100));
+		FC3ReadRegistersTask task2 = new FC3ReadRegistersTask(101, Priority.HIGH, //
+				new UnsignedWordElement(101));
+
+		// disabled by default
+		ModbusProtocol protocol = new ModbusProtocol(null, task1, task2);
+		new ModbusWorker(new TestBridge(1)).addProtocol("device0", protocol);
+		assertEquals(2, protocol.getNoOfPlannedReadTasks());
+
+		TestBridge bridge = new TestBridge(1);
+		bridge.readTaskPlanner = new ReadTaskPlanner();
+		new ModbusWorker(bridge).addProtocol("device0", protocol);
+		assertEquals(2, protocol.getNoOfReadTasks());
+		assertEquals(1, protocol.getNoOfPlannedReadTasks());
+	}
+
+	protected static class TestBridge extends AbstractModbusBridge {
+
+		private final int noOfConnections;
+		private ReadTaskPlanner readTaskPlanner = null;
+
+		protected TestBridge(int noOfConnections) {
+			super(//
+					OpenemsComponent.ChannelId.values(), //
+					BridgeModbus.ChannelId.values() //
+			);
+			this.noOfConnections = noOfConnections;
+		}
+
+		@Override
+		public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
+			throw new OpenemsException("Not implemented");
+		}
+
+		@Override
+		public void closeModbusConnection() {
+		}
+
+		@Override
+		protected int getNoOfConnections() {
+			return this.noOfConnections;
+		}
+
+		@Override
+		public ReadTaskPlanner getReadTaskPlanner() {
+			return this.readTaskPlanner;
+		}
+	}
+
+	protected static class TestComponent extends AbstractOpenemsModbusComponent {
+
+		private final int unitId;
+
+		protected TestComponent(int unitId) {
+			super(OpenemsComponent.ChannelId.values());
+			this.unitId = unitId;
+		}
+
+		@Override
+		public Integer getUnitId() {
+			return this.unitId;
+		}
+
+		@Override
+		protected ModbusProtocol defineModbusProtocol() {
+			return null;
+		}
+	}
+
+	/**
+	 * A ReadTask with a fixed estimated duration that counts its executions.
+	 */
+	protected static class TestTask implements ReadTask {
+
+		private final Priority priority;
+		private final ExecuteDurationEstimate estimate;
+		private final AtomicInteger executions = new AtomicInteger();
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		private AbstractOpenemsModbusComponent parent = null;
+		private CountDownLatch release = null;
+		private CountDownLatch rendezvous = null;
+		private volatile boolean metRendezvous = false;
+		private volatile int connectionIndex = -1;
+
+		protected TestTask(Priority priority, long duration) {
+			this.priority = priority;
+			this.estimate = new ExecuteDurationEstimate(duration);
+		}
+
+		@Override
+		public Priority getPriority() {
+			return this.priority;
+		}
+
+		@Override
+		public ModbusElement<?>[] getElements() {
+			return new ModbusElement<?>[0];
+		}
+
+		@Override
+		public int getStartAddress() {
+			return 0;
+		}
+
+		@Override
+		public void setParent(AbstractOpenemsModbusComponent parent) {
+			this.parent = parent;
+		}
+
+		@Override
+		public AbstractOpenemsModbusComponent getParent() {
+			return this.parent;
+		}
+
+		@Override
+		public void deactivate() {
+		}
+
+		@Override
+		public <T> int execute(AbstractModbusBridge bridge) throws OpenemsException {
+			this.connectionIndex = bridge.getCurrentConnectionIndex();
+			if (this.rendezvous != null) {
+				this.rendezvous.countDown();
+				try {
+					this.metRendezvous = this.rendezvous.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					throw new OpenemsException("Interrupted");
+				}
+			}
+			this.started.countDown();
+			if (this.release != null) {
+				try {
+					this.release.await();
+				} catch (InterruptedException e) {
+					throw new OpenemsException("Interrupted");
+				}
+			}
+			this.executions.incrementAndGet();
+			// no sub-task with a Modbus transaction
+			return 0;
+		}
+
+		@Override
+		public boolean hasBeenExecuted() {
+			return this.executions.get() > 0;
+		}
+
+		@Override
+		public long getExecuteDuration() {
+			return Math.round(this.estimate.getMean());
+		}
+
+		@Override
+		public ExecuteDurationEstimate getExecuteDurationEstimate() {
+			return this.estimate;
+		}
+	}
+
+}
@@ -1,6 +1,8 @@
 package io.openems.edge.common.channel;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -163,6 +165,17 @@ public interface Channel<T> {
 	// TODO this should be a ZonedDateTime
 	public CircularTreeMap<LocalDateTime, Value<T>> getPastValues();
 
+	/**
+	 * Gets the past values for this Channel that were recorded at or after the
+	 * given time.
+	 * 
+	 * @param from the earliest recording time (inclusive)
+	 * @return the historic values in chronological order
+	 */
+	public default List<Value<T>> getPastValues(LocalDateTime from) {
+		return new ArrayList<>(this.getPastValues().tailMap(from, true).values());
+	}
+
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
 	 * nextProcessImage().
@@ -39,11 +39,16 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final CircularTreeMap<LocalDateTime, Value<T>> pastValues = new CircularTreeMap<>(NO_OF_PAST_VALUES);
+	private final PastValues<T> pastValues = new PastValues<>(NO_OF_PAST_VALUES);
 
 	private volatile Value<T> nextValue = null;
 	private volatile Value<T> activeValue = null;
 
+	/**
+	 * The cached {@link ChannelAddress}; recreated if the Component-ID changed.
+	 */
+	private volatile ChannelAddress address = null;
+
 	protected AbstractReadChannel(OpenemsType type, OpenemsComponent parent, ChannelId channelId, D channelDoc,
 			T initialValue) {
 		this.type = type;
@@ -115,17 +120,30 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		} else {
 			valueHasChanged = !Objects.equals(oldValue.get(), this.nextValue.get());
 		}
-		this.activeValue = this.nextValue;
-		this.onUpdateCallbacks.forEach(callback -> callback.accept(this.activeValue));
-		if (valueHasChanged) {
-			this.onChangeCallbacks.forEach(callback -> callback.accept(oldValue, this.activeValue));
+		final Value<T> activeValue = this.nextValue;
+		this.activeValue = activeValue;
+		if (!this.onUpdateCallbacks.isEmpty()) {
+			for (Consumer<Value<T>> callback : this.onUpdateCallbacks) {
+				callback.accept(activeValue);
+			}
+		}
+		if (valueHasChanged && !this.onChangeCallbacks.isEmpty()) {
+			for (BiConsumer<Value<T>, Value<T>> callback : this.onChangeCallbacks) {
+				callback.accept(oldValue, activeValue);
+			}
 		}
-		this.pastValues.put(this.activeValue.getTimestamp(), this.activeValue);
+		this.pastValues.add(activeValue);
 	}
 
 	@Override
 	public ChannelAddress address() {
-		return new ChannelAddress(this.parent.id(), this.channelId().id());
+		String componentId = this.parent.id();
+		ChannelAddress address = this.address;
+		if (address == null || !Objects.equals(address.getComponentId(), componentId)) {
+			address = new ChannelAddress(componentId, this.channelId().id());
+			this.address = address;
+		}
+		return address;
 	}
 
 	@Override
@@ -259,10 +277,19 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	/**
 	 * Gets the past values for this Channel.
 	 * 
+	 * <p>
+	 * The map is created on every call from the internal ring buffer of past
+	 * values. Changes to the map are not reflected in the Channel.
+	 * 
 	 * @return a map of recording time and historic value at that time
 	 */
 	@Override
 	public CircularTreeMap<LocalDateTime, Value<T>> getPastValues() {
-		return this.pastValues;
+		return this.pastValues.asMap();
+	}
+
+	@Override
+	public List<Value<T>> getPastValues(LocalDateTime from) {
+		return this.pastValues.since(from);
 	}
 }
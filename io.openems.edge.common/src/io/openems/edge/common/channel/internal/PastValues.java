@@ -0,0 +1,112 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.type.CircularTreeMap;
+
+/**
+ * Holds the past values of a Channel in a preallocated ring buffer.
+ *
+ * <p>
+ * Adding a value is a plain array write, so the Cycle does not need to
+ * maintain a {@link CircularTreeMap} per Channel. The map representation is
+ * only created on demand by {@link #asMap()}; for regular access to a time
+ * range use {@link #since(LocalDateTime)}.
+ *
+ * @param <T> the type of the Channel
+ */
+public class PastValues<T> {
+
+	private final Value<T>[] values;
+
+	private int next = 0;
+	private int size = 0;
+	private Value<T> last = null;
+
+	@SuppressWarnings("unchecked")
+	public PastValues(int limit) {
+		this.values = (Value<T>[]) new Value<?>[limit];
+	}
+
+	/**
+	 * Adds a {@link Value}. If the buffer is full, the eldest value is
+	 * overwritten. Adding the same {@link Value} object again is ignored.
+	 *
+	 * @param value the {@link Value}
+	 */
+	public synchronized void add(Value<T> value) {
+		if (value == this.last) {
+			return;
+		}
+		this.last = value;
+		this.values[this.next] = value;
+		this.next = (this.next + 1) % this.values.length;
+		if (this.size < this.values.length) {
+			this.size++;
+		}
+	}
+
+	/**
+	 * Gets the number of stored values.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the stored values with a timestamp at or after the given time.
+	 * 
+	 * <p>
+	 * Only the matching values are visited, starting from the newest one.
+	 *
+	 * @param from the earliest timestamp (inclusive)
+	 * @return a new list of the values in chronological order
+	 */
+	public synchronized List<Value<T>> since(LocalDateTime from) {
+		// values are added in chronological order: count matches from the newest
+		int count = 0;
+		while (count < this.size && !this.get(this.size - 1 - count).getTimestamp().isBefore(from)) {
+			count++;
+		}
+		List<Value<T>> result = new ArrayList<>(count);
+		for (int i = this.size - count; i < this.size; i++) {
+			result.add(this.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a {@link CircularTreeMap} of timestamp and {@link Value} from the
+	 * stored values.
+	 *
+	 * @return a new map
+	 */
+	public synchronized CircularTreeMap<LocalDateTime, Value<T>> asMap() {
+		CircularTreeMap<LocalDateTime, Value<T>> result = new CircularTreeMap<>(this.values.length);
+		for (int i = 0; i < this.size; i++) {
+			Value<T> value = this.get(i);
+			result.put(value.getTimestamp(), value);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the value at the given position; 0 is the eldest stored value.
+	 *
+	 * @param index the position
+	 * @return the {@link Value}
+	 */
+	private Value<T> get(int index) {
+		int start = this.next - this.size;
+		if (start < 0) {
+			start += this.values.length;
+		}
+		return this.values[(start + index) % this.values.length];
+	}
+
+}
@@ -1,6 +1,8 @@
 package io.openems.edge.common.channel.value;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Optional;
 
 import com.google.gson.JsonElement;
@@ -40,12 +42,18 @@ public class Value<T> {
 
 	private final Channel<T> parent;
 	private final T value;
-	private final LocalDateTime timestamp;
+	private final long timestampMillis;
+
+	/**
+	 * The timestamp as {@link LocalDateTime}; created lazily from
+	 * 'timestampMillis' on first request.
+	 */
+	private LocalDateTime timestamp = null;
 
 	public Value(Channel<T> parent, T value) {
 		this.parent = parent;
 		this.value = value;
-		this.timestamp = LocalDateTime.now();
+		this.timestampMillis = System.currentTimeMillis();
 	}
 
 	/**
@@ -213,6 +221,20 @@ public class Value<T> {
 	 * @return the timestamp
 	 */
 	public LocalDateTime getTimestamp() {
-		return this.timestamp;
+		LocalDateTime timestamp = this.timestamp;
+		if (timestamp == null) {
+			timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(this.timestampMillis), ZoneId.systemDefault());
+			this.timestamp = timestamp;
+		}
+		return timestamp;
+	}
+
+	/**
+	 * Gets the timestamp when the value was created in milliseconds since epoch.
+	 * 
+	 * @return the timestamp
+	 */
+	public long getTimestampMillis() {
+		return this.timestampMillis;
 	}
 }
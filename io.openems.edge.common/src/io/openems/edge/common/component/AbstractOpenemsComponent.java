@@ -1,11 +1,10 @@
 package io.openems.edge.common.component;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.osgi.service.component.ComponentConstants;
@@ -47,9 +46,14 @@ public abstract class AbstractOpenemsComponent implements OpenemsComponent {
 
 	/**
 	 * Holds all Channels by their Channel-ID String representation (in
-	 * CaseFormat.UPPER_CAMEL)
+	 * CaseFormat.UPPER_CAMEL).
+	 * 
+	 * <p>
+	 * Some Components add and remove Channels at runtime (e.g. the Cycle), while
+	 * other threads iterate {@link #channels()}; the iterators of a
+	 * {@link ConcurrentHashMap} never fail on concurrent modification.
 	 */
-	private final Map<String, Channel<?>> channels = Collections.synchronizedMap(new HashMap<>());
+	private final Map<String, Channel<?>> channels = new ConcurrentHashMap<>();
 
 	private String id = null;
 	private String alias = null;
@@ -374,6 +378,9 @@ public abstract class AbstractOpenemsComponent implements OpenemsComponent {
 	@Deprecated()
 	@Override
 	public Channel<?> _channel(String channelName) {
+		if (channelName == null) {
+			return null;
+		}
 		Channel<?> channel = this.channels.get(channelName);
 		return channel;
 	}
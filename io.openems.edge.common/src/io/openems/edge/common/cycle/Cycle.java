@@ -32,7 +32,128 @@ public interface Cycle extends OpenemsComponent {
 		 * <li>Type: State
 		 * </ul>
 		 */
-		IGNORE_DISABLED_CONTROLLER(Doc.of(Level.INFO));
+		IGNORE_DISABLED_CONTROLLER(Doc.of(Level.INFO)), //
+		/**
+		 * Time for handling the TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event in [us].
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		BEFORE_PROCESS_IMAGE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * Time for switching the process image of all Channels and updating the
+		 * Sum-Component in [us].
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		PROCESS_IMAGE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * Time for handling the TOPIC_CYCLE_AFTER_PROCESS_IMAGE event in [us].
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		AFTER_PROCESS_IMAGE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * Time for handling the TOPIC_CYCLE_BEFORE_CONTROLLERS event in [us].
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		BEFORE_CONTROLLERS_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * Time for executing all Schedulers and Controllers in [us].
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		CONTROLLERS_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * Time for handling the TOPIC_CYCLE_AFTER_CONTROLLERS event in [us].
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		AFTER_CONTROLLERS_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * Time for handling the TOPIC_CYCLE_BEFORE_WRITE event in [us].
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		BEFORE_WRITE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * Time for handling the TOPIC_CYCLE_EXECUTE_WRITE event in [us].
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		EXECUTE_WRITE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * Time for handling the TOPIC_CYCLE_AFTER_WRITE event in [us].
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		AFTER_WRITE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * 50th percentile of the Cycle duration in [us] over the last statistics window.
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		CYCLE_TIME_P50(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * 99th percentile of the Cycle duration in [us] over the last statistics window.
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		CYCLE_TIME_P99(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * Maximum Cycle duration in [us] over the last statistics window.
+		 * 
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		CYCLE_TIME_MAX(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS));
 
 		private final Doc doc;
 
@@ -113,6 +234,351 @@ public interface Cycle extends OpenemsComponent {
 		this.getIgnoreDisabledControllerChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#BEFORE_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getBeforeProcessImageTimeChannel() {
+		return this.channel(ChannelId.BEFORE_PROCESS_IMAGE_TIME);
+	}
+
+	/**
+	 * Gets the Before Process Image Time in [us]. See
+	 * {@link ChannelId#BEFORE_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getBeforeProcessImageTime() {
+		return this.getBeforeProcessImageTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#BEFORE_PROCESS_IMAGE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setBeforeProcessImageTime(long value) {
+		this.getBeforeProcessImageTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getProcessImageTimeChannel() {
+		return this.channel(ChannelId.PROCESS_IMAGE_TIME);
+	}
+
+	/**
+	 * Gets the Process Image Time in [us]. See
+	 * {@link ChannelId#PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getProcessImageTime() {
+		return this.getProcessImageTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PROCESS_IMAGE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setProcessImageTime(long value) {
+		this.getProcessImageTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#AFTER_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getAfterProcessImageTimeChannel() {
+		return this.channel(ChannelId.AFTER_PROCESS_IMAGE_TIME);
+	}
+
+	/**
+	 * Gets the After Process Image Time in [us]. See
+	 * {@link ChannelId#AFTER_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getAfterProcessImageTime() {
+		return this.getAfterProcessImageTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#AFTER_PROCESS_IMAGE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setAfterProcessImageTime(long value) {
+		this.getAfterProcessImageTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#BEFORE_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getBeforeControllersTimeChannel() {
+		return this.channel(ChannelId.BEFORE_CONTROLLERS_TIME);
+	}
+
+	/**
+	 * Gets the Before Controllers Time in [us]. See
+	 * {@link ChannelId#BEFORE_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getBeforeControllersTime() {
+		return this.getBeforeControllersTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#BEFORE_CONTROLLERS_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setBeforeControllersTime(long value) {
+		this.getBeforeControllersTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getControllersTimeChannel() {
+		return this.channel(ChannelId.CONTROLLERS_TIME);
+	}
+
+	/**
+	 * Gets the Controllers Time in [us]. See
+	 * {@link ChannelId#CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getControllersTime() {
+		return this.getControllersTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#CONTROLLERS_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setControllersTime(long value) {
+		this.getControllersTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#AFTER_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getAfterControllersTimeChannel() {
+		return this.channel(ChannelId.AFTER_CONTROLLERS_TIME);
+	}
+
+	/**
+	 * Gets the After Controllers Time in [us]. See
+	 * {@link ChannelId#AFTER_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getAfterControllersTime() {
+		return this.getAfterControllersTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#AFTER_CONTROLLERS_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setAfterControllersTime(long value) {
+		this.getAfterControllersTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#BEFORE_WRITE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getBeforeWriteTimeChannel() {
+		return this.channel(ChannelId.BEFORE_WRITE_TIME);
+	}
+
+	/**
+	 * Gets the Before Write Time in [us]. See
+	 * {@link ChannelId#BEFORE_WRITE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getBeforeWriteTime() {
+		return this.getBeforeWriteTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#BEFORE_WRITE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setBeforeWriteTime(long value) {
+		this.getBeforeWriteTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#EXECUTE_WRITE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getExecuteWriteTimeChannel() {
+		return this.channel(ChannelId.EXECUTE_WRITE_TIME);
+	}
+
+	/**
+	 * Gets the Execute Write Time in [us]. See
+	 * {@link ChannelId#EXECUTE_WRITE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getExecuteWriteTime() {
+		return this.getExecuteWriteTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#EXECUTE_WRITE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setExecuteWriteTime(long value) {
+		this.getExecuteWriteTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#AFTER_WRITE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getAfterWriteTimeChannel() {
+		return this.channel(ChannelId.AFTER_WRITE_TIME);
+	}
+
+	/**
+	 * Gets the After Write Time in [us]. See
+	 * {@link ChannelId#AFTER_WRITE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getAfterWriteTime() {
+		return this.getAfterWriteTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#AFTER_WRITE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setAfterWriteTime(long value) {
+		this.getAfterWriteTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CYCLE_TIME_P50}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getCycleTimeP50Channel() {
+		return this.channel(ChannelId.CYCLE_TIME_P50);
+	}
+
+	/**
+	 * Gets the 50th percentile of the Cycle duration in [us]. See {@link ChannelId#CYCLE_TIME_P50}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getCycleTimeP50() {
+		return this.getCycleTimeP50Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#CYCLE_TIME_P50}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCycleTimeP50(long value) {
+		this.getCycleTimeP50Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CYCLE_TIME_P99}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getCycleTimeP99Channel() {
+		return this.channel(ChannelId.CYCLE_TIME_P99);
+	}
+
+	/**
+	 * Gets the 99th percentile of the Cycle duration in [us]. See {@link ChannelId#CYCLE_TIME_P99}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getCycleTimeP99() {
+		return this.getCycleTimeP99Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#CYCLE_TIME_P99}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCycleTimeP99(long value) {
+		this.getCycleTimeP99Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CYCLE_TIME_MAX}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getCycleTimeMaxChannel() {
+		return this.channel(ChannelId.CYCLE_TIME_MAX);
+	}
+
+	/**
+	 * Gets the maximum Cycle duration in [us]. See {@link ChannelId#CYCLE_TIME_MAX}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getCycleTimeMax() {
+		return this.getCycleTimeMaxChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#CYCLE_TIME_MAX}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCycleTimeMax(long value) {
+		this.getCycleTimeMaxChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the duration of one global OpenEMS Cycle in [ms].
 	 * 
@@ -0,0 +1,47 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.common.channel.value.Value;
+
+public class PastValuesTest {
+
+	@Test
+	public void test() throws InterruptedException {
+		PastValues<Integer> p = new PastValues<>(3);
+		Value<Integer> v1 = new Value<>(null, 1);
+		p.add(v1);
+		p.add(v1); // same object is ignored
+		assertEquals(1, p.size());
+
+		Thread.sleep(2);
+		p.add(new Value<>(null, 2));
+		Thread.sleep(2);
+		p.add(new Value<>(null, 3));
+		Thread.sleep(2);
+		Value<Integer> v4 = new Value<>(null, 4);
+		p.add(v4);
+		assertEquals(3, p.size());
+
+		Iterator<Value<Integer>> i = p.asMap().values().iterator();
+		assertEquals(2, (int) i.next().get());
+		assertEquals(3, (int) i.next().get());
+		assertSame(v4, i.next());
+
+		// range access
+		List<Value<Integer>> since = p.since(v4.getTimestamp());
+		assertEquals(1, since.size());
+		assertSame(v4, since.get(0));
+		since = p.since(v1.getTimestamp());
+		assertEquals(3, since.size());
+		assertEquals(2, (int) since.get(0).get());
+		assertEquals(0, p.since(v4.getTimestamp().plusSeconds(1)).size());
+	}
+
+}
@@ -7,6 +7,8 @@ import java.util.concurrent.CompletableFuture;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +26,7 @@ import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.meta.Meta;
 import io.openems.edge.common.modbusslave.ModbusRecord;
@@ -43,7 +46,7 @@ import io.openems.edge.controller.api.modbus.jsonrpc.GetModbusProtocolRequest;
 import io.openems.edge.controller.api.modbus.jsonrpc.GetModbusProtocolResponse;
 
 public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
-		implements ModbusTcpApi, Controller, OpenemsComponent, JsonApi {
+		implements ModbusTcpApi, Controller, OpenemsComponent, JsonApi, EventHandler {
 
 	public static final int UNIT_ID = 1;
 	public static final int DEFAULT_PORT = 502;
@@ -60,6 +63,11 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 	 */
 	protected final TreeMap<Integer, ModbusRecord> records = new TreeMap<>();
 
+	/**
+	 * Holds the current values of all records; updated once per Cycle.
+	 */
+	protected volatile RegisterImage registerImage = null;
+
 	/**
 	 * Holds the link between Modbus start address of a Component and the
 	 * Component-ID.
@@ -110,6 +118,11 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 		// Initialize Modbus Records
 		this.initializeModbusRecords(metaComponent, componentIds);
 
+		// Initialize Register Image
+		RegisterImage registerImage = new RegisterImage(this, this.records);
+		registerImage.update();
+		this.registerImage = registerImage;
+
 		// Start Modbus-Server
 		this.startApiWorker.activate(id);
 	}
@@ -294,6 +307,21 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 		this.apiWorker.run();
 	}
 
+	@Override
+	public void handleEvent(Event event) {
+		if (!this.isEnabled()) {
+			return;
+		}
+		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
+			RegisterImage registerImage = this.registerImage;
+			if (registerImage != null) {
+				registerImage.update();
+			}
+			break;
+		}
+	}
+
 	@Override
 	protected void logDebug(Logger log, String message) {
 		super.logDebug(log, message);
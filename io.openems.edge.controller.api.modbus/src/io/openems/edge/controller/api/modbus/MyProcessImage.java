@@ -1,7 +1,5 @@
 package io.openems.edge.controller.api.modbus;
 
-import java.util.SortedMap;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,11 +14,12 @@ import com.ghgande.j2mod.modbus.procimg.SimpleDigitalIn;
 import com.ghgande.j2mod.modbus.procimg.SimpleDigitalOut;
 import com.ghgande.j2mod.modbus.procimg.SimpleInputRegister;
 
-import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.modbusslave.ModbusRecord;
-
 /**
  * This implementation answers Modbus-TCP Slave requests.
+ *
+ * <p>
+ * Registers are served lock-free from the {@link RegisterImage}, which is
+ * updated once per Cycle.
  */
 public class MyProcessImage implements ProcessImage {
 
@@ -33,84 +32,35 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Reading Input Registers. Address [" + offset + "] Count [" + count + "].");
-		Register[] registers = this.getRegisterRange(offset, count);
-		Register[] result = new Register[registers.length];
-		for (int i = 0; i < registers.length; i++) {
-			result[i] = registers[i];
-		}
-		return result;
+		return this.getRegisterImage().getRegisterRange(this, offset, count);
 	}
 
 	@Override
-	public synchronized Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Reading Registers. Address [" + offset + "] Count [" + count + "].");
-		SortedMap<Integer, ModbusRecord> records = this.parent.records.subMap(offset, offset + count);
-		Register[] result = new Register[count];
-		for (int i = 0; i < count;) {
-			// Get record for modbus address
-			int ref = i + offset;
-			ModbusRecord record = records.get(ref);
-			if (record == null) {
-				throw new MyIllegalAddressException(this, "Record for Modbus address [" + ref + "] is undefined.");
-			}
-
-			// Get Registers from Record
-			Register[] registers = this.getRecordValueRegisters(record);
-
-			// make sure this Record fits
-			if (result.length < i + registers.length) {
-				throw new MyIllegalAddressException(this,
-						"Record for Modbus address [" + ref + "] does not fit in Result.");
-			}
-			for (int j = 0; j < registers.length; j++) {
-				result[i + j] = registers[j];
-			}
-
-			// increase i by word length
-			i += registers.length;
-		}
-		return result;
+		return this.getRegisterImage().getRegisterRange(this, offset, count);
 	}
 
 	@Override
-	public synchronized Register getRegister(int ref) throws MyIllegalAddressException {
+	public Register getRegister(int ref) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
-		ModbusRecord record = this.parent.records.get(ref);
-
-		// Get Registers from Record
-		Register[] registers = this.getRecordValueRegisters(record);
-
-		// make sure this Record requires only one Register/Word
-		if (registers.length > 1) {
-			throw new MyIllegalAddressException(this,
-					"Record for Modbus address [" + ref + "] requires more than one Register.");
-		}
-
-		return registers[0];
+		return this.getRegisterImage().getRegister(this, ref);
 	}
 
 	/**
-	 * Get value as byte-array and convert it to InputRegisters.
+	 * Gets the current {@link RegisterImage}.
 	 * 
-	 * @param record the record
-	 * @return the Register
+	 * @return the {@link RegisterImage}
+	 * @throws MyIllegalAddressException if the image is not yet available
 	 */
-	private Register[] getRecordValueRegisters(ModbusRecord record) {
-		MyRegister[] result = new MyRegister[record.getType().getWords()];
-		OpenemsComponent component = this.parent.getComponent(record.getComponentId());
-		byte[] value = record.getValue(component);
-		for (int j = 0; j < value.length / 2; j++) {
-			result[j] = new MyRegister(j, value[j * 2], value[j * 2 + 1], //
-					/*
-					 * On Set-Value event:
-					 */
-					(register) -> {
-						record.writeValue(component, register.getIndex(), register.getByte1(), register.getByte2());
-					});
+	private RegisterImage getRegisterImage() throws MyIllegalAddressException {
+		RegisterImage registerImage = this.parent.registerImage;
+		if (registerImage == null) {
+			throw new MyIllegalAddressException(this, "Register image is not yet available.");
 		}
-		return result;
+		return registerImage;
 	}
 
 	/**********************************************
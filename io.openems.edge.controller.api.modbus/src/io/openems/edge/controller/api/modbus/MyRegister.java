@@ -1,42 +1,48 @@
 package io.openems.edge.controller.api.modbus;
 
-import java.util.function.Consumer;
-
 import com.ghgande.j2mod.modbus.procimg.Register;
 
 /**
+ * A Register that reads its value from a word of a {@link RegisterImage} and
+ * forwards written values to a callback.
+ *
+ * <p>
  * Largely copied from
  * {@link com.ghgande.j2mod.modbus.procimg.SynchronizedAbstractRegister}.
  */
 public class MyRegister implements Register {
 
-	private final int index;
-	private final Consumer<MyRegister> onSetCallback;
-	private byte byte1;
-	private byte byte2;
-
-	public MyRegister(int index, byte byte1, byte byte2, Consumer<MyRegister> callback) {
-		this.index = index;
-		this.byte1 = byte1;
-		this.byte2 = byte2;
-		this.onSetCallback = callback;
+	/**
+	 * Callback for written values.
+	 */
+	@FunctionalInterface
+	public interface OnSetValue {
+
+		/**
+		 * Called when a value is written to the Register.
+		 *
+		 * @param index the index of the Register within its ModbusRecord
+		 * @param byte1 the high byte
+		 * @param byte2 the low byte
+		 */
+		public void accept(int index, byte byte1, byte byte2);
 	}
 
-	protected int getIndex() {
-		return this.index;
-	}
-
-	protected byte getByte1() {
-		return this.byte1;
-	}
+	private final short[] words;
+	private final int address;
+	private final int index;
+	private final OnSetValue onSetValue;
 
-	protected byte getByte2() {
-		return this.byte2;
+	public MyRegister(short[] words, int address, int index, OnSetValue onSetValue) {
+		this.words = words;
+		this.address = address;
+		this.index = index;
+		this.onSetValue = onSetValue;
 	}
 
 	@Override
 	public int getValue() {
-		return ((this.byte1 & 0xff) << 8 | (this.byte2 & 0xff));
+		return this.words[this.address] & 0xffff;
 	}
 
 	@Override
@@ -46,18 +52,17 @@ public class MyRegister implements Register {
 
 	@Override
 	public short toShort() {
-		return (short) this.getValue();
+		return this.words[this.address];
 	}
 
 	@Override
 	public byte[] toBytes() {
-		return new byte[] { this.byte1, this.byte2 };
+		short value = this.words[this.address];
+		return new byte[] { (byte) (0xff & (value >> 8)), (byte) (0xff & value) };
 	}
 
 	protected void setValue(byte byte1, byte byte2) {
-		this.byte1 = byte1;
-		this.byte2 = byte2;
-		this.onSetCallback.accept(this);
+		this.onSetValue.accept(this.index, byte1, byte2);
 	}
 
 	@Override
@@ -66,7 +71,7 @@ public class MyRegister implements Register {
 	}
 
 	@Override
-	public final synchronized void setValue(short s) {
+	public final void setValue(short s) {
 		this.setValue((byte) (0xff & (s >> 8)), (byte) (0xff & s));
 	}
 
@@ -0,0 +1,201 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.util.Map.Entry;
+import java.util.SortedMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+
+/**
+ * Holds the values of all {@link ModbusRecord}s as a precomputed image of
+ * Registers.
+ *
+ * <p>
+ * The image is double-buffered: {@link #update()} is called once per Cycle and
+ * fills the back buffer, which is then published as the front buffer. Modbus
+ * requests only copy preallocated {@link Register}s of the front buffer; they
+ * neither lock nor convert any values.
+ */
+public class RegisterImage {
+
+	private final Logger log = LoggerFactory.getLogger(RegisterImage.class);
+
+	private final AbstractModbusTcpApi parent;
+
+	/**
+	 * The ModbusRecords by start address; null if no record starts at the address.
+	 */
+	private final ModbusRecord[] records;
+
+	/**
+	 * The Components of the ModbusRecords by start address.
+	 */
+	private final OpenemsComponent[] components;
+
+	/**
+	 * The number of words of the record that starts at the address; zero if no
+	 * record starts at the address.
+	 */
+	private final int[] recordWords;
+
+	private final Buffer[] buffers = new Buffer[2];
+
+	private volatile Buffer front;
+
+	public RegisterImage(AbstractModbusTcpApi parent, SortedMap<Integer, ModbusRecord> records) {
+		this.parent = parent;
+		int size = 0;
+		if (!records.isEmpty()) {
+			int lastAddress = records.lastKey();
+			size = lastAddress + records.get(lastAddress).getType().getWords();
+		}
+		this.records = new ModbusRecord[size];
+		this.components = new OpenemsComponent[size];
+		this.recordWords = new int[size];
+		for (Entry<Integer, ModbusRecord> entry : records.entrySet()) {
+			int address = entry.getKey();
+			ModbusRecord record = entry.getValue();
+			this.records[address] = record;
+			this.components[address] = parent.getComponent(record.getComponentId());
+			this.recordWords[address] = record.getType().getWords();
+		}
+		this.buffers[0] = new Buffer(size);
+		this.buffers[1] = new Buffer(size);
+		this.front = this.buffers[0];
+	}
+
+	/**
+	 * Updates the image from the current Channel values. Called once per Cycle.
+	 */
+	public synchronized void update() {
+		Buffer back = this.front == this.buffers[0] ? this.buffers[1] : this.buffers[0];
+		for (int address = 0; address < this.records.length; address++) {
+			ModbusRecord record = this.records[address];
+			if (record == null) {
+				continue;
+			}
+			byte[] value;
+			try {
+				value = record.getValue(this.components[address]);
+			} catch (RuntimeException e) {
+				this.parent.logWarn(this.log, "Unable to get value of Record for Modbus address [" + address + "]: "
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+				value = new byte[0];
+			}
+			for (int j = 0; j < this.recordWords[address]; j++) {
+				if (value.length >= j * 2 + 2) {
+					back.words[address + j] = (short) ((value[j * 2] & 0xff) << 8 | (value[j * 2 + 1] & 0xff));
+				} else {
+					back.words[address + j] = 0;
+				}
+			}
+		}
+		this.front = back;
+	}
+
+	/**
+	 * Gets the Registers for the given address range.
+	 *
+	 * @param processImage the {@link MyProcessImage}, used for error reporting
+	 * @param offset       the start address
+	 * @param count        the number of Registers
+	 * @return the Registers
+	 * @throws MyIllegalAddressException if the range does not match the
+	 *                                   ModbusRecords
+	 */
+	public Register[] getRegisterRange(MyProcessImage processImage, int offset, int count)
+			throws MyIllegalAddressException {
+		this.validate(processImage, offset, count);
+		Register[] result = new Register[count];
+		System.arraycopy(this.front.registers, offset, result, 0, count);
+		return result;
+	}
+
+	/**
+	 * Gets the Register of a single-word ModbusRecord.
+	 *
+	 * @param processImage the {@link MyProcessImage}, used for error reporting
+	 * @param ref          the address
+	 * @return the Register
+	 * @throws MyIllegalAddressException if no single-word ModbusRecord starts at
+	 *                                   the address
+	 */
+	public Register getRegister(MyProcessImage processImage, int ref) throws MyIllegalAddressException {
+		if (ref < 0 || ref >= this.recordWords.length || this.recordWords[ref] == 0) {
+			throw new MyIllegalAddressException(processImage, "Record for Modbus address [" + ref + "] is undefined.");
+		}
+		if (this.recordWords[ref] > 1) {
+			throw new MyIllegalAddressException(processImage,
+					"Record for Modbus address [" + ref + "] requires more than one Register.");
+		}
+		return this.front.registers[ref];
+	}
+
+	/**
+	 * Makes sure the address range is made up of complete ModbusRecords.
+	 *
+	 * @param processImage the {@link MyProcessImage}, used for error reporting
+	 * @param offset       the start address
+	 * @param count        the number of Registers
+	 * @throws MyIllegalAddressException if the range does not match the
+	 *                                   ModbusRecords
+	 */
+	private void validate(MyProcessImage processImage, int offset, int count) throws MyIllegalAddressException {
+		for (int i = 0; i < count;) {
+			int ref = i + offset;
+			if (ref < 0 || ref >= this.recordWords.length || this.recordWords[ref] == 0) {
+				throw new MyIllegalAddressException(processImage,
+						"Record for Modbus address [" + ref + "] is undefined.");
+			}
+			// make sure this Record fits
+			if (count < i + this.recordWords[ref]) {
+				throw new MyIllegalAddressException(processImage,
+						"Record for Modbus address [" + ref + "] does not fit in Result.");
+			}
+			// increase i by word length
+			i += this.recordWords[ref];
+		}
+	}
+
+	/**
+	 * Called when a value is written to a Register. Writes are forwarded to the
+	 * ModbusRecord, which queues them for the next Cycle.
+	 *
+	 * @param startAddress the start address of the ModbusRecord
+	 * @param index        the index of the Register within the ModbusRecord
+	 * @param byte1        the high byte
+	 * @param byte2        the low byte
+	 */
+	private void onSetValue(int startAddress, int index, byte byte1, byte byte2) {
+		this.records[startAddress].writeValue(this.components[startAddress], index, byte1, byte2);
+	}
+
+	/**
+	 * One buffer of the image: the words and the preallocated Registers that read
+	 * them.
+	 */
+	private class Buffer {
+
+		private final short[] words;
+		private final Register[] registers;
+
+		private Buffer(int size) {
+			this.words = new short[size];
+			this.registers = new Register[size];
+			for (int address = 0; address < size; address++) {
+				int words = RegisterImage.this.recordWords[address];
+				for (int j = 0; j < words; j++) {
+					final int startAddress = address;
+					this.registers[address + j] = new MyRegister(this.words, address + j, j,
+							(index, byte1, byte2) -> RegisterImage.this.onSetValue(startAddress, index, byte1, byte2));
+				}
+			}
+		}
+	}
+
+}
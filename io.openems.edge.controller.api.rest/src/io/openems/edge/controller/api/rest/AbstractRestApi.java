@@ -29,6 +29,11 @@ public abstract class AbstractRestApi extends AbstractOpenemsComponent
 
 	protected final ApiWorker apiWorker = new ApiWorker();
 
+	/**
+	 * Cached credentials and session tokens; cleared on every (re)activation.
+	 */
+	private final CredentialCache credentialCache = new CredentialCache();
+
 	private final Logger log = LoggerFactory.getLogger(RestApiReadOnlyImpl.class);
 	private final String implementationName;
 
@@ -45,6 +50,7 @@ public abstract class AbstractRestApi extends AbstractOpenemsComponent
 			boolean isDebugModeEnabled, int apiTimeout, int port) {
 		super.activate(context, id, alias, enabled);
 		this.isDebugModeEnabled = isDebugModeEnabled;
+		this.credentialCache.clear();
 
 		if (!this.isEnabled()) {
 			// abort if disabled
@@ -75,6 +81,7 @@ public abstract class AbstractRestApi extends AbstractOpenemsComponent
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.credentialCache.clear();
 		if (this.server != null) {
 			try {
 				this.server.stop();
@@ -108,6 +115,10 @@ public abstract class AbstractRestApi extends AbstractOpenemsComponent
 		return this.isDebugModeEnabled;
 	}
 
+	protected CredentialCache getCredentialCache() {
+		return this.credentialCache;
+	}
+
 	/**
 	 * Gets the Timedata service.
 	 * 
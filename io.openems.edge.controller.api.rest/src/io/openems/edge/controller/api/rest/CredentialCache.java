@@ -0,0 +1,262 @@
+package io.openems.edge.controller.api.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.openems.edge.common.user.EdgeUser;
+
+/**
+ * Avoids the expensive password hashing of the {@link EdgeUser} for every HTTP
+ * request.
+ *
+ * <ul>
+ * <li>Successfully validated HTTP Basic credentials are remembered for
+ * {@link #CREDENTIALS_TTL_MILLIS} as a salted SHA-256 digest and compared in
+ * constant time.
+ * <li>Session tokens are issued on login and are valid for
+ * {@link #TOKEN_TTL_MILLIS} or until they are revoked on logout.
+ * </ul>
+ *
+ * <p>
+ * The credentials cache is bounded to {@link #MAX_ENTRIES} and drops the least
+ * recently used entry. Every user has at most {@link #MAX_TOKENS_PER_USER}
+ * tokens; on login the oldest token of the same user is revoked, so one user
+ * can never revoke the tokens of another user. Beyond {@link #MAX_ENTRIES}
+ * valid tokens in total, no further tokens are issued.
+ *
+ * <p>
+ * Failed authentications are never cached. The cache is cleared when the
+ * REST-Api is (re)activated, i.e. on every change of its configuration or of
+ * the UserService.
+ */
+public class CredentialCache {
+
+	public static final long TOKEN_TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+	protected static final long CREDENTIALS_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+	protected static final int MAX_ENTRIES = 100;
+	protected static final int MAX_TOKENS_PER_USER = 10;
+
+	private static final int TOKEN_LENGTH = 32;
+
+	private final SecureRandom random = new SecureRandom();
+
+	/**
+	 * Random salt for all digests of this instance.
+	 */
+	private final byte[] salt = new byte[TOKEN_LENGTH];
+
+	/**
+	 * Digest of the credentials per username.
+	 */
+	private final Map<String, CachedUser> credentials = new LruMap();
+
+	/**
+	 * Sessions per digest of the token. The map is looked up by the digest, so the
+	 * lookup does not reveal anything about valid tokens.
+	 */
+	private final Map<String, CachedUser> tokens = new HashMap<>();
+
+	/**
+	 * Digests of the tokens per User-ID; oldest first.
+	 */
+	private final Map<String, Deque<String>> tokensPerUser = new HashMap<>();
+
+	public CredentialCache() {
+		this.random.nextBytes(this.salt);
+	}
+
+	/**
+	 * Gets the cached {@link EdgeUser} for HTTP Basic credentials.
+	 *
+	 * @param username the username
+	 * @param password the password
+	 * @param now      the current time in milliseconds
+	 * @return the {@link EdgeUser}; empty if the credentials are not cached
+	 */
+	public synchronized Optional<EdgeUser> getUser(String username, String password, long now) {
+		CachedUser cached = this.credentials.get(username);
+		if (cached == null) {
+			return Optional.empty();
+		}
+		if (cached.expiresAt <= now) {
+			this.credentials.remove(username);
+			return Optional.empty();
+		}
+		if (!MessageDigest.isEqual(cached.digest, this.digest(username, password))) {
+			return Optional.empty();
+		}
+		return Optional.of(cached.user);
+	}
+
+	/**
+	 * Remembers successfully validated HTTP Basic credentials.
+	 *
+	 * @param username the username
+	 * @param password the password
+	 * @param user     the authenticated {@link EdgeUser}
+	 * @param now      the current time in milliseconds
+	 */
+	public synchronized void putUser(String username, String password, EdgeUser user, long now) {
+		this.credentials.put(username,
+				new CachedUser(user, this.digest(username, password), now + CREDENTIALS_TTL_MILLIS));
+	}
+
+	/**
+	 * Creates a new session token for an authenticated {@link EdgeUser}.
+	 * 
+	 * <p>
+	 * If the User already has {@link #MAX_TOKENS_PER_USER} tokens, the oldest one
+	 * is revoked.
+	 *
+	 * @param user the authenticated {@link EdgeUser}
+	 * @param now  the current time in milliseconds
+	 * @return the token; empty if the maximum number of tokens is reached
+	 */
+	public synchronized Optional<String> createToken(EdgeUser user, long now) {
+		Deque<String> userTokens = this.tokensPerUser.get(user.getId());
+		if (userTokens != null && userTokens.size() >= MAX_TOKENS_PER_USER) {
+			this.tokens.remove(userTokens.poll());
+		}
+		if (this.tokens.size() >= MAX_ENTRIES) {
+			this.removeExpiredTokens(now);
+			if (this.tokens.size() >= MAX_ENTRIES) {
+				return Optional.empty();
+			}
+		}
+
+		byte[] bytes = new byte[TOKEN_LENGTH];
+		this.random.nextBytes(bytes);
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+		String key = this.tokenKey(token);
+		this.tokens.put(key, new CachedUser(user, null, now + TOKEN_TTL_MILLIS));
+		this.tokensPerUser.computeIfAbsent(user.getId(), id -> new ArrayDeque<>()).add(key);
+		return Optional.of(token);
+	}
+
+	/**
+	 * Revokes a session token.
+	 *
+	 * @param token the token
+	 * @return true if the token was known
+	 */
+	public synchronized boolean revokeToken(String token) {
+		String key = this.tokenKey(token);
+		CachedUser cached = this.tokens.remove(key);
+		if (cached == null) {
+			return false;
+		}
+		this.removeFromUser(cached.user.getId(), key);
+		return true;
+	}
+
+	/**
+	 * Gets the {@link EdgeUser} for a session token.
+	 *
+	 * @param token the token
+	 * @param now   the current time in milliseconds
+	 * @return the {@link EdgeUser}; empty if the token is unknown or expired
+	 */
+	public synchronized Optional<EdgeUser> getUserForToken(String token, long now) {
+		String key = this.tokenKey(token);
+		CachedUser cached = this.tokens.get(key);
+		if (cached == null) {
+			return Optional.empty();
+		}
+		if (cached.expiresAt <= now) {
+			this.tokens.remove(key);
+			this.removeFromUser(cached.user.getId(), key);
+			return Optional.empty();
+		}
+		return Optional.of(cached.user);
+	}
+
+	/**
+	 * Removes all cached credentials and session tokens.
+	 */
+	public synchronized void clear() {
+		this.credentials.clear();
+		this.tokens.clear();
+		this.tokensPerUser.clear();
+	}
+
+	private void removeExpiredTokens(long now) {
+		Iterator<Map.Entry<String, CachedUser>> iterator = this.tokens.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, CachedUser> entry = iterator.next();
+			if (entry.getValue().expiresAt <= now) {
+				iterator.remove();
+				this.removeFromUser(entry.getValue().user.getId(), entry.getKey());
+			}
+		}
+	}
+
+	private void removeFromUser(String userId, String key) {
+		Deque<String> userTokens = this.tokensPerUser.get(userId);
+		if (userTokens != null) {
+			userTokens.remove(key);
+			if (userTokens.isEmpty()) {
+				this.tokensPerUser.remove(userId);
+			}
+		}
+	}
+
+	private String tokenKey(String token) {
+		return Base64.getEncoder().encodeToString(this.digest(token));
+	}
+
+	private byte[] digest(String... values) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is required on every Java platform
+			throw new IllegalStateException(e);
+		}
+		digest.update(this.salt);
+		for (String value : values) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+		return digest.digest();
+	}
+
+	private static class CachedUser {
+
+		private final EdgeUser user;
+		private final byte[] digest;
+		private final long expiresAt;
+
+		private CachedUser(EdgeUser user, byte[] digest, long expiresAt) {
+			this.user = user;
+			this.digest = digest;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	private static class LruMap extends LinkedHashMap<String, CachedUser> {
+
+		private static final long serialVersionUID = 1L;
+
+		private LruMap() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+			return this.size() > MAX_ENTRIES;
+		}
+	}
+
+}
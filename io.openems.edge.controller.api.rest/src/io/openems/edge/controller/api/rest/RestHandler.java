@@ -7,6 +7,7 @@ import java.io.UnsupportedEncodingException;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,6 +16,7 @@ import java.util.StringTokenizer;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.servlet.ServletException;
@@ -29,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.OpenemsConstants;
 import io.openems.common.exceptions.OpenemsError;
@@ -52,6 +55,7 @@ import io.openems.common.jsonrpc.response.QueryHistoricTimeseriesEnergyResponse;
 import io.openems.common.session.Role;
 import io.openems.common.session.User;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.Histogram;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.JsonUtils;
 import io.openems.common.utils.StringUtils;
@@ -64,20 +68,43 @@ import io.openems.edge.common.user.EdgeUser;
 
 public class RestHandler extends AbstractHandler {
 
+	private static final long AUTHENTICATION_LATENCY_LOG_INTERVAL = TimeUnit.MINUTES.toMillis(15);
+
+	private enum AuthenticationMethod {
+		/**
+		 * Session token.
+		 */
+		TOKEN,
+		/**
+		 * Cached HTTP Basic credentials.
+		 */
+		CACHE,
+		/**
+		 * HTTP Basic credentials validated by the UserService.
+		 */
+		PASSWORD;
+	}
+
 	private final Logger log = LoggerFactory.getLogger(RestHandler.class);
 
 	private final AbstractRestApi parent;
+	private final CredentialCache credentialCache;
+	private final Map<AuthenticationMethod, Histogram> authenticationLatencies = new EnumMap<>(
+			AuthenticationMethod.class);
+	private volatile long lastAuthenticationLatencyLog = System.currentTimeMillis();
 
 	public RestHandler(AbstractRestApi parent) {
 		this.parent = parent;
+		this.credentialCache = parent.getCredentialCache();
+		for (AuthenticationMethod method : AuthenticationMethod.values()) {
+			this.authenticationLatencies.put(method, new Histogram());
+		}
 	}
 
 	@Override
 	public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
 			throws IOException, ServletException {
 		try {
-			User user = this.authenticate(request);
-
 			List<String> targets = Arrays.asList(//
 					target.substring(1) // remove leading '/'
 							.split("/"));
@@ -89,6 +116,17 @@ public class RestHandler extends AbstractHandler {
 			String thisTarget = targets.get(0);
 			List<String> remainingTargets = targets.subList(1, targets.size());
 
+			if (thisTarget.equals("login")) {
+				this.handleLogin(baseRequest, request, response);
+				return;
+			}
+			if (thisTarget.equals("logout")) {
+				this.handleLogout(baseRequest, request, response);
+				return;
+			}
+
+			User user = this.authenticate(request, true);
+
 			switch (thisTarget) {
 			case "rest":
 				this.handleRest(user, remainingTargets, baseRequest, request, response);
@@ -120,17 +158,32 @@ public class RestHandler extends AbstractHandler {
 	/**
 	 * Authenticate a user.
 	 * 
-	 * @param request the HttpServletRequest
+	 * <p>
+	 * Supports HTTP Basic credentials and - if allowed - session tokens via
+	 * "Authorization: Bearer [token]".
+	 * 
+	 * @param request        the HttpServletRequest
+	 * @param isTokenAllowed true if a session token is accepted
 	 * @return the User
 	 * @throws OpenemsNamedException on error
 	 */
-	private User authenticate(HttpServletRequest request) throws OpenemsNamedException {
+	private EdgeUser authenticate(HttpServletRequest request, boolean isTokenAllowed) throws OpenemsNamedException {
 		String authHeader = request.getHeader("Authorization");
 		if (authHeader != null) {
 			StringTokenizer st = new StringTokenizer(authHeader);
 			if (st.hasMoreTokens()) {
-				String basic = st.nextToken();
-				if (basic.equalsIgnoreCase("Basic")) {
+				String scheme = st.nextToken();
+				if (isTokenAllowed && scheme.equalsIgnoreCase("Bearer") && st.hasMoreTokens()) {
+					// authenticate using session token
+					long start = System.nanoTime();
+					Optional<EdgeUser> userOpt = this.credentialCache.getUserForToken(st.nextToken(),
+							System.currentTimeMillis());
+					this.recordAuthenticationLatency(AuthenticationMethod.TOKEN, start);
+					if (userOpt.isPresent()) {
+						return userOpt.get();
+					}
+
+				} else if (scheme.equalsIgnoreCase("Basic")) {
 					String credentials;
 					try {
 						credentials = new String(Base64.getDecoder().decode(st.nextToken()), "UTF-8");
@@ -141,16 +194,7 @@ public class RestHandler extends AbstractHandler {
 					if (p != -1) {
 						String username = credentials.substring(0, p).trim();
 						String password = credentials.substring(p + 1).trim();
-						// authenticate using username & password
-						Optional<EdgeUser> userOpt = this.parent.getUserService().authenticate(username, password);
-						if (userOpt.isPresent()) {
-							return userOpt.get();
-						}
-						// authenticate using password only
-						userOpt = this.parent.getUserService().authenticate(password);
-						if (userOpt.isPresent()) {
-							return userOpt.get();
-						}
+						return this.authenticate(username, password);
 					}
 				}
 			}
@@ -158,6 +202,119 @@ public class RestHandler extends AbstractHandler {
 		throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
 	}
 
+	/**
+	 * Authenticate a user with HTTP Basic credentials, using the
+	 * {@link CredentialCache} if possible.
+	 * 
+	 * @param username the username
+	 * @param password the password
+	 * @return the User
+	 * @throws OpenemsNamedException on error
+	 */
+	private EdgeUser authenticate(String username, String password) throws OpenemsNamedException {
+		long now = System.currentTimeMillis();
+		long start = System.nanoTime();
+		Optional<EdgeUser> userOpt = this.credentialCache.getUser(username, password, now);
+		if (userOpt.isPresent()) {
+			this.recordAuthenticationLatency(AuthenticationMethod.CACHE, start);
+			return userOpt.get();
+		}
+
+		// authenticate using username & password
+		userOpt = this.parent.getUserService().authenticate(username, password);
+		if (!userOpt.isPresent()) {
+			// authenticate using password only
+			userOpt = this.parent.getUserService().authenticate(password);
+		}
+		this.recordAuthenticationLatency(AuthenticationMethod.PASSWORD, start);
+		if (userOpt.isPresent()) {
+			this.credentialCache.putUser(username, password, userOpt.get(), now);
+			return userOpt.get();
+		}
+		throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
+	}
+
+	/**
+	 * Records the latency of an authentication and regularly logs the latencies
+	 * per {@link AuthenticationMethod} in debug mode.
+	 * 
+	 * @param method the {@link AuthenticationMethod}
+	 * @param start  the start time from {@link System#nanoTime()}
+	 */
+	private void recordAuthenticationLatency(AuthenticationMethod method, long start) {
+		this.authenticationLatencies.get(method).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+
+		long now = System.currentTimeMillis();
+		if (!this.parent.isDebugModeEnabled()
+				|| now - this.lastAuthenticationLatencyLog < AUTHENTICATION_LATENCY_LOG_INTERVAL) {
+			return;
+		}
+		this.lastAuthenticationLatencyLog = now;
+		StringBuilder b = new StringBuilder("Authentication latencies:");
+		for (AuthenticationMethod m : AuthenticationMethod.values()) {
+			Histogram histogram = this.authenticationLatencies.get(m);
+			b.append(" " + m.name().toLowerCase() + " [" + histogram.getCount() + " requests, p50 "
+					+ histogram.getPercentile(50) + " us, p99 " + histogram.getPercentile(99) + " us]");
+		}
+		this.parent.logInfo(this.log, b.toString());
+	}
+
+	/**
+	 * Handles an http request to 'login' endpoint. Validates the HTTP Basic
+	 * credentials and responds with a session token.
+	 * 
+	 * @param baseRequest the HTTP POST base-request
+	 * @param request     the HTTP POST request
+	 * @param response    the HTTP response
+	 * @throws OpenemsNamedException on error
+	 */
+	private void handleLogin(Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+			throws OpenemsNamedException {
+		if (!request.getMethod().equals("POST")) {
+			throw new OpenemsException("Method [" + request.getMethod() + "] is not supported for login endpoint");
+		}
+		EdgeUser user = this.authenticate(request, false);
+		Optional<String> tokenOpt = this.credentialCache.createToken(user, System.currentTimeMillis());
+		if (!tokenOpt.isPresent()) {
+			throw new OpenemsException("Too many active sessions. Logout first or wait until a session expires.");
+		}
+		String token = tokenOpt.get();
+		if (this.parent.isDebugModeEnabled()) {
+			this.parent.logInfo(this.log, "REST login by User [" + user.getName() + "]");
+		}
+
+		JsonObject j = new JsonObject();
+		j.addProperty("token", token);
+		j.addProperty("expiresIn", TimeUnit.MILLISECONDS.toSeconds(CredentialCache.TOKEN_TTL_MILLIS));
+		this.sendOkResponse(baseRequest, response, j);
+	}
+
+	/**
+	 * Handles an http request to 'logout' endpoint. Revokes the session token
+	 * given via "Authorization: Bearer [token]".
+	 * 
+	 * @param baseRequest the HTTP POST base-request
+	 * @param request     the HTTP POST request
+	 * @param response    the HTTP response
+	 * @throws OpenemsNamedException on error
+	 */
+	private void handleLogout(Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+			throws OpenemsNamedException {
+		if (!request.getMethod().equals("POST")) {
+			throw new OpenemsException("Method [" + request.getMethod() + "] is not supported for logout endpoint");
+		}
+		String authHeader = request.getHeader("Authorization");
+		if (authHeader != null) {
+			StringTokenizer st = new StringTokenizer(authHeader);
+			if (st.countTokens() == 2 && st.nextToken().equalsIgnoreCase("Bearer")
+					&& this.credentialCache.revokeToken(st.nextToken())) {
+				this.sendOkResponse(baseRequest, response, new JsonObject());
+				return;
+			}
+		}
+		throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
+	}
+
 	private boolean handleRest(User user, List<String> targets, Request baseRequest, HttpServletRequest request,
 			HttpServletResponse response) throws IOException, OpenemsNamedException {
 		if (targets.isEmpty()) {
@@ -280,6 +437,23 @@ public class RestHandler extends AbstractHandler {
 		}
 	}
 
+	private boolean sendOkResponse(Request baseRequest, HttpServletResponse response,
+			JsonrpcResponseSuccess jsonrpcResponse) throws OpenemsException {
+		try {
+			response.setContentType("application/json");
+			response.setStatus(HttpServletResponse.SC_OK);
+			baseRequest.setHandled(true);
+			// stream the Response without building the JsonObject
+			JsonWriter writer = new JsonWriter(response.getWriter());
+			writer.setLenient(true);
+			jsonrpcResponse.write(writer);
+			writer.flush();
+			return true;
+		} catch (IOException e) {
+			throw new OpenemsException("Unable to send Ok-Response: " + e.getMessage());
+		}
+	}
+
 	/**
 	 * Handles HTTP POST request.
 	 *
@@ -403,7 +577,7 @@ public class RestHandler extends AbstractHandler {
 			}
 
 			// send response
-			this.sendOkResponse(baseRequest, httpResponse, response.toJsonObject());
+			this.sendOkResponse(baseRequest, httpResponse, response);
 
 		} catch (OpenemsNamedException e) {
 			this.sendErrorResponse(baseRequest, httpResponse, requestId,
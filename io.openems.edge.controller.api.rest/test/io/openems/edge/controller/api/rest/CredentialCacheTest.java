@@ -0,0 +1,96 @@
+package io.openems.edge.controller.api.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.session.Role;
+import io.openems.edge.common.user.EdgeUser;
+
+public class CredentialCacheTest {
+
+	private static final EdgeUser ADMIN = new EdgeUser("admin", "Admin", Role.ADMIN, new byte[0], new byte[0]);
+	private static final EdgeUser GUEST = new EdgeUser("guest", "Guest", Role.GUEST, new byte[0], new byte[0]);
+
+	@Test
+	public void testCredentials() {
+		CredentialCache cache = new CredentialCache();
+		cache.putUser("x", "admin", ADMIN, 0);
+
+		assertEquals(ADMIN, cache.getUser("x", "admin", 1).get());
+		assertFalse(cache.getUser("x", "wrong", 1).isPresent());
+		assertFalse(cache.getUser("y", "admin", 1).isPresent());
+
+		// expired
+		assertFalse(cache.getUser("x", "admin", CredentialCache.CREDENTIALS_TTL_MILLIS).isPresent());
+	}
+
+	@Test
+	public void testTokens() {
+		CredentialCache cache = new CredentialCache();
+		String adminToken = cache.createToken(ADMIN, 0).get();
+		String guestToken = cache.createToken(GUEST, 0).get();
+		assertNotEquals(adminToken, guestToken);
+
+		assertEquals(ADMIN, cache.getUserForToken(adminToken, 1).get());
+		assertEquals(GUEST, cache.getUserForToken(guestToken, 1).get());
+		assertFalse(cache.getUserForToken("unknown", 1).isPresent());
+
+		// revoked
+		assertTrue(cache.revokeToken(guestToken));
+		assertFalse(cache.revokeToken(guestToken));
+		assertFalse(cache.getUserForToken(guestToken, 1).isPresent());
+
+		// expired
+		assertFalse(cache.getUserForToken(adminToken, CredentialCache.TOKEN_TTL_MILLIS).isPresent());
+	}
+
+	@Test
+	public void testTokensPerUser() {
+		CredentialCache cache = new CredentialCache();
+		String adminToken = cache.createToken(ADMIN, 0).get();
+
+		// logins of another user never revoke the admin token
+		List<String> guestTokens = new ArrayList<>();
+		for (int i = 0; i < CredentialCache.MAX_ENTRIES; i++) {
+			guestTokens.add(cache.createToken(GUEST, 0).get());
+		}
+		assertEquals(ADMIN, cache.getUserForToken(adminToken, 1).get());
+
+		// only the newest tokens of the user stay valid
+		int valid = 0;
+		for (String token : guestTokens) {
+			if (cache.getUserForToken(token, 1).isPresent()) {
+				valid++;
+			}
+		}
+		assertEquals(CredentialCache.MAX_TOKENS_PER_USER, valid);
+		assertTrue(cache.getUserForToken(guestTokens.get(guestTokens.size() - 1), 1).isPresent());
+	}
+
+	@Test
+	public void testBounded() {
+		CredentialCache cache = new CredentialCache();
+		List<String> tokens = new ArrayList<>();
+		for (int i = 0; i < CredentialCache.MAX_ENTRIES; i++) {
+			EdgeUser user = new EdgeUser("user" + i, "User", Role.GUEST, new byte[0], new byte[0]);
+			tokens.add(cache.createToken(user, 0).get());
+		}
+
+		// no new token while all tokens are valid; existing tokens are kept
+		assertFalse(cache.createToken(ADMIN, 1).isPresent());
+		for (String token : tokens) {
+			assertTrue(cache.getUserForToken(token, 1).isPresent());
+		}
+
+		// expired tokens are replaced
+		assertTrue(cache.createToken(ADMIN, CredentialCache.TOKEN_TTL_MILLIS).isPresent());
+	}
+
+}
@@ -3,6 +3,8 @@ package io.openems.edge.controller.api.websocket;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
+import io.openems.common.websocket.AbstractWebsocketServer;
+
 @ObjectClassDefinition(//
 		name = "Controller Api Websocket", //
 		description = "This controller provides an HTTP Websocket/JSON api. It is required for OpenEMS UI.")
@@ -20,6 +22,9 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Port", description = "Port on which the Websocket server should listen.")
 	int port() default 8085;
 
+	@AttributeDefinition(name = "Pool size", description = "Number of threads per executor for Requests, Notifications and lifecycle events.")
+	int poolSize() default AbstractWebsocketServer.DEFAULT_POOL_SIZE;
+
 	@AttributeDefinition(name = "Api-Timeout", description = "Sets the timeout in seconds for updates on Channels set by this Api.")
 	int apiTimeout() default 60;
 
@@ -32,6 +32,8 @@ public class OnClose implements io.openems.common.websocket.OnClose {
 			logMessage = "Unknown User [" + wsData.getSessionToken() + "] closed websocket connection.";
 		}
 		this.parent.logInfo(this.log, logMessage);
+
+		wsData.dispose();
 	}
 
 }
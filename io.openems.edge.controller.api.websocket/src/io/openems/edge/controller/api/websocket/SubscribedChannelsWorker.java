@@ -15,10 +15,16 @@ public class SubscribedChannelsWorker extends io.openems.common.websocket.Subscr
 	private final WebsocketApi parent;
 
 	public SubscribedChannelsWorker(WebsocketApi parent, WsData wsData) {
-		super(wsData);
+		super(parent.subscribedChannelsScheduler, wsData);
 		this.parent = parent;
 	}
 
+	@Override
+	protected Object getGroupKey() {
+		// all Sessions receive the same data
+		return this.parent;
+	}
+
 	@Override
 	protected JsonElement getChannelValue(ChannelAddress channelAddress) {
 		try {
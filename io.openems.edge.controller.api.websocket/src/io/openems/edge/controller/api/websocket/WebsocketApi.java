@@ -31,6 +31,7 @@ import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.request.SubscribeSystemLogRequest;
 import io.openems.common.types.EdgeConfig;
+import io.openems.common.websocket.SubscribedChannelsScheduler;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
@@ -66,6 +67,8 @@ public class WebsocketApi extends AbstractOpenemsComponent
 
 	protected WebsocketServer server = null;
 
+	protected SubscribedChannelsScheduler subscribedChannelsScheduler = null;
+
 	/**
 	 * Stores valid session tokens for authentication via Cookie.
 	 */
@@ -111,22 +114,27 @@ public class WebsocketApi extends AbstractOpenemsComponent
 			return;
 		}
 		this.apiWorker.setTimeoutSeconds(config.apiTimeout());
-		this.startServer(config.port());
+		this.subscribedChannelsScheduler = new SubscribedChannelsScheduler();
+		this.startServer(config.port(), config.poolSize());
 	}
 
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
 		this.stopServer();
+		if (this.subscribedChannelsScheduler != null) {
+			this.subscribedChannelsScheduler.shutdown();
+		}
 	}
 
 	/**
 	 * Create and start new server.
 	 * 
-	 * @param port the port
+	 * @param port     the port
+	 * @param poolSize number of threads per executor
 	 */
-	private synchronized void startServer(int port) {
-		this.server = new WebsocketServer(this, "Websocket Api", port);
+	private synchronized void startServer(int port, int poolSize) {
+		this.server = new WebsocketServer(this, "Websocket Api", port, poolSize);
 		this.server.start();
 	}
 
@@ -0,0 +1,709 @@
+package io.openems.edge.controller.generic.jsonlogic;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * A JsonLogic rule that is compiled once into a tree of {@link Expression}s and
+ * {@link Action}s.
+ *
+ * <p>
+ * Every "var" and every output Channel-Address is resolved to a
+ * {@link ChannelHandle}. Evaluating the rule reads the Channel values directly,
+ * without building a data map or parsing Channel-Addresses. The semantics follow
+ * the json-logic-java library, which is still used for rules with operations
+ * that are not supported here (see {@link #compile(JsonElement)}).
+ */
+public class CompiledRule {
+
+	private final ChannelHandle[] handles;
+	private final Action action;
+
+	private CompiledRule(ChannelHandle[] handles, Action action) {
+		this.handles = handles;
+		this.action = action;
+	}
+
+	/**
+	 * Compiles a JsonLogic rule. The result of the rule is expected to be an array
+	 * of [Channel-Address, value] pairs, possibly chosen by "if"-operations.
+	 *
+	 * @param rule the JsonLogic rule
+	 * @return the {@link CompiledRule}
+	 * @throws OpenemsNamedException if the rule uses an operation that is not
+	 *                               supported or a Channel-Address is invalid
+	 */
+	public static CompiledRule compile(JsonElement rule) throws OpenemsNamedException {
+		Compiler compiler = new Compiler();
+		Action action = compiler.compileAction(rule);
+		return new CompiledRule(compiler.handles.values().toArray(new ChannelHandle[compiler.handles.size()]),
+				action);
+	}
+
+	/**
+	 * Gets the number of distinct Channels used by this rule.
+	 *
+	 * @return the number of Channels
+	 */
+	public int getNumberOfChannels() {
+		return this.handles.length;
+	}
+
+	/**
+	 * Evaluates the rule and sets the next write values of the output Channels.
+	 *
+	 * @param componentManager the {@link ComponentManager}
+	 * @throws OpenemsNamedException    if a Component is not available
+	 * @throws IllegalArgumentException if a Channel is not available
+	 */
+	public void execute(ComponentManager componentManager) throws IllegalArgumentException, OpenemsNamedException {
+		for (ChannelHandle handle : this.handles) {
+			handle.update(componentManager);
+		}
+		this.action.execute();
+	}
+
+	/**
+	 * Holds the Channel for a {@link ChannelAddress}. The Channel is resolved again
+	 * only if the Component instance changed.
+	 */
+	private static class ChannelHandle {
+
+		private final ChannelAddress address;
+
+		private OpenemsComponent component = null;
+		private Channel<?> channel = null;
+
+		private ChannelHandle(ChannelAddress address) {
+			this.address = address;
+		}
+
+		private void update(ComponentManager componentManager) throws IllegalArgumentException, OpenemsNamedException {
+			OpenemsComponent component = componentManager.getComponent(this.address.getComponentId());
+			if (component != this.component) {
+				this.channel = component.channel(this.address.getChannelId());
+				this.component = component;
+			}
+		}
+
+		private Object value() {
+			return this.channel.value().get();
+		}
+	}
+
+	/**
+	 * Translates the parsed JSON of a rule to {@link Expression}s and
+	 * {@link Action}s.
+	 */
+	private static class Compiler {
+
+		private final Map<ChannelAddress, ChannelHandle> handles = new LinkedHashMap<>();
+
+		private ChannelHandle handle(String channelAddress) throws OpenemsNamedException {
+			return this.handles.computeIfAbsent(ChannelAddress.fromString(channelAddress), ChannelHandle::new);
+		}
+
+		private Action compileAction(JsonElement json) throws OpenemsNamedException {
+			if (json.isJsonArray()) {
+				// Array of [Channel-Address, value] pairs
+				JsonArray array = json.getAsJsonArray();
+				ChannelHandle[] channels = new ChannelHandle[array.size()];
+				Expression[] values = new Expression[array.size()];
+				for (int i = 0; i < array.size(); i++) {
+					JsonElement request = array.get(i);
+					if (!request.isJsonArray() || request.getAsJsonArray().size() != 2
+							|| !isString(request.getAsJsonArray().get(0))) {
+						throw new OpenemsException("Expected [Channel-Address, value]. Got [" + request + "]");
+					}
+					channels[i] = this.handle(request.getAsJsonArray().get(0).getAsString());
+					values[i] = this.compileExpression(request.getAsJsonArray().get(1));
+				}
+				return new WriteAction(channels, values);
+			}
+
+			if (json.isJsonObject() && json.getAsJsonObject().size() == 1) {
+				Entry<String, JsonElement> operation = json.getAsJsonObject().entrySet().iterator().next();
+				if (operation.getKey().equals("if") || operation.getKey().equals("?:")) {
+					JsonArray args = asArray(operation.getValue());
+					int noOfConditions = args.size() / 2;
+					Expression[] conditions = new Expression[noOfConditions];
+					Action[] branches = new Action[noOfConditions];
+					for (int i = 0; i < noOfConditions; i++) {
+						conditions[i] = this.compileExpression(args.get(2 * i));
+						branches[i] = this.compileAction(args.get(2 * i + 1));
+					}
+					Action otherwise = args.size() % 2 == 1 ? this.compileAction(args.get(args.size() - 1)) : null;
+					return new IfAction(conditions, branches, otherwise);
+				}
+			}
+
+			throw new OpenemsException("Unsupported JsonLogic result [" + json + "]");
+		}
+
+		private Expression compileExpression(JsonElement json) throws OpenemsNamedException {
+			if (json.isJsonNull()) {
+				return new Literal(null);
+			}
+			if (json.isJsonPrimitive()) {
+				JsonPrimitive primitive = json.getAsJsonPrimitive();
+				if (primitive.isBoolean()) {
+					return new Literal(primitive.getAsBoolean());
+				} else if (primitive.isNumber()) {
+					return new Literal(primitive.getAsDouble());
+				} else {
+					return new Literal(primitive.getAsString());
+				}
+			}
+			if (!json.isJsonObject() || json.getAsJsonObject().size() != 1) {
+				throw new OpenemsException("Unsupported JsonLogic expression [" + json + "]");
+			}
+
+			Entry<String, JsonElement> operation = json.getAsJsonObject().entrySet().iterator().next();
+			String operator = operation.getKey();
+			if (operator.equals("var")) {
+				return this.compileVar(operation.getValue());
+			}
+
+			Expression[] args = this.compileArgs(operation.getValue());
+			switch (operator) {
+			case "if":
+			case "?:":
+				return new IfExpression(args);
+
+			case "==":
+			case "!=":
+			case "===":
+			case "!==":
+				if (args.length != 2) {
+					throw new OpenemsException("Operation [" + operator + "] expects exactly 2 arguments");
+				}
+				return new EqualityExpression(operator, args[0], args[1]);
+
+			case "<":
+			case "<=":
+			case ">":
+			case ">=":
+				if (args.length < 2) {
+					throw new OpenemsException("Operation [" + operator + "] expects at least 2 arguments");
+				}
+				return new ComparisonExpression(operator, args);
+
+			case "!":
+			case "!!":
+				if (args.length < 1) {
+					throw new OpenemsException("Operation [" + operator + "] expects at least 1 argument");
+				}
+				return new NotExpression(operator.equals("!!"), args[0]);
+
+			case "and":
+			case "or":
+				if (args.length < 1) {
+					throw new OpenemsException("Operation [" + operator + "] expects at least 1 argument");
+				}
+				return new LogicExpression(operator.equals("and"), args);
+
+			case "+":
+			case "-":
+			case "*":
+			case "/":
+			case "%":
+			case "min":
+			case "max":
+				return new MathExpression(operator, args);
+			}
+
+			throw new OpenemsException("Unsupported JsonLogic operation [" + operator + "]");
+		}
+
+		private Expression compileVar(JsonElement json) throws OpenemsNamedException {
+			JsonElement name = json;
+			Expression defaultValue = null;
+			if (json.isJsonArray()) {
+				JsonArray array = json.getAsJsonArray();
+				if (array.size() == 0 || array.size() > 2) {
+					throw new OpenemsException("Unsupported JsonLogic var [" + json + "]");
+				}
+				name = array.get(0);
+				if (array.size() == 2) {
+					defaultValue = this.compileExpression(array.get(1));
+				}
+			}
+			if (!isString(name)) {
+				throw new OpenemsException("Unsupported JsonLogic var [" + json + "]");
+			}
+			return new Var(this.handle(name.getAsString()), defaultValue);
+		}
+
+		private Expression[] compileArgs(JsonElement json) throws OpenemsNamedException {
+			if (!json.isJsonArray()) {
+				// Single argument
+				return new Expression[] { this.compileExpression(json) };
+			}
+			List<Expression> result = new ArrayList<>();
+			for (JsonElement arg : json.getAsJsonArray()) {
+				result.add(this.compileExpression(arg));
+			}
+			return result.toArray(new Expression[result.size()]);
+		}
+
+		private static JsonArray asArray(JsonElement json) {
+			if (json.isJsonArray()) {
+				return json.getAsJsonArray();
+			}
+			JsonArray result = new JsonArray();
+			result.add(json);
+			return result;
+		}
+
+		private static boolean isString(JsonElement json) {
+			return json.isJsonPrimitive() && json.getAsJsonPrimitive().isString();
+		}
+	}
+
+	/*
+	 * Actions
+	 */
+
+	private abstract static class Action {
+		protected abstract void execute() throws OpenemsNamedException;
+	}
+
+	private static class WriteAction extends Action {
+
+		private final ChannelHandle[] channels;
+		private final Expression[] values;
+
+		private WriteAction(ChannelHandle[] channels, Expression[] values) {
+			this.channels = channels;
+			this.values = values;
+		}
+
+		@Override
+		protected void execute() throws OpenemsNamedException {
+			for (int i = 0; i < this.channels.length; i++) {
+				Channel<?> channel = this.channels[i].channel;
+				if (!(channel instanceof WriteChannel)) {
+					throw new OpenemsException("Channel [" + this.channels[i].address + "] is not writable");
+				}
+				((WriteChannel<?>) channel).setNextWriteValueFromObject(this.values[i].evaluate());
+			}
+		}
+	}
+
+	private static class IfAction extends Action {
+
+		private final Expression[] conditions;
+		private final Action[] branches;
+		private final Action otherwise;
+
+		private IfAction(Expression[] conditions, Action[] branches, Action otherwise) {
+			this.conditions = conditions;
+			this.branches = branches;
+			this.otherwise = otherwise;
+		}
+
+		@Override
+		protected void execute() throws OpenemsNamedException {
+			for (int i = 0; i < this.conditions.length; i++) {
+				if (this.conditions[i].isTruthy()) {
+					this.branches[i].execute();
+					return;
+				}
+			}
+			if (this.otherwise != null) {
+				this.otherwise.execute();
+			}
+		}
+	}
+
+	/*
+	 * Expressions
+	 */
+
+	private abstract static class Expression {
+
+		/**
+		 * Evaluates to a Boolean, Number, String or null.
+		 *
+		 * @return the value
+		 */
+		protected abstract Object evaluate();
+
+		/**
+		 * Evaluates to a number; NaN if the value is not numeric.
+		 *
+		 * @return the value
+		 */
+		protected double evaluateDouble() {
+			return toDouble(this.evaluate());
+		}
+
+		/**
+		 * Evaluates to the JsonLogic "truthiness" of the value.
+		 *
+		 * @return the value
+		 */
+		protected boolean isTruthy() {
+			return truthy(this.evaluate());
+		}
+	}
+
+	private static class Literal extends Expression {
+
+		private final Object value;
+		private final double doubleValue;
+		private final boolean truthy;
+
+		private Literal(Object value) {
+			this.value = value;
+			this.doubleValue = toDouble(value);
+			this.truthy = truthy(value);
+		}
+
+		@Override
+		protected Object evaluate() {
+			return this.value;
+		}
+
+		@Override
+		protected double evaluateDouble() {
+			return this.doubleValue;
+		}
+
+		@Override
+		protected boolean isTruthy() {
+			return this.truthy;
+		}
+	}
+
+	private static class Var extends Expression {
+
+		private final ChannelHandle handle;
+		private final Expression defaultValue;
+
+		private Var(ChannelHandle handle, Expression defaultValue) {
+			this.handle = handle;
+			this.defaultValue = defaultValue;
+		}
+
+		@Override
+		protected Object evaluate() {
+			Object value = this.handle.value();
+			if (value == null && this.defaultValue != null) {
+				return this.defaultValue.evaluate();
+			}
+			return value;
+		}
+	}
+
+	private static class IfExpression extends Expression {
+
+		private final Expression[] args;
+
+		private IfExpression(Expression[] args) {
+			this.args = args;
+		}
+
+		@Override
+		protected Object evaluate() {
+			int i = 0;
+			for (; i + 1 < this.args.length; i += 2) {
+				if (this.args[i].isTruthy()) {
+					return this.args[i + 1].evaluate();
+				}
+			}
+			return i < this.args.length ? this.args[i].evaluate() : null;
+		}
+	}
+
+	private static class EqualityExpression extends Expression {
+
+		private final boolean isStrict;
+		private final boolean isNegated;
+		private final Expression left;
+		private final Expression right;
+
+		private EqualityExpression(String operator, Expression left, Expression right) {
+			this.isStrict = operator.length() == 3;
+			this.isNegated = operator.startsWith("!");
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		protected Object evaluate() {
+			return this.isTruthy();
+		}
+
+		@Override
+		protected boolean isTruthy() {
+			Object left = this.left.evaluate();
+			Object right = this.right.evaluate();
+			boolean isEqual = this.isStrict ? strictEquals(left, right) : looseEquals(left, right);
+			return isEqual != this.isNegated;
+		}
+
+		private static boolean strictEquals(Object left, Object right) {
+			if (left instanceof Number && right instanceof Number) {
+				return ((Number) left).doubleValue() == ((Number) right).doubleValue();
+			}
+			if (left == null) {
+				return right == null;
+			}
+			return left.equals(right);
+		}
+
+		private static boolean looseEquals(Object left, Object right) {
+			if (left == null || right == null) {
+				return left == right;
+			}
+			if (left instanceof Number && right instanceof Number) {
+				return ((Number) left).doubleValue() == ((Number) right).doubleValue();
+			}
+			if (left instanceof String && right instanceof String) {
+				return left.equals(right);
+			}
+			if (left instanceof Boolean && right instanceof Boolean) {
+				return left.equals(right);
+			}
+			if (left instanceof Number && right instanceof Boolean) {
+				return ((Number) left).doubleValue() == ((Boolean) right ? 1 : 0);
+			}
+			if (left instanceof Boolean && right instanceof Number) {
+				return ((Number) right).doubleValue() == ((Boolean) left ? 1 : 0);
+			}
+			if (left instanceof String && right instanceof Boolean) {
+				return truthy(left) == (Boolean) right;
+			}
+			if (left instanceof Boolean && right instanceof String) {
+				return truthy(right) == (Boolean) left;
+			}
+			if (left instanceof Number && right instanceof String) {
+				return ((Number) left).doubleValue() == parseDouble((String) right);
+			}
+			if (left instanceof String && right instanceof Number) {
+				return ((Number) right).doubleValue() == parseDouble((String) left);
+			}
+			return truthy(left) == truthy(right);
+		}
+
+		private static double parseDouble(String value) {
+			if (value.trim().isEmpty()) {
+				return 0;
+			}
+			return toDouble(value);
+		}
+	}
+
+	private static class ComparisonExpression extends Expression {
+
+		private final String operator;
+		private final Expression[] args;
+
+		private ComparisonExpression(String operator, Expression[] args) {
+			this.operator = operator;
+			this.args = args;
+		}
+
+		@Override
+		protected Object evaluate() {
+			return this.isTruthy();
+		}
+
+		@Override
+		protected boolean isTruthy() {
+			// Comparisons with NaN are always false, like comparisons with non-numeric
+			// values in JsonLogic
+			double a = this.args[0].evaluateDouble();
+			double b = this.args[1].evaluateDouble();
+			if (this.args.length == 2) {
+				return this.compare(a, b);
+			}
+			// "Between": a < b < c
+			double c = this.args[2].evaluateDouble();
+			return this.compare(a, b) && this.compare(b, c);
+		}
+
+		private boolean compare(double a, double b) {
+			switch (this.operator) {
+			case "<":
+				return a < b;
+			case "<=":
+				return a <= b;
+			case ">":
+				return a > b;
+			case ">=":
+				return a >= b;
+			}
+			return false;
+		}
+	}
+
+	private static class NotExpression extends Expression {
+
+		private final boolean isDouble;
+		private final Expression arg;
+
+		private NotExpression(boolean isDouble, Expression arg) {
+			this.isDouble = isDouble;
+			this.arg = arg;
+		}
+
+		@Override
+		protected Object evaluate() {
+			return this.isTruthy();
+		}
+
+		@Override
+		protected boolean isTruthy() {
+			return this.arg.isTruthy() == this.isDouble;
+		}
+	}
+
+	private static class LogicExpression extends Expression {
+
+		private final boolean isAnd;
+		private final Expression[] args;
+
+		private LogicExpression(boolean isAnd, Expression[] args) {
+			this.isAnd = isAnd;
+			this.args = args;
+		}
+
+		@Override
+		protected Object evaluate() {
+			// Returns the first falsy ("and") or truthy ("or") value; otherwise the last
+			Object value = null;
+			for (Expression arg : this.args) {
+				value = arg.evaluate();
+				if (truthy(value) != this.isAnd) {
+					return value;
+				}
+			}
+			return value;
+		}
+
+		@Override
+		protected boolean isTruthy() {
+			for (Expression arg : this.args) {
+				if (arg.isTruthy() != this.isAnd) {
+					return !this.isAnd;
+				}
+			}
+			return this.isAnd;
+		}
+	}
+
+	private static class MathExpression extends Expression {
+
+		private final String operator;
+		private final Expression[] args;
+
+		private MathExpression(String operator, Expression[] args) {
+			this.operator = operator;
+			this.args = args;
+		}
+
+		@Override
+		protected Object evaluate() {
+			double value = this.evaluateDouble();
+			return Double.isNaN(value) ? null : value;
+		}
+
+		@Override
+		protected boolean isTruthy() {
+			double value = this.evaluateDouble();
+			return !Double.isNaN(value) && value != 0;
+		}
+
+		@Override
+		protected double evaluateDouble() {
+			if (this.args.length == 0) {
+				return Double.NaN;
+			}
+			double result = this.args[0].evaluateDouble();
+			if (this.args.length == 1) {
+				// Unary minus; everything else returns the argument
+				return this.operator.equals("-") ? -result : result;
+			}
+			for (int i = 1; i < this.args.length; i++) {
+				double value = this.args[i].evaluateDouble();
+				switch (this.operator) {
+				case "+":
+					result += value;
+					break;
+				case "-":
+					result -= value;
+					break;
+				case "*":
+					result *= value;
+					break;
+				case "/":
+					result /= value;
+					break;
+				case "%":
+					result %= value;
+					break;
+				case "min":
+					result = Math.min(result, value);
+					break;
+				case "max":
+					result = Math.max(result, value);
+					break;
+				}
+			}
+			return result;
+		}
+	}
+
+	/*
+	 * Utils
+	 */
+
+	private static double toDouble(Object value) {
+		if (value instanceof Number) {
+			return ((Number) value).doubleValue();
+		}
+		if (value instanceof String) {
+			try {
+				return Double.parseDouble((String) value);
+			} catch (NumberFormatException e) {
+				return Double.NaN;
+			}
+		}
+		return Double.NaN;
+	}
+
+	private static boolean truthy(Object value) {
+		if (value == null) {
+			return false;
+		}
+		if (value instanceof Boolean) {
+			return (Boolean) value;
+		}
+		if (value instanceof Number) {
+			double d = ((Number) value).doubleValue();
+			return !Double.isNaN(d) && d != 0;
+		}
+		if (value instanceof String) {
+			return !((String) value).isEmpty();
+		}
+		return true;
+	}
+
+}
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -13,15 +14,19 @@ import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.metatype.annotations.Designate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 
 import io.github.meiskalt7.jsonlogic.JsonLogic;
 import io.github.meiskalt7.jsonlogic.JsonLogicException;
+import io.openems.common.channel.Unit;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.JsonUtils;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.channel.WriteChannel;
@@ -38,15 +43,33 @@ import io.openems.edge.controller.api.Controller;
 )
 public class JsonLogicController extends AbstractOpenemsComponent implements Controller, OpenemsComponent {
 
+	private final Logger log = LoggerFactory.getLogger(JsonLogicController.class);
 	private final JsonLogic jsonLogic = new JsonLogic();
 	private final List<ChannelAddress> channelAddresses = new ArrayList<>();
 
 	private Config config = null;
 
+	/**
+	 * The compiled rule; null if the rule can only be interpreted by the
+	 * json-logic-java library.
+	 */
+	private CompiledRule compiledRule = null;
+
 	@Reference
 	private ComponentManager componentManager;
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		/**
+		 * Time needed to evaluate the rule and set the output Channels.
+		 *
+		 * <ul>
+		 * <li>Interface: JsonLogicController
+		 * <li>Type: Long
+		 * <li>Unit: microseconds
+		 * </ul>
+		 */
+		EVALUATION_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
 		;
 
 		private final Doc doc;
@@ -74,7 +97,14 @@ public class JsonLogicController extends AbstractOpenemsComponent implements Con
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.config = config;
 
-		this.recursivelyParseVars(JsonUtils.parse(config.rule()));
+		JsonElement rule = JsonUtils.parse(config.rule());
+		try {
+			this.compiledRule = CompiledRule.compile(rule);
+		} catch (OpenemsNamedException e) {
+			this.logInfo(this.log, "Unable to compile rule; using interpreter: " + e.getMessage());
+			this.compiledRule = null;
+			this.recursivelyParseVars(rule);
+		}
 	}
 
 	@Deactivate
@@ -116,6 +146,25 @@ public class JsonLogicController extends AbstractOpenemsComponent implements Con
 
 	@Override
 	public void run() throws OpenemsNamedException {
+		long start = System.nanoTime();
+		try {
+			if (this.compiledRule != null) {
+				this.compiledRule.execute(this.componentManager);
+			} else {
+				this.interpret();
+			}
+		} finally {
+			this.channel(ChannelId.EVALUATION_TIME)
+					.setNextValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+		}
+	}
+
+	/**
+	 * Applies the rule using the json-logic-java library.
+	 * 
+	 * @throws OpenemsNamedException on error
+	 */
+	private void interpret() throws OpenemsNamedException {
 		// Read JsonLogic data from Channels
 		Map<String, Object> data = new HashMap<>();
 		for (ChannelAddress channelAddress : this.channelAddresses) {
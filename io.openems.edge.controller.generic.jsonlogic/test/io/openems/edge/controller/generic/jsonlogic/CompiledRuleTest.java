@@ -0,0 +1,139 @@
+package io.openems.edge.controller.generic.jsonlogic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.github.meiskalt7.jsonlogic.JsonLogic;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+
+public class CompiledRuleTest {
+
+	private static final int NO_OF_VARS = 50;
+	private static final ChannelAddress OUTPUT = new ChannelAddress("ess0", "SetActivePowerEquals");
+
+	@Test
+	public void testMatchesInterpreter() throws Exception {
+		DummySum sum = new DummySum();
+		DummyManagedSymmetricEss ess = new DummyManagedSymmetricEss(OUTPUT.getComponentId());
+		DummyComponentManager componentManager = new DummyComponentManager() //
+				.addComponent(sum) //
+				.addComponent(ess);
+
+		List<Channel<?>> channels = new ArrayList<>();
+		for (Channel<?> channel : sum.channels()) {
+			if (channel.getType() == OpenemsType.INTEGER) {
+				channels.add(channel);
+			}
+		}
+
+		// Some Channels are used by more than one "var"
+		List<Channel<?>> vars = new ArrayList<>();
+		for (int i = 0; i < NO_OF_VARS; i++) {
+			vars.add(channels.get(i % channels.size()));
+		}
+
+		JsonElement rule = buildRule(vars);
+		CompiledRule compiledRule = CompiledRule.compile(rule);
+		assertEquals(Math.min(channels.size(), NO_OF_VARS) + 1, compiledRule.getNumberOfChannels());
+
+		JsonLogic jsonLogic = new JsonLogic();
+		WriteChannel<Integer> output = ess.channel(OUTPUT.getChannelId());
+		Random random = new Random(42);
+		for (int i = 0; i < 1000; i++) {
+			Map<String, Object> data = new HashMap<>();
+			for (Channel<?> channel : channels) {
+				int value = random.nextInt(100);
+				channel.setNextValue(value);
+				channel.nextProcessImage();
+				data.put(channel.address().toString(), value);
+			}
+
+			// Expected result from json-logic-java
+			List<?> result = (List<?>) jsonLogic.apply(rule.toString(), data);
+			output.setNextWriteValueFromObject(((List<?>) result.get(0)).get(1));
+			Integer expected = output.getNextWriteValueAndReset().orElse(null);
+
+			compiledRule.execute(componentManager);
+			assertEquals(expected, output.getNextWriteValueAndReset().orElse(null));
+		}
+	}
+
+	/**
+	 * Builds a rule with comparisons, logic and math operations on the given
+	 * Channels.
+	 *
+	 * @param vars the Channels
+	 * @return the rule
+	 */
+	private static JsonElement buildRule(List<Channel<?>> vars) {
+		int half = vars.size() / 2;
+		JsonArray and = new JsonArray();
+		JsonArray plus = new JsonArray();
+		for (int i = 0; i < half; i++) {
+			and.add(operation(">=", var(vars.get(i)), new JsonPrimitive(5)));
+			plus.add(var(vars.get(i)));
+		}
+		JsonArray or = new JsonArray();
+		JsonArray max = new JsonArray();
+		for (int i = half; i < vars.size(); i++) {
+			or.add(operation("<", var(vars.get(i)), new JsonPrimitive(3)));
+			max.add(var(vars.get(i)));
+		}
+
+		JsonArray args = new JsonArray();
+		args.add(operation("and", and));
+		args.add(write(operation("+", plus)));
+		args.add(operation("or", or));
+		args.add(write(operation("max", max)));
+		args.add(write(operation("-", var(vars.get(0)), var(vars.get(vars.size() - 1)))));
+		return operation("if", args);
+	}
+
+	private static JsonObject var(Channel<?> channel) {
+		JsonObject result = new JsonObject();
+		result.addProperty("var", channel.address().toString());
+		return result;
+	}
+
+	private static JsonObject operation(String operator, JsonElement... args) {
+		JsonArray array = new JsonArray();
+		for (JsonElement arg : args) {
+			array.add(arg);
+		}
+		return operation(operator, array);
+	}
+
+	private static JsonObject operation(String operator, JsonArray args) {
+		JsonObject result = new JsonObject();
+		result.add(operator, args);
+		return result;
+	}
+
+	private static JsonArray write(JsonElement value) {
+		JsonArray request = new JsonArray();
+		request.add(OUTPUT.toString());
+		request.add(value);
+		JsonArray result = new JsonArray();
+		result.add(request);
+		return result;
+	}
+
+}
@@ -120,9 +120,8 @@ public class ChannelSingleThreshold extends AbstractOpenemsComponent implements
 
 		// Get average input value of the last 'minimumSwitchingTime' seconds
 		IntegerReadChannel inputChannel = this.componentManager.getChannel(inputChannelAddress);
-		Collection<Value<Integer>> values = inputChannel.getPastValues().tailMap(
-				LocalDateTime.now(this.componentManager.getClock()).minusSeconds(this.config.minimumSwitchingTime()),
-				true).values();
+		Collection<Value<Integer>> values = inputChannel.getPastValues(
+				LocalDateTime.now(this.componentManager.getClock()).minusSeconds(this.config.minimumSwitchingTime()));
 
 		// make sure we have at least one value
 		if (values.isEmpty()) {
@@ -7,8 +7,10 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -84,17 +86,52 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@Reference
 	protected ServiceComponentRuntime serviceComponentRuntime;
 
+	private final List<OpenemsComponent> enabledComponents = new CopyOnWriteArrayList<>();
+	private final List<OpenemsComponent> allComponents = new CopyOnWriteArrayList<>();
+
+	/**
+	 * The lazily built {@link Index}; reset whenever a Component is bound,
+	 * unbound or its service properties - e.g. the Component-ID - are updated.
+	 */
+	private volatile Index index = null;
+
 	@Reference(policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
 			cardinality = ReferenceCardinality.MULTIPLE, //
-			target = "(&(enabled=true)(!(service.factoryPid=Core.ComponentManager)))")
-	private volatile List<OpenemsComponent> enabledComponents = new CopyOnWriteArrayList<>();
+			target = "(&(enabled=true)(!(service.factoryPid=Core.ComponentManager)))", //
+			updated = "updatedEnabledComponent")
+	protected synchronized void addEnabledComponent(OpenemsComponent component) {
+		this.enabledComponents.add(component);
+		this.index = null;
+	}
+
+	protected synchronized void updatedEnabledComponent(OpenemsComponent component) {
+		this.index = null;
+	}
+
+	protected synchronized void removeEnabledComponent(OpenemsComponent component) {
+		this.enabledComponents.remove(component);
+		this.index = null;
+	}
 
 	@Reference(policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
 			cardinality = ReferenceCardinality.MULTIPLE, //
-			target = "(!(service.factoryPid=Core.ComponentManager))")
-	private volatile List<OpenemsComponent> allComponents = new CopyOnWriteArrayList<>();
+			target = "(!(service.factoryPid=Core.ComponentManager))", //
+			updated = "updatedComponent")
+	protected synchronized void addComponent(OpenemsComponent component) {
+		this.allComponents.add(component);
+		this.index = null;
+	}
+
+	protected synchronized void updatedComponent(OpenemsComponent component) {
+		this.index = null;
+	}
+
+	protected synchronized void removeComponent(OpenemsComponent component) {
+		this.allComponents.remove(component);
+		this.index = null;
+	}
 
 	public ComponentManagerImpl() {
 		super(//
@@ -137,6 +174,104 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 		return Collections.unmodifiableList(this.allComponents);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends OpenemsComponent> T getComponent(String componentId) throws OpenemsNamedException {
+		if (componentId.equals(OpenemsConstants.COMPONENT_MANAGER_ID)) {
+			return (T) this;
+		}
+		return (T) this.getIndexed(componentId, this.getIndex().enabledComponents, this.enabledComponents);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends OpenemsComponent> T getPossiblyDisabledComponent(String componentId)
+			throws OpenemsNamedException {
+		if (componentId.equals(OpenemsConstants.COMPONENT_MANAGER_ID)) {
+			return (T) this;
+		}
+		return (T) this.getIndexed(componentId, this.getIndex().allComponents, this.allComponents);
+	}
+
+	/**
+	 * Gets a Component from the {@link Index}.
+	 * 
+	 * <p>
+	 * The Component-ID might have changed since the {@link Index} was built - e.g.
+	 * on 'modified' before the service properties were updated. In this case the
+	 * hit is ignored and the Component is searched in the list; the Index is
+	 * rebuilt on the next lookup.
+	 * 
+	 * @param componentId the Component-ID
+	 * @param index       the indexed Components
+	 * @param components  the list of Components
+	 * @return the Component
+	 * @throws OpenemsNamedException if the Component was not found
+	 */
+	private OpenemsComponent getIndexed(String componentId, Map<String, OpenemsComponent> index,
+			List<OpenemsComponent> components) throws OpenemsNamedException {
+		OpenemsComponent component = index.get(componentId);
+		if (component != null && componentId.equals(component.id())) {
+			return component;
+		}
+		for (OpenemsComponent c : components) {
+			if (componentId.equals(c.id())) {
+				// Index is outdated
+				this.index = null;
+				return c;
+			}
+		}
+		if (component != null) {
+			this.index = null;
+		}
+		throw OpenemsError.EDGE_NO_COMPONENT_WITH_ID.exception(componentId);
+	}
+
+	/**
+	 * Gets the {@link Index}; builds it if a Component was bound or unbound since
+	 * the last call.
+	 * 
+	 * @return the {@link Index}
+	 */
+	private Index getIndex() {
+		Index index = this.index;
+		if (index == null) {
+			synchronized (this) {
+				index = this.index;
+				if (index == null) {
+					index = new Index(this.enabledComponents, this.allComponents);
+					this.index = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Immutable lookup tables for enabled and all Components by Component-ID.
+	 * 
+	 * <p>
+	 * Channels are not indexed, as Components may add and remove Channels at
+	 * runtime. getChannel() gets the Component from the Index and the Channel from
+	 * the Component.
+	 */
+	private static class Index {
+
+		private final Map<String, OpenemsComponent> enabledComponents = new HashMap<>();
+		private final Map<String, OpenemsComponent> allComponents = new HashMap<>();
+
+		private Index(List<OpenemsComponent> enabledComponents, List<OpenemsComponent> allComponents) {
+			// on duplicated Component-IDs the first Component wins, like on a linear
+			// search
+			for (OpenemsComponent component : enabledComponents) {
+				this.enabledComponents.putIfAbsent(component.id(), component);
+			}
+			for (OpenemsComponent component : allComponents) {
+				this.allComponents.putIfAbsent(component.id(), component);
+			}
+		}
+	}
+
 	@Override
 	public String debugLog() {
 		final List<String> logs = new ArrayList<String>();
@@ -379,13 +379,7 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 			}
 
 			// Update existing Channels
-			Map<String, io.openems.common.types.EdgeConfig.Component.Channel> resultChannels = resultComponent.get()
-					.getChannels();
-			for (Entry<String, io.openems.common.types.EdgeConfig.Component.Channel> channel : channels.entrySet()) {
-				if (!resultChannels.containsKey(channel.getKey())) {
-					resultChannels.put(channel.getKey(), channel.getValue());
-				}
-			}
+			resultComponent.get().addChannels(channels);
 
 		} else {
 			// Create new EdgeConfig.Component and add it to Result
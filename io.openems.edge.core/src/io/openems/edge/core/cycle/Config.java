@@ -13,6 +13,9 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Cycle-Time", description = "The duration of one global OpenEMS Cycle in [ms]")
 	int cycleTime() default Cycle.DEFAULT_CYCLE_TIME;
 
+	@AttributeDefinition(name = "Parallel process image?", description = "Switch the process image of the Channels of all Components in parallel. Only the Sum-Component is updated after all other Components; there is no further ordering between Components. Channel 'onUpdate' and 'onChange' callbacks - also those that read Channels of other Components - are then executed concurrently by multiple threads.")
+	boolean parallelProcessImage() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
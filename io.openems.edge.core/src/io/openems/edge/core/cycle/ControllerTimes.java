@@ -0,0 +1,117 @@
+package io.openems.edge.core.cycle;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.ChannelId;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.controller.api.Controller;
+
+/**
+ * Holds one Channel per executed Controller on the Cycle-Component, holding the
+ * execution time of its run() method in [us].
+ * 
+ * <p>
+ * The Channel-ID is the Controller-ID with suffix 'Time', e.g.
+ * '_cycle/ctrlBalancing0Time'. Channels of Controllers that were not executed
+ * in a Cycle are removed. This class is only accessed by the Cycle thread;
+ * other threads may iterate the Channels of the Cycle-Component concurrently,
+ * which is safe as the Channels of a Component are held in a concurrent map.
+ */
+public class ControllerTimes {
+
+	private static class ControllerTimeChannelId implements ChannelId {
+
+		private final String id;
+		private final Doc doc = Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS);
+
+		private ControllerTimeChannelId(String controllerId) {
+			this.id = controllerId + "Time";
+		}
+
+		@Override
+		public String name() {
+			return this.id;
+		}
+
+		@Override
+		public String id() {
+			return this.id;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	private static class Entry {
+		private final String controllerId;
+		private final LongReadChannel channel;
+		private long lastCycle;
+
+		private Entry(String controllerId, LongReadChannel channel) {
+			this.controllerId = controllerId;
+			this.channel = channel;
+		}
+	}
+
+	private final CycleImpl parent;
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	private long cycle = 0;
+	private int executed = 0;
+
+	public ControllerTimes(CycleImpl parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Sets the execution time of the given Controller.
+	 * 
+	 * @param controller the {@link Controller}
+	 * @param start      the start timestamp of run() from {@link System#nanoTime()}
+	 */
+	public void measure(Controller controller, long start) {
+		long duration = (System.nanoTime() - start) / 1000;
+		Entry entry = this.entries.get(controller.id());
+		if (entry == null) {
+			entry = new Entry(controller.id(),
+					(LongReadChannel) this.parent.addChannel(new ControllerTimeChannelId(controller.id())));
+			entry.lastCycle = this.cycle - 1;
+			this.entries.put(controller.id(), entry);
+		}
+		if (entry.lastCycle != this.cycle) {
+			entry.lastCycle = this.cycle;
+			this.executed++;
+		}
+		entry.channel.setNextValue(duration);
+		this.parent.getStatistics().recordController(controller.id(), duration);
+	}
+
+	/**
+	 * Finishes a Cycle: removes the Channels of Controllers that were not executed
+	 * in this Cycle.
+	 */
+	public void finishCycle() {
+		if (this.entries.size() > this.executed) {
+			Iterator<Entry> iterator = this.entries.values().iterator();
+			while (iterator.hasNext()) {
+				Entry entry = iterator.next();
+				if (entry.lastCycle != this.cycle) {
+					this.parent.removeChannel(entry.channel);
+					this.parent.getStatistics().removeController(entry.controllerId);
+					iterator.remove();
+				}
+			}
+		}
+		this.cycle++;
+		this.executed = 0;
+	}
+
+}
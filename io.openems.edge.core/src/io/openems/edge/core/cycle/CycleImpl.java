@@ -2,6 +2,9 @@ package io.openems.edge.core.cycle;
 
 import java.util.Comparator;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -18,11 +21,18 @@ import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 
 import io.openems.common.OpenemsConstants;
+import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
+import io.openems.common.session.User;
+import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.scheduler.api.Scheduler;
 
@@ -35,9 +45,11 @@ import io.openems.edge.scheduler.api.Scheduler;
 				"id=" + OpenemsConstants.CYCLE_ID, //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, JsonApi {
 
 	private final CycleWorker worker = new CycleWorker(this);
+	private final ControllerTimes controllerTimes = new ControllerTimes(this);
+	private final CycleStatistics statistics;
 
 	@Reference
 	protected EventAdmin eventAdmin;
@@ -54,7 +66,12 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	 */
 	protected final TreeSet<Scheduler> schedulers = new TreeSet<Scheduler>(Comparator.comparing(Scheduler::id));
 
-	private Config config = null;;
+	private Config config = null;
+
+	/**
+	 * Pool for switching the process image in parallel; null if disabled.
+	 */
+	private volatile ForkJoinPool processImagePool = null;
 
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
@@ -78,12 +95,23 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 				OpenemsComponent.ChannelId.values(), //
 				Cycle.ChannelId.values() //
 		);
+		this.statistics = new CycleStatistics(this, //
+				Cycle.ChannelId.BEFORE_PROCESS_IMAGE_TIME, //
+				Cycle.ChannelId.PROCESS_IMAGE_TIME, //
+				Cycle.ChannelId.AFTER_PROCESS_IMAGE_TIME, //
+				Cycle.ChannelId.BEFORE_CONTROLLERS_TIME, //
+				Cycle.ChannelId.CONTROLLERS_TIME, //
+				Cycle.ChannelId.AFTER_CONTROLLERS_TIME, //
+				Cycle.ChannelId.BEFORE_WRITE_TIME, //
+				Cycle.ChannelId.EXECUTE_WRITE_TIME, //
+				Cycle.ChannelId.AFTER_WRITE_TIME);
 	}
 
 	@Activate
 	void activate(ComponentContext context, Config config) {
 		super.activate(context, OpenemsConstants.CYCLE_ID, "Core.Cycle", true);
 		this.config = config;
+		this.applyProcessImagePool(config);
 		this.worker.activate("Core.Cycle");
 	}
 
@@ -91,6 +119,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.shutdownProcessImagePool();
 	}
 
 	@Modified
@@ -98,6 +127,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		super.modified(context, OpenemsConstants.CYCLE_ID, "Core.Cycle", true);
 		Config oldConfig = this.config;
 		this.config = config;
+		this.applyProcessImagePool(config);
 		// make sure the worker starts if it had been stopped
 		if (oldConfig.cycleTime() <= 0 && oldConfig.cycleTime() != config.cycleTime()) {
 			this.worker.triggerNextRun();
@@ -114,6 +144,71 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		super.logWarn(log, message);
 	}
 
+	/**
+	 * Creates or shuts down the {@link ForkJoinPool} for parallel switching of
+	 * the process image.
+	 * 
+	 * @param config the {@link Config}
+	 */
+	private synchronized void applyProcessImagePool(Config config) {
+		if (config.parallelProcessImage()) {
+			if (this.processImagePool == null) {
+				this.processImagePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+					ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					thread.setName("Core.Cycle-ProcessImage-" + thread.getPoolIndex());
+					return thread;
+				}, null, false);
+			}
+		} else {
+			this.shutdownProcessImagePool();
+		}
+	}
+
+	private synchronized void shutdownProcessImagePool() {
+		ForkJoinPool pool = this.processImagePool;
+		this.processImagePool = null;
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Gets the {@link ForkJoinPool} for parallel switching of the process image.
+	 * 
+	 * @return the pool; null if parallel switching is disabled
+	 */
+	protected ForkJoinPool getProcessImagePool() {
+		return this.processImagePool;
+	}
+
+	/**
+	 * Gets the {@link ControllerTimes}.
+	 * 
+	 * @return the {@link ControllerTimes}
+	 */
+	protected ControllerTimes getControllerTimes() {
+		return this.controllerTimes;
+	}
+
+	/**
+	 * Gets the {@link CycleStatistics}.
+	 * 
+	 * @return the {@link CycleStatistics}
+	 */
+	protected CycleStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	@Override
+	protected Channel<?> addChannel(io.openems.edge.common.channel.ChannelId channelId) {
+		return super.addChannel(channelId);
+	}
+
+	@Override
+	protected void removeChannel(Channel<?> channel) {
+		super.removeChannel(channel);
+	}
+
 	@Override
 	public int getCycleTime() {
 		Config config = this.config;
@@ -124,4 +219,33 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		}
 	}
 
+	@Override
+	public CompletableFuture<? extends JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest request)
+			throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("handleJsonrpcRequest", Role.GUEST);
+
+		switch (request.getMethod()) {
+
+		case GetCycleStatisticsRequest.METHOD:
+			return this.handleGetCycleStatisticsRequest(user, GetCycleStatisticsRequest.from(request));
+
+		default:
+			throw OpenemsError.JSONRPC_UNHANDLED_METHOD.exception(request.getMethod());
+		}
+	}
+
+	/**
+	 * Handles a GetCycleStatisticsRequest.
+	 * 
+	 * @param user    the User
+	 * @param request the GetCycleStatisticsRequest
+	 * @return the Future JSON-RPC Response
+	 * @throws OpenemsNamedException on error
+	 */
+	private CompletableFuture<JsonrpcResponseSuccess> handleGetCycleStatisticsRequest(User user,
+			GetCycleStatisticsRequest request) throws OpenemsNamedException {
+		return CompletableFuture.completedFuture(
+				new GetCycleStatisticsResponse(request.getId(), this.statistics.toJson()));
+	}
+
 }
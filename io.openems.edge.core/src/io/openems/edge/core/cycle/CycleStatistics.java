@@ -0,0 +1,177 @@
+package io.openems.edge.core.cycle;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.types.Histogram;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.cycle.Cycle;
+
+/**
+ * Collects {@link Histogram}s of the durations of the Cycle, each Cycle phase
+ * and each Controller in [us].
+ * 
+ * <p>
+ * Statistics are collected in windows of {@link #WINDOW_CYCLES} Cycles. At the
+ * end of each window the histograms of the finished window are published to
+ * the Channels and via {@link #toJson()}, and a new window is started.
+ * 
+ * <p>
+ * Recording is done by the Cycle thread and does not allocate; only finishing a
+ * window allocates new histograms.
+ */
+public class CycleStatistics {
+
+	/**
+	 * Number of Cycles per statistics window.
+	 */
+	public static final int WINDOW_CYCLES = 300;
+
+	/**
+	 * Holds the {@link Histogram} of the current and of the last finished window.
+	 */
+	private static class Probe {
+		private final Channel<Long> channel;
+		private volatile Histogram current = new Histogram();
+		private volatile Histogram last = new Histogram();
+
+		private Probe(Channel<Long> channel) {
+			this.channel = channel;
+		}
+
+		/**
+		 * Publishes the finished window and starts a new one. The histogram of the
+		 * finished window is never modified again, so concurrent readers of
+		 * {@link #last} always see a complete window.
+		 */
+		private void swap() {
+			this.last = this.current;
+			this.current = new Histogram();
+		}
+	}
+
+	private final CycleImpl parent;
+	private final Probe cycle = new Probe(null);
+	private final Map<Cycle.ChannelId, Probe> phases = new EnumMap<>(Cycle.ChannelId.class);
+	private final Map<String, Probe> controllers = new ConcurrentHashMap<>();
+
+	private int cycleCount = 0;
+
+	public CycleStatistics(CycleImpl parent, Cycle.ChannelId... phases) {
+		this.parent = parent;
+		for (Cycle.ChannelId phase : phases) {
+			this.phases.put(phase, new Probe(parent.channel(phase)));
+		}
+	}
+
+	/**
+	 * Finishes a Cycle phase: sets the duration in [us] as next value of the
+	 * Channel of the phase and records it.
+	 * 
+	 * @param phase the Channel-ID of the phase
+	 * @param start the start timestamp of the phase from {@link System#nanoTime()}
+	 * @return the current timestamp from {@link System#nanoTime()}, i.e. the start
+	 *         of the next phase
+	 */
+	public long measurePhase(Cycle.ChannelId phase, long start) {
+		long now = System.nanoTime();
+		long duration = (now - start) / 1000;
+		Probe probe = this.phases.get(phase);
+		probe.channel.setNextValue(duration);
+		probe.current.record(duration);
+		return now;
+	}
+
+	/**
+	 * Records the execution time of a Controller.
+	 * 
+	 * @param controllerId the Controller-ID
+	 * @param duration     the duration in [us]
+	 */
+	public void recordController(String controllerId, long duration) {
+		Probe probe = this.controllers.get(controllerId);
+		if (probe == null) {
+			probe = new Probe(null);
+			this.controllers.put(controllerId, probe);
+		}
+		probe.current.record(duration);
+	}
+
+	/**
+	 * Removes the statistics of a Controller.
+	 * 
+	 * @param controllerId the Controller-ID
+	 */
+	public void removeController(String controllerId) {
+		this.controllers.remove(controllerId);
+	}
+
+	/**
+	 * Records the duration of the whole Cycle and finishes the statistics window
+	 * if required.
+	 * 
+	 * @param duration the duration in [us]
+	 */
+	public void finishCycle(long duration) {
+		this.cycle.current.record(duration);
+		if (++this.cycleCount < WINDOW_CYCLES) {
+			return;
+		}
+		this.cycleCount = 0;
+
+		// Start new window
+		this.cycle.swap();
+		for (Probe probe : this.phases.values()) {
+			probe.swap();
+		}
+		for (Probe probe : this.controllers.values()) {
+			probe.swap();
+		}
+
+		// Publish Cycle-Time statistics
+		Histogram last = this.cycle.last;
+		this.parent._setCycleTimeP50(last.getPercentile(50));
+		this.parent._setCycleTimeP99(last.getPercentile(99));
+		this.parent._setCycleTimeMax(last.getMax());
+	}
+
+	/**
+	 * Exports the statistics of the last finished window as JSON.
+	 * 
+	 * <pre>
+	 * {
+	 *   "windowCycles": number,
+	 *   "cycle": {@link Histogram#toJson()},
+	 *   "phases": {
+	 *     [Channel-ID]: {@link Histogram#toJson()}
+	 *   },
+	 *   "controllers": {
+	 *     [Controller-ID]: {@link Histogram#toJson()}
+	 *   }
+	 * }
+	 * </pre>
+	 * 
+	 * @return a {@link JsonObject}
+	 */
+	public JsonObject toJson() {
+		JsonObject phases = new JsonObject();
+		for (Entry<Cycle.ChannelId, Probe> entry : this.phases.entrySet()) {
+			phases.add(entry.getKey().id(), entry.getValue().last.toJson());
+		}
+		JsonObject controllers = new JsonObject();
+		for (Entry<String, Probe> entry : this.controllers.entrySet()) {
+			controllers.add(entry.getKey(), entry.getValue().last.toJson());
+		}
+		JsonObject result = new JsonObject();
+		result.addProperty("windowCycles", WINDOW_CYCLES);
+		result.add("cycle", this.cycle.last.toJson());
+		result.add("phases", phases);
+		result.add("controllers", controllers);
+		return result;
+	}
+
+}
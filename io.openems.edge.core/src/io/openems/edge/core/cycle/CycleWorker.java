@@ -1,6 +1,11 @@
 package io.openems.edge.core.cycle;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.event.Event;
@@ -12,6 +17,8 @@ import com.google.common.base.Stopwatch;
 import info.faljse.SDNotify.SDNotify;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.Cycle;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
@@ -44,23 +51,34 @@ public class CycleWorker extends AbstractWorker {
 			}
 		}
 
+		// Prepare measurement of the Cycle phases
+		final CycleStatistics statistics = this.parent.getStatistics();
+		final long cycleStart = System.nanoTime();
+		long phaseStart = cycleStart;
+
 		try {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
 			this.parent.eventAdmin
 					.sendEvent(new Event(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, new HashMap<>()));
+			phaseStart = statistics.measurePhase(Cycle.ChannelId.BEFORE_PROCESS_IMAGE_TIME, phaseStart);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
-					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
+			ForkJoinPool processImagePool = this.parent.getProcessImagePool();
+			if (processImagePool != null) {
+				this.parallelNextProcessImage(processImagePool);
+			} else {
+				this.parent.componentManager.getEnabledComponents().stream() //
+						.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
+						.forEach(component -> {
+							component.channels().forEach(channel -> {
+								channel.nextProcessImage();
+							});
 						});
-					});
+			}
 			this.parent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
@@ -72,18 +90,21 @@ public class CycleWorker extends AbstractWorker {
 			this.parent.sumComponent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
+			phaseStart = statistics.measurePhase(Cycle.ChannelId.PROCESS_IMAGE_TIME, phaseStart);
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
 			this.parent.eventAdmin
 					.sendEvent(new Event(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE, new HashMap<>()));
+			phaseStart = statistics.measurePhase(Cycle.ChannelId.AFTER_PROCESS_IMAGE_TIME, phaseStart);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
 			this.parent.eventAdmin
 					.sendEvent(new Event(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS, new HashMap<>()));
+			phaseStart = statistics.measurePhase(Cycle.ChannelId.BEFORE_CONTROLLERS_TIME, phaseStart);
 
 			boolean hasDisabledController = false;
 
@@ -103,6 +124,7 @@ public class CycleWorker extends AbstractWorker {
 								continue;
 							}
 
+							final long controllerStart = System.nanoTime();
 							try {
 								// Execute Controller logic
 								controller.run();
@@ -127,6 +149,7 @@ public class CycleWorker extends AbstractWorker {
 								// announce running failed
 								controller._setRunFailed(true);
 							}
+							this.parent.getControllerTimes().measure(controller, controllerStart);
 						}
 
 						// announce running was ok or not ok.
@@ -144,26 +167,34 @@ public class CycleWorker extends AbstractWorker {
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
 
+			// remove time Channels of Controllers that were not executed
+			this.parent.getControllerTimes().finishCycle();
+			phaseStart = statistics.measurePhase(Cycle.ChannelId.CONTROLLERS_TIME, phaseStart);
+
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
 			this.parent.eventAdmin
 					.sendEvent(new Event(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS, new HashMap<>()));
+			phaseStart = statistics.measurePhase(Cycle.ChannelId.AFTER_CONTROLLERS_TIME, phaseStart);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
 			this.parent.eventAdmin.sendEvent(new Event(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE, new HashMap<>()));
+			phaseStart = statistics.measurePhase(Cycle.ChannelId.BEFORE_WRITE_TIME, phaseStart);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
 			this.parent.eventAdmin.sendEvent(new Event(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE, new HashMap<>()));
+			phaseStart = statistics.measurePhase(Cycle.ChannelId.EXECUTE_WRITE_TIME, phaseStart);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
 			this.parent.eventAdmin.sendEvent(new Event(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE, new HashMap<>()));
+			phaseStart = statistics.measurePhase(Cycle.ChannelId.AFTER_WRITE_TIME, phaseStart);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -175,6 +206,39 @@ public class CycleWorker extends AbstractWorker {
 
 		// Measure actual Cycle-Time
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+		statistics.finishCycle((System.nanoTime() - cycleStart) / 1000);
+	}
+
+	/**
+	 * Switches to the next process image for each Channel of each enabled
+	 * Component in parallel. Every Component is handled by one task; the method
+	 * returns after all tasks finished.
+	 * 
+	 * <p>
+	 * This is intentionally a Sum-only barrier: the Sum-Component is updated
+	 * afterwards by the caller, but there is no ordering between the other
+	 * Components. That's why parallel mode is opt-in.
+	 * 
+	 * @param pool the {@link ForkJoinPool}
+	 * @throws Exception on error
+	 */
+	private void parallelNextProcessImage(ForkJoinPool pool) throws Exception {
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (OpenemsComponent component : this.parent.componentManager.getEnabledComponents()) {
+			if (!component.isEnabled() || component instanceof Sum) {
+				continue;
+			}
+			tasks.add(() -> {
+				component.channels().forEach(channel -> {
+					channel.nextProcessImage();
+				});
+				return null;
+			});
+		}
+		// Barrier: wait for all tasks and forward any Exception
+		for (Future<Void> future : pool.invokeAll(tasks)) {
+			future.get();
+		}
 	}
 
 }
@@ -0,0 +1,44 @@
+package io.openems.edge.core.cycle;
+
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+
+/**
+ * Gets the execution time statistics of the Cycle, its phases and the
+ * Controllers.
+ * 
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getCycleStatistics",
+ *   "params": {}
+ * }
+ * </pre>
+ */
+public class GetCycleStatisticsRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "getCycleStatistics";
+
+	public static GetCycleStatisticsRequest from(JsonrpcRequest r) throws OpenemsException {
+		return new GetCycleStatisticsRequest(r.getId());
+	}
+
+	public GetCycleStatisticsRequest() {
+		this(UUID.randomUUID());
+	}
+
+	public GetCycleStatisticsRequest(UUID id) {
+		super(id, METHOD);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return new JsonObject();
+	}
+
+}
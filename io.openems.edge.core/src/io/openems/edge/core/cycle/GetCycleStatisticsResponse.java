@@ -0,0 +1,54 @@
+package io.openems.edge.core.cycle;
+
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+
+/**
+ * JSON-RPC Response to "getCycleStatistics" Request.
+ * 
+ * <p>
+ * All durations are in [us] and refer to the last finished statistics window.
+ * 
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "windowCycles": number,
+ *     "cycle": Histogram,
+ *     "phases": {
+ *       [Channel-ID: string]: Histogram
+ *     },
+ *     "controllers": {
+ *       [Controller-ID: string]: Histogram
+ *     }
+ *   }
+ * }
+ * 
+ * Histogram: {
+ *   "count": number,
+ *   "mean": number,
+ *   "p50": number,
+ *   "p99": number,
+ *   "max": number
+ * }
+ * </pre>
+ */
+public class GetCycleStatisticsResponse extends JsonrpcResponseSuccess {
+
+	private final JsonObject statistics;
+
+	public GetCycleStatisticsResponse(UUID id, JsonObject statistics) {
+		super(id);
+		this.statistics = statistics;
+	}
+
+	@Override
+	public JsonObject getResult() {
+		return this.statistics;
+	}
+
+}
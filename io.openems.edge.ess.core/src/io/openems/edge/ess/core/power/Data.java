@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -40,6 +41,11 @@ public class Data {
 	private final List<Constraint> constraints = new CopyOnWriteArrayList<>();
 	private final Coefficients coefficients = new Coefficients();
 
+	/**
+	 * Increased whenever the set of Constraints might have changed.
+	 */
+	private final AtomicInteger version = new AtomicInteger(0);
+
 	private boolean symmetricMode = PowerComponent.DEFAULT_SYMMETRIC_MODE;
 	private Consumer<Boolean> onStaticConstraintsFailed = null;
 
@@ -86,6 +92,7 @@ public class Data {
 	}
 
 	private synchronized void updateInverters() {
+		this.increaseVersion();
 		this.inverters.clear();
 
 		// Create inverters and add them to list
@@ -111,6 +118,7 @@ public class Data {
 	protected synchronized void initializeCycle() {
 		// Remove Constraints of last Cycle
 		this.constraints.clear();
+		this.increaseVersion();
 		// Update sorting of Inverters
 		WeightsUtil.updateWeightsFromSoc(this.inverters, this.esss);
 		WeightsUtil.adjustSortingByWeights(this.inverters);
@@ -126,10 +134,30 @@ public class Data {
 
 	protected void addConstraint(Constraint constraint) {
 		this.constraints.add(constraint);
+		this.increaseVersion();
 	}
 
 	protected void removeConstraint(Constraint constraint) {
 		this.constraints.remove(constraint);
+		this.increaseVersion();
+	}
+
+	/**
+	 * Marks the Constraints as changed, e.g. because the Channel values that are
+	 * used for the generic ESS Constraints were updated.
+	 */
+	protected void increaseVersion() {
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * Gets the version of the Constraints. It changes whenever a Constraint is
+	 * added or removed, on every Cycle and when the Ess change.
+	 * 
+	 * @return the version
+	 */
+	public int getVersion() {
+		return this.version.get();
 	}
 
 	/**
@@ -152,6 +180,7 @@ public class Data {
 		}
 		this.constraints.add(ConstraintUtil.createSimpleConstraint(this.coefficients, //
 				description, essId, phase, pwr, relationship, value));
+		this.increaseVersion();
 	}
 
 	/**
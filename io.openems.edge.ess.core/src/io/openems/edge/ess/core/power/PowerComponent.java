@@ -60,7 +60,29 @@ public interface PowerComponent extends OpenemsComponent, EventHandler, Power {
 		 * <li>Type: Boolean
 		 * </ul>
 		 */
-		STATIC_CONSTRAINTS_FAILED(Doc.of(Level.FAULT));
+		STATIC_CONSTRAINTS_FAILED(Doc.of(Level.FAULT)),
+		/**
+		 * Number of Power extrema requests in the last Cycle that were answered from
+		 * the cache.
+		 * 
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		EXTREMA_CACHE_HITS(Doc.of(OpenemsType.INTEGER)),
+		/**
+		 * Number of Power extrema requests in the last Cycle that required solving a
+		 * linear problem.
+		 * 
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		EXTREMA_CACHE_MISSES(Doc.of(OpenemsType.INTEGER));
 
 		private final Doc doc;
 
@@ -149,4 +171,42 @@ public interface PowerComponent extends OpenemsComponent, EventHandler, Power {
 		this.getStaticConstraintsFailedChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#EXTREMA_CACHE_HITS}.
+	 * 
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getExtremaCacheHitsChannel() {
+		return this.channel(ChannelId.EXTREMA_CACHE_HITS);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#EXTREMA_CACHE_HITS} Channel.
+	 * 
+	 * @param value the next value
+	 */
+	public default void _setExtremaCacheHits(int value) {
+		this.getExtremaCacheHitsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#EXTREMA_CACHE_MISSES}.
+	 * 
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getExtremaCacheMissesChannel() {
+		return this.channel(ChannelId.EXTREMA_CACHE_MISSES);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#EXTREMA_CACHE_MISSES} Channel.
+	 * 
+	 * @param value the next value
+	 */
+	public default void _setExtremaCacheMisses(int value) {
+		this.getExtremaCacheMissesChannel().setNextValue(value);
+	}
+
 }
@@ -29,7 +29,7 @@ import io.openems.edge.common.filter.PidFilter;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.LogUtil;
-import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
+import io.openems.edge.ess.core.power.solver.LinearConstraintsSolver;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Phase;
@@ -46,6 +46,7 @@ import io.openems.edge.ess.power.api.Relationship;
 		property = { //
 				"id=_power", //
 				"enabled=true", //
+				EventConstants.EVENT_TOPIC + "=" + EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE, //
 				EventConstants.EVENT_TOPIC + "=" + EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE, //
 				EventConstants.EVENT_TOPIC + "=" + EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE //
 		})
@@ -56,6 +57,7 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 
 	private final Data data;
 	private final Solver solver;
+	private final PowerExtrema extrema;
 
 	private boolean debugMode = PowerComponentImpl.DEFAULT_DEBUG_MODE;
 
@@ -70,6 +72,7 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 		this.data = new Data();
 		this.data.onStaticConstraintsFailed(value -> this._setStaticConstraintsFailed(value));
 
+		this.extrema = new PowerExtrema(this.data);
 		this.solver = new Solver(this.data);
 		this.solver.onSolved((isSolved, duration, strategy) -> {
 			this._setNotSolved(!isSolved);
@@ -87,6 +90,7 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		LinearConstraintsSolver.clearCache();
 	}
 
 	@Modified
@@ -181,15 +185,13 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 	}
 
 	private int getActivePowerExtrema(ManagedSymmetricEss ess, Phase phase, Pwr pwr, GoalType goal) {
-		final List<Constraint> allConstraints;
+		final double power;
 		try {
-			allConstraints = this.data.getConstraintsForAllInverters();
+			power = this.extrema.get(ess.id(), phase, pwr, goal);
 		} catch (OpenemsException e) {
 			this.logError(this.log, "Unable to get Constraints " + e.getMessage());
 			return 0;
 		}
-		double power = CalculatePowerExtrema.from(this.data.getCoefficients(), allConstraints, ess.id(), phase, pwr,
-				goal);
 		if (power > Integer.MIN_VALUE && power < Integer.MAX_VALUE) {
 			if (goal == GoalType.MAXIMIZE) {
 				return (int) Math.floor(power);
@@ -206,11 +208,17 @@ public class PowerComponentImpl extends AbstractOpenemsComponent
 	@Override
 	public void handleEvent(Event event) {
 		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
+			// Ess Channel values for the generic Constraints changed
+			this.data.increaseVersion();
+			break;
 		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE:
 			this.solver.solve(this.config.strategy());
 			break;
 		case EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE:
 			this.data.initializeCycle();
+			this._setExtremaCacheHits(this.extrema.getAndResetHits());
+			this._setExtremaCacheMisses(this.extrema.getAndResetMisses());
 			break;
 		}
 	}
@@ -0,0 +1,125 @@
+package io.openems.edge.ess.core.power;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.optim.linear.LinearConstraintSet;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
+import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
+import io.openems.edge.ess.power.api.Coefficient;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+
+/**
+ * Memoizes the minimum and maximum Power per Coefficient.
+ *
+ * <p>
+ * Controllers ask for the extrema of every ESS repeatedly within one Cycle. The
+ * {@link LinearConstraintSet} is built only once per version of the
+ * Constraints (see {@link Data#getVersion()}) and every extremum is solved at
+ * most once per version.
+ */
+public class PowerExtrema {
+
+	private final Data data;
+
+	private int version = -1;
+	private LinearConstraintSet constraints = null;
+	private double[] minima = new double[0];
+	private double[] maxima = new double[0];
+
+	private int hits = 0;
+	private int misses = 0;
+
+	public PowerExtrema(Data data) {
+		this.data = data;
+	}
+
+	/**
+	 * Gets the extrema under the current Constraints for the given parameters.
+	 *
+	 * @param essId the ID of the ESS
+	 * @param phase the {@link Phase}
+	 * @param pwr   the {@link Pwr}
+	 * @param goal  the {@link GoalType}
+	 * @return the extrema value; or 0 on error
+	 * @throws OpenemsException on error while getting the Constraints
+	 */
+	public synchronized double get(String essId, Phase phase, Pwr pwr, GoalType goal) throws OpenemsException {
+		Coefficients coefficients = this.data.getCoefficients();
+		this.update(coefficients);
+
+		final Coefficient coefficient;
+		try {
+			coefficient = coefficients.of(essId, phase, pwr);
+		} catch (IllegalArgumentException e) {
+			// let CalculatePowerExtrema handle the error
+			this.misses++;
+			return CalculatePowerExtrema.from(coefficients, this.constraints, essId, phase, pwr, goal);
+		}
+
+		double[] cache = goal == GoalType.MAXIMIZE ? this.maxima : this.minima;
+		int index = coefficient.getIndex();
+		if (index < cache.length && !Double.isNaN(cache[index])) {
+			this.hits++;
+			return cache[index];
+		}
+
+		this.misses++;
+		double result = CalculatePowerExtrema.from(coefficients, this.constraints, essId, phase, pwr, goal);
+		if (index < cache.length) {
+			cache[index] = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of cache hits since the last call and resets it.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized int getAndResetHits() {
+		int result = this.hits;
+		this.hits = 0;
+		return result;
+	}
+
+	/**
+	 * Gets the number of cache misses since the last call and resets it.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized int getAndResetMisses() {
+		int result = this.misses;
+		this.misses = 0;
+		return result;
+	}
+
+	/**
+	 * Rebuilds the {@link LinearConstraintSet} and clears the memoized extrema if
+	 * the Constraints changed.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @throws OpenemsException on error while getting the Constraints
+	 */
+	private void update(Coefficients coefficients) throws OpenemsException {
+		int version = this.data.getVersion();
+		if (version == this.version && this.constraints != null) {
+			return;
+		}
+		this.constraints = new LinearConstraintSet(LinearSolverUtil.convertToLinearConstraints(coefficients,
+				this.data.getConstraintsForAllInverters()));
+		int noOfCoefficients = coefficients.getNoOfCoefficients();
+		if (this.minima.length != noOfCoefficients) {
+			this.minima = new double[noOfCoefficients];
+			this.maxima = new double[noOfCoefficients];
+		}
+		Arrays.fill(this.minima, Double.NaN);
+		Arrays.fill(this.maxima, Double.NaN);
+		this.version = version;
+	}
+
+}
@@ -39,6 +39,26 @@ public class CalculatePowerExtrema {
 	 */
 	public static double from(Coefficients coefficients, List<Constraint> allConstraints, String essId, Phase phase,
 			Pwr pwr, GoalType goal) {
+		LinearConstraintSet constraints = new LinearConstraintSet(
+				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
+		return from(coefficients, constraints, essId, phase, pwr, goal);
+	}
+
+	/**
+	 * Calculates the extrema under the given, already converted constraints for
+	 * the given parameters.
+	 * 
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  the {@link LinearConstraintSet} of all active
+	 *                     {@link Constraint}s
+	 * @param essId        the ID of the {@link ManagedSymmetricEss}
+	 * @param phase        the {@link Phase}
+	 * @param pwr          the {@link Pwr}
+	 * @param goal         the {@link GoalType}
+	 * @return the extrema value; or 0 on error
+	 */
+	public static double from(Coefficients coefficients, LinearConstraintSet constraints, String essId, Phase phase,
+			Pwr pwr, GoalType goal) {
 		// prepare objective function
 		int index;
 		try {
@@ -51,9 +71,6 @@ public class CalculatePowerExtrema {
 		cos[index] = 1;
 		LinearObjectiveFunction objectiveFunction = new LinearObjectiveFunction(cos, 0);
 
-		LinearConstraintSet constraints = new LinearConstraintSet(
-				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
-
 		SimplexSolver solver = new SimplexSolver();
 		try {
 			PointValuePair solution = solver.optimize(//
@@ -1,14 +1,22 @@
 package io.openems.edge.ess.core.power.solver;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.linear.RealVector;
 import org.apache.commons.math3.optim.PointValuePair;
 import org.apache.commons.math3.optim.linear.LinearConstraint;
 import org.apache.commons.math3.optim.linear.LinearConstraintSet;
 import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
 import org.apache.commons.math3.optim.linear.PivotSelectionRule;
 import org.apache.commons.math3.optim.linear.SimplexSolver;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 
 import io.openems.edge.ess.core.power.data.LinearSolverUtil;
@@ -16,9 +24,33 @@ import io.openems.edge.ess.power.api.Coefficients;
 
 public class LinearConstraintsSolver {
 
+	/**
+	 * Maximum estimated memory of the cached results in [byte]. One Solver run
+	 * checks a few dozen problems, e.g. for every tested set of disabled
+	 * Inverters.
+	 */
+	private static final int MAX_CACHED_BYTES = 256 * 1024;
+
+	/**
+	 * Caches the results of recently solved problems. Within one Cycle the same
+	 * problem is solved repeatedly (e.g. isSolvable(), reducing the number of
+	 * used Inverters and the final strategies); between Cycles the Constraints
+	 * are often unchanged.
+	 */
+	private static final Map<Problem, Result> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Estimated memory of all entries in {@link #CACHE} in [byte].
+	 */
+	private static int cachedBytes = 0;
+
 	/**
 	 * Solves the problem with the given list of LinearConstraints.
-	 * 
+	 *
+	 * <p>
+	 * If the very same problem was solved before, the cached solution is returned
+	 * - or the cached failure is thrown - without running the SimplexSolver.
+	 *
 	 * @param coefficients the {@link Coefficients}
 	 * @param constraints  a list of LinearConstraints
 	 * @return a solution as {@link PointValuePair}
@@ -26,6 +58,67 @@ public class LinearConstraintsSolver {
 	 */
 	public static PointValuePair solve(Coefficients coefficients, List<LinearConstraint> constraints)
 			throws MathIllegalStateException {
+		Problem problem = new Problem(constraints);
+		Result result;
+		synchronized (CACHE) {
+			result = CACHE.get(problem);
+		}
+		if (result != null) {
+			return result.get();
+		}
+
+		try {
+			PointValuePair solution = solveWithSimplex(coefficients, constraints);
+			result = new Result(solution, null);
+			return solution;
+
+		} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
+			result = new Result(null, e);
+			throw e;
+
+		} finally {
+			// other errors (e.g. too many iterations) are not cached
+			if (result != null) {
+				cache(problem, result);
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache of solved problems.
+	 */
+	public static void clearCache() {
+		synchronized (CACHE) {
+			CACHE.clear();
+			cachedBytes = 0;
+		}
+	}
+
+	/**
+	 * Adds a {@link Result} to the {@link #CACHE}. Drops the least recently used
+	 * entries if {@link #MAX_CACHED_BYTES} is exceeded.
+	 * 
+	 * @param problem the {@link Problem}
+	 * @param result  the {@link Result}
+	 */
+	private static void cache(Problem problem, Result result) {
+		synchronized (CACHE) {
+			Result previous = CACHE.put(problem, result);
+			if (previous != null) {
+				cachedBytes -= problem.estimateBytes() + previous.estimateBytes();
+			}
+			cachedBytes += problem.estimateBytes() + result.estimateBytes();
+			Iterator<Entry<Problem, Result>> iterator = CACHE.entrySet().iterator();
+			while (cachedBytes > MAX_CACHED_BYTES && iterator.hasNext()) {
+				Entry<Problem, Result> entry = iterator.next();
+				cachedBytes -= entry.getKey().estimateBytes() + entry.getValue().estimateBytes();
+				iterator.remove();
+			}
+		}
+	}
+
+	private static PointValuePair solveWithSimplex(Coefficients coefficients, List<LinearConstraint> constraints)
+			throws MathIllegalStateException {
 		LinearObjectiveFunction objectiveFunction = LinearSolverUtil
 				.getDefaultObjectiveFunction(coefficients.getNoOfCoefficients());
 
@@ -37,4 +130,107 @@ public class LinearConstraintsSolver {
 				PivotSelectionRule.BLAND);
 	}
 
+	/**
+	 * A linear problem, identified by the coefficients, relationships and
+	 * right-hand sides of all Constraints.
+	 * 
+	 * <p>
+	 * The data is copied into one flat array, so equal problems from different
+	 * {@link LinearConstraint} instances are found and a hash collision can never
+	 * return the solution of a different problem.
+	 */
+	private static class Problem {
+
+		private final double[] data;
+		private final int hashCode;
+
+		private Problem(List<LinearConstraint> constraints) {
+			int length = 0;
+			for (LinearConstraint constraint : constraints) {
+				// dimension, coefficients, relationship, value
+				length += constraint.getCoefficients().getDimension() + 3;
+			}
+			double[] data = new double[length];
+			int index = 0;
+			for (LinearConstraint constraint : constraints) {
+				RealVector coefficients = constraint.getCoefficients();
+				int dimension = coefficients.getDimension();
+				data[index++] = dimension;
+				for (int i = 0; i < dimension; i++) {
+					data[index++] = coefficients.getEntry(i);
+				}
+				data[index++] = constraint.getRelationship().ordinal();
+				data[index++] = constraint.getValue();
+			}
+			this.data = data;
+			this.hashCode = Arrays.hashCode(data);
+		}
+
+		/**
+		 * Estimates the memory of the key in [byte].
+		 * 
+		 * @return the estimated size in [byte]
+		 */
+		private int estimateBytes() {
+			return 32 + 8 * this.data.length;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Problem)) {
+				return false;
+			}
+			Problem other = (Problem) obj;
+			return this.hashCode == other.hashCode && Arrays.equals(this.data, other.data);
+		}
+	}
+
+	/**
+	 * The cached outcome of solving a {@link Problem}: either a solution or the
+	 * failure.
+	 */
+	private static class Result {
+
+		private final PointValuePair solution;
+		private final MathIllegalStateException failure;
+
+		private Result(PointValuePair solution, MathIllegalStateException failure) {
+			this.solution = solution;
+			this.failure = failure;
+		}
+
+		/**
+		 * Estimates the memory of the cached result, including the map entry.
+		 * 
+		 * @return the estimated size in [byte]
+		 */
+		private int estimateBytes() {
+			int bytes = 128;
+			if (this.solution != null) {
+				bytes += 8 * this.solution.getPointRef().length;
+			}
+			return bytes;
+		}
+
+		private PointValuePair get() throws MathIllegalStateException {
+			if (this.failure instanceof NoFeasibleSolutionException) {
+				throw new NoFeasibleSolutionException();
+			}
+			if (this.failure instanceof UnboundedSolutionException) {
+				throw new UnboundedSolutionException();
+			}
+			// PointValuePair.getPoint() returns a copy, so the cached solution can be
+			// shared
+			return this.solution;
+		}
+	}
+
 }
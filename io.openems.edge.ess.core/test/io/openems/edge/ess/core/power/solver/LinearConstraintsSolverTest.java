@@ -0,0 +1,127 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.Relationship;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+import io.openems.edge.ess.power.api.Coefficients;
+
+public class LinearConstraintsSolverTest {
+
+	private Coefficients coefficients;
+
+	@Before
+	public void before() {
+		LinearConstraintsSolver.clearCache();
+		this.coefficients = new Coefficients();
+		this.coefficients.initialize(true, Sets.newHashSet("ess0", "ess1"));
+	}
+
+	@Test
+	public void testCacheHit() {
+		PointValuePair solution = LinearConstraintsSolver.solve(this.coefficients, this.constraints(1000));
+
+		// equal problem from new Constraint instances -> cached solution
+		assertSame(solution, LinearConstraintsSolver.solve(this.coefficients, this.constraints(1000)));
+
+		// different problem
+		PointValuePair other = LinearConstraintsSolver.solve(this.coefficients, this.constraints(2000));
+		assertNotSame(solution, other);
+		assertSame(other, LinearConstraintsSolver.solve(this.coefficients, this.constraints(2000)));
+
+		// cleared cache -> solved again, same result
+		LinearConstraintsSolver.clearCache();
+		PointValuePair solved = LinearConstraintsSolver.solve(this.coefficients, this.constraints(1000));
+		assertNotSame(solution, solved);
+		assertArrayEquals(solution.getPoint(), solved.getPoint(), 0.001);
+	}
+
+	@Test
+	public void testCachedFailure() {
+		List<LinearConstraint> constraints = this.constraints(1000);
+		constraints.add(new LinearConstraint(this.sum(), Relationship.GEQ, 3000));
+		for (int i = 0; i < 2; i++) {
+			try {
+				LinearConstraintsSolver.solve(this.coefficients, constraints);
+				fail("Expected NoFeasibleSolutionException");
+			} catch (NoFeasibleSolutionException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testNoHashCollision() {
+		// Sign flips of two values used to result in the same cache key
+		PointValuePair positive = LinearConstraintsSolver.solve(this.coefficients, this.setpoints(500, 300));
+		PointValuePair negative = LinearConstraintsSolver.solve(this.coefficients, this.setpoints(-500, -300));
+		assertEquals(500, positive.getPoint()[0], 0.001);
+		assertEquals(300, positive.getPoint()[2], 0.001);
+		assertEquals(-500, negative.getPoint()[0], 0.001);
+		assertEquals(-300, negative.getPoint()[2], 0.001);
+	}
+
+	/**
+	 * Builds Constraints 'ActivePower of each ESS equals value' and 'ReactivePower
+	 * is zero'.
+	 *
+	 * @param ess0 the ActivePower of ess0
+	 * @param ess1 the ActivePower of ess1
+	 * @return the Constraints
+	 */
+	private List<LinearConstraint> setpoints(double ess0, double ess1) {
+		List<LinearConstraint> result = new ArrayList<>();
+		result.add(new LinearConstraint(this.single(0), Relationship.EQ, ess0));
+		result.add(new LinearConstraint(this.single(2), Relationship.EQ, ess1));
+		result.add(new LinearConstraint(this.single(1), Relationship.EQ, 0));
+		result.add(new LinearConstraint(this.single(3), Relationship.EQ, 0));
+		return result;
+	}
+
+	private double[] single(int index) {
+		double[] result = new double[this.coefficients.getNoOfCoefficients()];
+		result[index] = 1;
+		return result;
+	}
+
+	/**
+	 * Builds Constraints 'sum of ActivePower equals value' and 'ReactivePower is
+	 * zero'.
+	 *
+	 * @param value the value
+	 * @return the Constraints
+	 */
+	private List<LinearConstraint> constraints(double value) {
+		List<LinearConstraint> result = new ArrayList<>();
+		result.add(new LinearConstraint(this.sum(), Relationship.EQ, value));
+		for (int i = 1; i < this.coefficients.getNoOfCoefficients(); i += 2) {
+			double[] reactive = new double[this.coefficients.getNoOfCoefficients()];
+			reactive[i] = 1;
+			result.add(new LinearConstraint(reactive, Relationship.EQ, 0));
+		}
+		return result;
+	}
+
+	private double[] sum() {
+		double[] result = new double[this.coefficients.getNoOfCoefficients()];
+		for (int i = 0; i < result.length; i += 2) {
+			result[i] = 1;
+		}
+		return result;
+	}
+
+}
@@ -26,6 +26,9 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "No of Cycles", description = "How many Cycles till data is written to InfluxDB.")
 	int noOfCycles() default 1;
 
+	@AttributeDefinition(name = "Full write interval", description = "Unchanged values are written only every ... seconds. Zero writes all values every time. Attention: skipping unchanged values biases MEAN() of historic data towards the changed values.")
+	int fullWriteInterval() default 0;
+
 	@AttributeDefinition(name = "Username", description = "Username of InfluxDB server.")
 	String username() default "root";
 
@@ -41,5 +44,8 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Read-Only mode", description = "Activates the read-only mode. Then no data is written to InfluxDB.")
 	boolean isReadOnly() default false;
 
+	@AttributeDefinition(name = "Query-Cache size", description = "Maximum number of values (Channels x timestamps) of cached query results. 0 disables the cache.")
+	int queryCacheSize() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata InfluxDB [{id}]";
 }
\ No newline at end of file
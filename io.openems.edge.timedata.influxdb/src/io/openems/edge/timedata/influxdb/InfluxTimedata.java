@@ -2,14 +2,38 @@ package io.openems.edge.timedata.influxdb;
 
 import org.osgi.service.event.EventHandler;
 
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.timedata.api.Timedata;
 
 public interface InfluxTimedata extends Timedata, OpenemsComponent, EventHandler {
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
-		;
+		/**
+		 * Time spent on the Cycle thread for collecting the Channel values in [us].
+		 * 
+		 * <ul>
+		 * <li>Interface: InfluxTimedata
+		 * <li>Type: Long
+		 * <li>Unit: us
+		 * </ul>
+		 */
+		COLLECT_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MICROSECONDS)), //
+		/**
+		 * Number of bytes (InfluxDB line protocol) written during the last minute.
+		 * 
+		 * <ul>
+		 * <li>Interface: InfluxTimedata
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		WRITTEN_BYTES_PER_MINUTE(Doc.of(OpenemsType.LONG));
+
 		private final Doc doc;
 
 		private ChannelId(Doc doc) {
@@ -22,4 +46,62 @@ public interface InfluxTimedata extends Timedata, OpenemsComponent, EventHandler
 		}
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#COLLECT_DURATION}.
+	 * 
+	 * @return the Channel
+	 */
+	public default LongReadChannel getCollectDurationChannel() {
+		return this.channel(ChannelId.COLLECT_DURATION);
+	}
+
+	/**
+	 * Gets the time spent on the Cycle thread for collecting the Channel values in
+	 * [us]. See {@link ChannelId#COLLECT_DURATION}.
+	 * 
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getCollectDuration() {
+		return this.getCollectDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#COLLECT_DURATION}
+	 * Channel.
+	 * 
+	 * @param value the next value
+	 */
+	public default void _setCollectDuration(long value) {
+		this.getCollectDurationChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#WRITTEN_BYTES_PER_MINUTE}.
+	 * 
+	 * @return the Channel
+	 */
+	public default LongReadChannel getWrittenBytesPerMinuteChannel() {
+		return this.channel(ChannelId.WRITTEN_BYTES_PER_MINUTE);
+	}
+
+	/**
+	 * Gets the number of bytes written during the last minute. See
+	 * {@link ChannelId#WRITTEN_BYTES_PER_MINUTE}.
+	 * 
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getWrittenBytesPerMinute() {
+		return this.getWrittenBytesPerMinuteChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#WRITTEN_BYTES_PER_MINUTE} Channel.
+	 * 
+	 * @param value the next value
+	 */
+	public default void _setWrittenBytesPerMinute(long value) {
+		this.getWrittenBytesPerMinuteChannel().setNextValue(value);
+	}
+
 }
@@ -5,13 +5,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.influxdb.dto.Point;
-import org.influxdb.dto.Point.Builder;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -28,7 +25,6 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.JsonElement;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
-import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.StringUtils;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
@@ -51,12 +47,9 @@ public class InfluxTimedataImpl extends AbstractOpenemsComponent
 
 	private final Logger log = LoggerFactory.getLogger(InfluxTimedataImpl.class);
 
-	private InfluxConnector influxConnector = null;
+	private final WriteWorker worker;
 
-	// Counts the number of Cycles till data is written to InfluxDB.
-	private int cycleCount = 0;
-
-	private Config config;
+	protected InfluxConnector influxConnector = null;
 
 	public InfluxTimedataImpl() {
 		super(//
@@ -64,6 +57,7 @@ public class InfluxTimedataImpl extends AbstractOpenemsComponent
 				Timedata.ChannelId.values(), //
 				InfluxTimedata.ChannelId.values() //
 		);
+		this.worker = new WriteWorker(this);
 	}
 
 	@Reference
@@ -73,19 +67,26 @@ public class InfluxTimedataImpl extends AbstractOpenemsComponent
 	void activate(ComponentContext context, Config config) {
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.influxConnector = new InfluxConnector(config.ip(), config.port(), config.username(), config.password(),
-				config.database(), config.retentionPolicy(), config.isReadOnly(), //
+				config.database(), config.retentionPolicy(), config.isReadOnly(), config.queryCacheSize(), //
 				(failedPoints, throwable) -> {
 					String pointsString = StreamSupport.stream(failedPoints.spliterator(), false)
 							.map(Point::lineProtocol).collect(Collectors.joining(","));
 					this.logError(this.log, "Unable to write to InfluxDB: " + throwable.getMessage() + " for "
 							+ StringUtils.toShortString(pointsString, 100));
 				});
-		this.config = config;
+
+		if (!this.isEnabled()) {
+			return;
+		}
+		this.worker.setNoOfCycles(config.noOfCycles());
+		this.worker.setFullWriteInterval(config.fullWriteInterval());
+		this.worker.activate(config.id());
 	}
 
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.worker.deactivate();
 		if (this.influxConnector != null) {
 			this.influxConnector.deactivate();
 		}
@@ -98,81 +99,11 @@ public class InfluxTimedataImpl extends AbstractOpenemsComponent
 		}
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
-			this.collectAndWriteChannelValues();
+			this.worker.collectData();
 			break;
 		}
 	}
 
-	protected synchronized void collectAndWriteChannelValues() {
-		long timestamp = System.currentTimeMillis() / 1000;
-
-		if (++this.cycleCount >= this.config.noOfCycles()) {
-			this.cycleCount = 0;
-			final Builder point = Point.measurement(InfluxConnector.MEASUREMENT).time(timestamp, TimeUnit.SECONDS);
-			final AtomicBoolean addedAtLeastOneChannelValue = new AtomicBoolean(false);
-
-			this.componentManager.getEnabledComponents().stream().filter(c -> c.isEnabled()).forEach(component -> {
-				component.channels().forEach(channel -> {
-					switch (channel.channelDoc().getAccessMode()) {
-					case WRITE_ONLY:
-						// ignore Write-Only-Channels
-						return;
-					case READ_ONLY:
-					case READ_WRITE:
-						break;
-					}
-
-					Optional<?> valueOpt = channel.value().asOptional();
-					if (!valueOpt.isPresent()) {
-						// ignore not available channels
-						return;
-					}
-					Object value = valueOpt.get();
-					String address = channel.address().toString();
-					try {
-						switch (channel.getType()) {
-						case BOOLEAN:
-							point.addField(address, ((Boolean) value ? 1 : 0));
-							break;
-						case SHORT:
-							point.addField(address, (Short) value);
-							break;
-						case INTEGER:
-							point.addField(address, (Integer) value);
-							break;
-						case LONG:
-							point.addField(address, (Long) value);
-							break;
-						case FLOAT:
-							point.addField(address, (Float) value);
-							break;
-						case DOUBLE:
-							point.addField(address, (Double) value);
-							break;
-						case STRING:
-							point.addField(address, (String) value);
-							break;
-						}
-					} catch (IllegalArgumentException e) {
-						this.log.warn(
-								"Unable to add Channel [" + address + "] value [" + value + "]: " + e.getMessage());
-						return;
-					}
-					addedAtLeastOneChannelValue.set(true);
-				});
-			});
-
-			if (addedAtLeastOneChannelValue.get()) {
-				try {
-					this.influxConnector.write(point.build());
-				} catch (OpenemsException e) {
-					this.logError(this.log, e.getMessage());
-				}
-			}
-
-		}
-	}
-
 	@Override
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, int resolution)
@@ -199,6 +130,16 @@ public class InfluxTimedataImpl extends AbstractOpenemsComponent
 		return this.influxConnector.queryHistoricEnergyPerPeriod(influxEdgeId, fromDate, toDate, channels, resolution);
 	}
 
+	@Override
+	protected void logWarn(Logger log, String message) {
+		super.logWarn(log, message);
+	}
+
+	@Override
+	protected void logError(Logger log, String message) {
+		super.logError(log, message);
+	}
+
 	@Override
 	public CompletableFuture<Optional<Object>> getLatestValue(ChannelAddress channelAddress) {
 		// TODO implement this method
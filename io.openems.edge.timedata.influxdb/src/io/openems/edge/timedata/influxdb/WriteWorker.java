@@ -0,0 +1,372 @@
+package io.openems.edge.timedata.influxdb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.influxdb.dto.Point;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.OpenemsType;
+import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.shared.influxdb.InfluxConnector;
+
+/**
+ * Writes the Channel values to InfluxDB.
+ *
+ * <p>
+ * The Cycle thread only copies the current values into a preallocated
+ * {@link Snapshot} ({@link #collectData()}). This worker then builds and writes
+ * the InfluxDB Point in the background.
+ *
+ * <p>
+ * If {@link #fullWriteIntervalMillis} is set, values that did not change since
+ * the last write are skipped, except for a full write every interval. Note that
+ * InfluxDB aggregates like {@code MEAN()} per {@code GROUP BY time()} window
+ * then weight every written point equally: a value that changes often gets
+ * more points than a constant one, so the mean is biased towards the changed
+ * values. The bias is bounded by the full writes, but it only disappears if
+ * every value is written every time, which is why the interval defaults to zero.
+ */
+public class WriteWorker extends AbstractImmediateWorker {
+
+	/**
+	 * Number of preallocated Snapshots, i.e. the maximum number of not yet written
+	 * Snapshots plus one that is currently being written.
+	 */
+	private static final int NO_OF_SNAPSHOTS = 4;
+
+	/**
+	 * Marks a timestamp that was not set yet.
+	 */
+	private static final long NONE = Long.MIN_VALUE;
+
+	private final Logger log = LoggerFactory.getLogger(WriteWorker.class);
+	private final InfluxTimedataImpl parent;
+
+	private final BlockingQueue<Snapshot> freeSnapshots = new ArrayBlockingQueue<>(NO_OF_SNAPSHOTS);
+	private final BlockingQueue<Snapshot> pendingSnapshots = new ArrayBlockingQueue<>(NO_OF_SNAPSHOTS);
+
+	protected int noOfCycles = 1; // default, is going to be overwritten by config
+	protected long fullWriteIntervalMillis = 0; // default, is going to be overwritten by config
+
+	/*
+	 * Only accessed by the Cycle thread
+	 */
+	private int cycleCount = 0;
+	private Index index = null;
+
+	/*
+	 * Only accessed by the worker thread
+	 */
+	private Index lastIndex = null;
+	private long[] lastValues = new long[0];
+	private boolean[] lastDefined = new boolean[0];
+	private String[] lastStrings = new String[0];
+	private long lastFullWrite = NONE;
+	private long bytesWindowStart = NONE;
+	private long bytesInWindow = 0;
+
+	public WriteWorker(InfluxTimedataImpl parent) {
+		this.parent = parent;
+		for (int i = 0; i < NO_OF_SNAPSHOTS; i++) {
+			this.freeSnapshots.add(new Snapshot());
+		}
+	}
+
+	/**
+	 * Collects the data from Channels. This is called synchronously by the main
+	 * OpenEMS Cycle.
+	 */
+	public void collectData() {
+		// Increase CycleCount
+		if (++this.cycleCount < this.noOfCycles) {
+			// Stop here if not reached CycleCount
+			return;
+		}
+		// reset Cycle-Count
+		this.cycleCount = 0;
+
+		long start = System.nanoTime();
+		long timestamp = this.parent.componentManager.getClock().millis();
+
+		List<OpenemsComponent> components = this.parent.componentManager.getEnabledComponents();
+		if (this.index == null || !this.index.matches(components)) {
+			this.index = new Index(components);
+		}
+
+		Snapshot snapshot = this.freeSnapshots.poll();
+		if (snapshot == null) {
+			this.parent.logWarn(this.log, "Unable to collect data. Queue is full!");
+			return;
+		}
+		snapshot.fill(this.index, timestamp);
+		this.pendingSnapshots.add(snapshot);
+		this.triggerNextRun();
+
+		this.parent._setCollectDuration(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		Snapshot snapshot = this.pendingSnapshots.take();
+		try {
+			this.write(snapshot);
+		} finally {
+			this.freeSnapshots.add(snapshot);
+		}
+	}
+
+	/**
+	 * Writes the changed values of a {@link Snapshot}.
+	 *
+	 * @param snapshot the {@link Snapshot}
+	 */
+	private void write(Snapshot snapshot) {
+		Index index = snapshot.index;
+		if (index != this.lastIndex) {
+			// Channels changed
+			this.lastIndex = index;
+			this.lastValues = new long[index.size()];
+			this.lastDefined = new boolean[index.size()];
+			this.lastStrings = new String[index.size()];
+			this.lastFullWrite = NONE;
+		}
+		boolean isFullWrite = this.lastFullWrite == NONE
+				|| snapshot.timestamp - this.lastFullWrite >= this.fullWriteIntervalMillis;
+		if (isFullWrite) {
+			this.lastFullWrite = snapshot.timestamp;
+		}
+
+		final Point.Builder point = Point.measurement(InfluxConnector.MEASUREMENT) //
+				.time(snapshot.timestamp / 1000, TimeUnit.SECONDS);
+		boolean addedAtLeastOneChannelValue = false;
+		for (int i = 0; i < index.size(); i++) {
+			if (!snapshot.defined[i]) {
+				// ignore not available channels
+				this.lastDefined[i] = false;
+				continue;
+			}
+			long value = snapshot.values[i];
+			String string = snapshot.strings[i];
+			if (!isFullWrite && this.lastDefined[i] && this.lastValues[i] == value
+					&& (string == null || string.equals(this.lastStrings[i]))) {
+				// ignore unchanged values
+				continue;
+			}
+			this.lastDefined[i] = true;
+			this.lastValues[i] = value;
+			this.lastStrings[i] = string;
+
+			String field = index.fields[i];
+			try {
+				switch (index.types[i]) {
+				case BOOLEAN:
+				case SHORT:
+				case INTEGER:
+				case LONG:
+					point.addField(field, value);
+					break;
+				case FLOAT:
+				case DOUBLE:
+					point.addField(field, Double.longBitsToDouble(value));
+					break;
+				case STRING:
+					point.addField(field, string);
+					break;
+				}
+			} catch (IllegalArgumentException e) {
+				this.log.warn("Unable to add Channel [" + field + "] value [" + value + "]: " + e.getMessage());
+				continue;
+			}
+			addedAtLeastOneChannelValue = true;
+		}
+
+		if (addedAtLeastOneChannelValue) {
+			Point p = point.build();
+			this.countBytes(snapshot.timestamp, p.lineProtocol().length());
+			try {
+				this.writePoint(p);
+			} catch (OpenemsException e) {
+				this.parent.logError(this.log, e.getMessage());
+			}
+		} else {
+			this.countBytes(snapshot.timestamp, 0);
+		}
+	}
+
+	/**
+	 * Writes a Point to InfluxDB.
+	 *
+	 * @param point the {@link Point}
+	 * @throws OpenemsException on error
+	 */
+	protected void writePoint(Point point) throws OpenemsException {
+		this.parent.influxConnector.write(point);
+	}
+
+	/**
+	 * Counts the written bytes and updates the Channel once per minute.
+	 *
+	 * @param timestamp the timestamp of the write
+	 * @param bytes     the number of written bytes
+	 */
+	private void countBytes(long timestamp, int bytes) {
+		if (this.bytesWindowStart == NONE) {
+			this.bytesWindowStart = timestamp;
+			this.bytesInWindow = 0;
+
+		} else if (timestamp - this.bytesWindowStart >= TimeUnit.MINUTES.toMillis(1)) {
+			this.parent._setWrittenBytesPerMinute(this.bytesInWindow);
+			this.bytesWindowStart = timestamp;
+			this.bytesInWindow = 0;
+		}
+		this.bytesInWindow += bytes;
+	}
+
+	public void setNoOfCycles(int noOfCycles) {
+		this.noOfCycles = noOfCycles;
+	}
+
+	public void setFullWriteInterval(int seconds) {
+		this.fullWriteIntervalMillis = TimeUnit.SECONDS.toMillis(seconds);
+	}
+
+	/**
+	 * The readable Channels of all enabled Components with their precomputed
+	 * InfluxDB field names. Immutable; rebuilt if the Components or their Channels
+	 * change.
+	 */
+	private static class Index {
+
+		private final OpenemsComponent[] components;
+		/**
+		 * All Channels of all Components in iteration order, including Write-Only
+		 * Channels; used by {@link #matches(List)}.
+		 */
+		private final Channel<?>[] allChannels;
+		private final Channel<?>[] channels;
+		private final String[] fields;
+		private final OpenemsType[] types;
+
+		private Index(List<OpenemsComponent> components) {
+			this.components = components.toArray(new OpenemsComponent[components.size()]);
+			List<Channel<?>> allChannels = new ArrayList<>();
+			List<Channel<?>> channels = new ArrayList<>();
+			for (int i = 0; i < this.components.length; i++) {
+				OpenemsComponent component = this.components[i];
+				allChannels.addAll(component.channels());
+				if (!component.isEnabled()) {
+					continue;
+				}
+				for (Channel<?> channel : component.channels()) {
+					if (channel.channelDoc().getAccessMode() == AccessMode.WRITE_ONLY) {
+						// ignore Write-Only-Channels
+						continue;
+					}
+					channels.add(channel);
+				}
+			}
+			this.allChannels = allChannels.toArray(new Channel<?>[allChannels.size()]);
+			this.channels = channels.toArray(new Channel<?>[channels.size()]);
+			this.fields = new String[this.channels.length];
+			this.types = new OpenemsType[this.channels.length];
+			for (int i = 0; i < this.channels.length; i++) {
+				this.fields[i] = this.channels[i].address().toString();
+				this.types[i] = this.channels[i].getType();
+			}
+		}
+
+		private int size() {
+			return this.channels.length;
+		}
+
+		/**
+		 * Does this Index still match the given Components and their Channels?.
+		 *
+		 * <p>
+		 * Compares the Channel instances - and by that their addresses - one by one,
+		 * so that a Channel that was replaced by another one is detected even if the
+		 * number of Channels stays the same.
+		 *
+		 * @param components the enabled Components
+		 * @return true if it matches
+		 */
+		private boolean matches(List<OpenemsComponent> components) {
+			if (components.size() != this.components.length) {
+				return false;
+			}
+			int j = 0;
+			for (int i = 0; i < this.components.length; i++) {
+				OpenemsComponent component = components.get(i);
+				if (component != this.components[i]) {
+					return false;
+				}
+				for (Channel<?> channel : component.channels()) {
+					if (j >= this.allChannels.length || channel != this.allChannels[j++]) {
+						return false;
+					}
+				}
+			}
+			return j == this.allChannels.length;
+		}
+	}
+
+	/**
+	 * The values of all Channels of an {@link Index} at one point in time.
+	 * Numbers are stored as long; floating point numbers as their raw long bits.
+	 */
+	private static class Snapshot {
+
+		private Index index = null;
+		private long timestamp = 0;
+		private long[] values = new long[0];
+		private boolean[] defined = new boolean[0];
+		private String[] strings = new String[0];
+
+		private void fill(Index index, long timestamp) {
+			this.index = index;
+			this.timestamp = timestamp;
+			if (this.values.length < index.size()) {
+				this.values = new long[index.size()];
+				this.defined = new boolean[index.size()];
+				this.strings = new String[index.size()];
+			}
+			for (int i = 0; i < index.size(); i++) {
+				Object value = index.channels[i].value().get();
+				this.strings[i] = null;
+				if (value == null) {
+					this.defined[i] = false;
+					continue;
+				}
+				this.defined[i] = true;
+				switch (index.types[i]) {
+				case BOOLEAN:
+					this.values[i] = (Boolean) value ? 1 : 0;
+					break;
+				case SHORT:
+				case INTEGER:
+				case LONG:
+					this.values[i] = ((Number) value).longValue();
+					break;
+				case FLOAT:
+				case DOUBLE:
+					this.values[i] = Double.doubleToRawLongBits(((Number) value).doubleValue());
+					break;
+				case STRING:
+					this.values[i] = 0;
+					this.strings[i] = (String) value;
+					break;
+				}
+			}
+		}
+	}
+
+}
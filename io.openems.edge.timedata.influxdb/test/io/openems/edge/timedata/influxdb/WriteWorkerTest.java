@@ -0,0 +1,149 @@
+package io.openems.edge.timedata.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.influxdb.dto.Point;
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.TimeLeapClock;
+
+public class WriteWorkerTest {
+
+	private static final String SOC = "_sum/EssSoc";
+	private static final String GRID = "_sum/GridActivePower";
+
+	private static class MyWriteWorker extends WriteWorker {
+
+		private final List<String> points = new ArrayList<>();
+
+		private MyWriteWorker(InfluxTimedataImpl parent) {
+			super(parent);
+		}
+
+		@Override
+		protected void writePoint(Point point) {
+			this.points.add(point.lineProtocol());
+		}
+
+		private void cycle() throws InterruptedException {
+			this.collectData();
+			this.forever();
+		}
+
+		private String lastPoint() {
+			return this.points.get(this.points.size() - 1);
+		}
+	}
+
+	@Test
+	public void test() throws Exception {
+		TimeLeapClock clock = new TimeLeapClock(Instant.ofEpochSecond(1_600_000_000), ZoneOffset.UTC);
+		DummySum sum = new DummySum();
+		InfluxTimedataImpl parent = new InfluxTimedataImpl();
+		parent.componentManager = new DummyComponentManager(clock) //
+				.addComponent(sum);
+		MyWriteWorker worker = new MyWriteWorker(parent);
+		worker.setFullWriteInterval(60);
+
+		// first write is a full write
+		setValue(sum, Sum.ChannelId.ESS_SOC, 50);
+		setValue(sum, Sum.ChannelId.GRID_ACTIVE_POWER, 100);
+		worker.cycle();
+		assertEquals(1, worker.points.size());
+		assertTrue(worker.lastPoint().contains(SOC + "=50i"));
+		assertTrue(worker.lastPoint().contains(GRID + "=100i"));
+
+		// only changed values are written
+		clock.leap(10, ChronoUnit.SECONDS);
+		setValue(sum, Sum.ChannelId.GRID_ACTIVE_POWER, 200);
+		worker.cycle();
+		assertEquals(2, worker.points.size());
+		assertFalse(worker.lastPoint().contains(SOC));
+		assertTrue(worker.lastPoint().contains(GRID + "=200i"));
+
+		// nothing changed: nothing is written
+		clock.leap(10, ChronoUnit.SECONDS);
+		worker.cycle();
+		assertEquals(2, worker.points.size());
+		assertEquals(null, parent.getWrittenBytesPerMinuteChannel().getNextValue().get());
+
+		// full write after the interval; the bytes of the first minute are published
+		clock.leap(60, ChronoUnit.SECONDS);
+		worker.cycle();
+		assertEquals(3, worker.points.size());
+		assertTrue(worker.lastPoint().contains(SOC + "=50i"));
+		assertTrue(worker.lastPoint().contains(GRID + "=200i"));
+		assertEquals(Long.valueOf(worker.points.get(0).length() + worker.points.get(1).length()),
+				parent.getWrittenBytesPerMinuteChannel().getNextValue().get());
+	}
+
+	private static enum TestChannelId implements io.openems.edge.common.channel.ChannelId {
+		FOO(Doc.of(OpenemsType.INTEGER));
+
+		private final Doc doc;
+
+		private TestChannelId(Doc doc) {
+			this.doc = doc;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	private static class MySum extends DummySum {
+
+		private void replaceChannel(Sum.ChannelId oldChannelId, TestChannelId newChannelId) {
+			this.removeChannel(this.channel(oldChannelId));
+			this.addChannel(newChannelId);
+		}
+	}
+
+	@Test
+	public void testReplacedChannel() throws Exception {
+		TimeLeapClock clock = new TimeLeapClock(Instant.ofEpochSecond(1_600_000_000), ZoneOffset.UTC);
+		MySum sum = new MySum();
+		InfluxTimedataImpl parent = new InfluxTimedataImpl();
+		parent.componentManager = new DummyComponentManager(clock) //
+				.addComponent(sum);
+		MyWriteWorker worker = new MyWriteWorker(parent);
+		worker.setFullWriteInterval(60);
+
+		setValue(sum, Sum.ChannelId.GRID_ACTIVE_POWER, 100);
+		worker.cycle();
+		assertTrue(worker.lastPoint().contains(GRID + "=100i"));
+
+		// same number of Channels, but a different address
+		sum.replaceChannel(Sum.ChannelId.GRID_ACTIVE_POWER, TestChannelId.FOO);
+		Channel<Integer> foo = sum.channel(TestChannelId.FOO);
+		foo.setNextValue(7);
+		foo.nextProcessImage();
+		clock.leap(10, ChronoUnit.SECONDS);
+		worker.cycle();
+		assertEquals(2, worker.points.size());
+		assertTrue(worker.lastPoint().contains("_sum/Foo=7i"));
+		assertFalse(worker.lastPoint().contains(GRID));
+	}
+
+	private static void setValue(DummySum sum, Sum.ChannelId channelId, Integer value) {
+		Channel<Integer> channel = sum.channel(channelId);
+		channel.setNextValue(value);
+		channel.nextProcessImage();
+	}
+
+}
@@ -0,0 +1,147 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.util.function.Consumer;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Aggregates the values of one Channel between two recordings.
+ *
+ * <p>
+ * The aggregator is registered as 'onUpdate' callback of the Channel and is
+ * therefore updated from nextProcessImage() on the Cycle thread. It only keeps
+ * primitive sum, count and max values, so recording does not need to stream
+ * over the past values of the Channel.
+ */
+public class ChannelAggregator implements Consumer<Value<?>> {
+
+	public enum Function {
+		AVERAGE, MAX;
+	}
+
+	private final OpenemsType type;
+	private final Function function;
+
+	private Value<?> lastValue = null;
+	private double sum = 0;
+	private int count = 0;
+	private double max = Double.NEGATIVE_INFINITY;
+
+	public ChannelAggregator(OpenemsType type, Unit unit) {
+		this.type = type;
+		this.function = getFunction(unit);
+	}
+
+	@Override
+	public void accept(Value<?> value) {
+		// Same Value object as before -> it was not updated in the meantime
+		if (value == this.lastValue) {
+			return;
+		}
+		this.lastValue = value;
+
+		Object v = value.get();
+		if (v == null) {
+			// only not-null values
+			return;
+		}
+		double d = this.toDouble(v);
+		this.sum += d;
+		this.count++;
+		if (d > this.max) {
+			this.max = d;
+		}
+	}
+
+	/**
+	 * Gets the aggregated value and resets the aggregator for the next recording
+	 * interval.
+	 *
+	 * @return the aggregated value; NaN if no value was available
+	 */
+	public double getAndReset() {
+		final double result;
+		if (this.count == 0) {
+			result = Double.NaN;
+		} else {
+			switch (this.function) {
+			case MAX:
+				result = this.max;
+				break;
+			case AVERAGE:
+			default:
+				result = this.sum / this.count;
+				break;
+			}
+		}
+		this.sum = 0;
+		this.count = 0;
+		this.max = Double.NEGATIVE_INFINITY;
+		return result;
+	}
+
+	private double toDouble(Object value) {
+		switch (this.type) {
+		case BOOLEAN:
+			return (Boolean) value ? 1d : 0d;
+		case SHORT:
+		case INTEGER:
+		case LONG:
+		case FLOAT:
+		case DOUBLE:
+			return ((Number) value).doubleValue();
+		case STRING:
+			// Strings are not supported by RRD4J
+			return 0d;
+		}
+		throw new IllegalArgumentException("Type [" + this.type + "] is not supported.");
+	}
+
+	private static Function getFunction(Unit channelUnit) {
+		switch (channelUnit) {
+		case AMPERE:
+		case AMPERE_HOURS:
+		case DEGREE_CELSIUS:
+		case DEZIDEGREE_CELSIUS:
+		case HERTZ:
+		case HOUR:
+		case KILOAMPERE_HOURS:
+		case KILOOHM:
+		case KILOVOLT_AMPERE:
+		case KILOVOLT_AMPERE_REACTIVE:
+		case KILOWATT:
+		case MICROOHM:
+		case MILLIAMPERE_HOURS:
+		case MILLIAMPERE:
+		case MILLIHERTZ:
+		case MILLIOHM:
+		case MILLISECONDS:
+		case MICROSECONDS:
+		case MILLIVOLT:
+		case MILLIWATT:
+		case MINUTE:
+		case NONE:
+		case WATT:
+		case VOLT:
+		case VOLT_AMPERE:
+		case VOLT_AMPERE_REACTIVE:
+		case WATT_HOURS_BY_WATT_PEAK:
+		case OHM:
+		case SECONDS:
+		case THOUSANDTH:
+		case PERCENT:
+		case ON_OFF:
+			return Function.AVERAGE;
+		case WATT_HOURS:
+		case KILOWATT_HOURS:
+		case VOLT_AMPERE_HOURS:
+		case VOLT_AMPERE_REACTIVE_HOURS:
+		case KILOVOLT_AMPERE_REACTIVE_HOURS:
+			return Function.MAX;
+		}
+		throw new IllegalArgumentException("Channel Unit [" + channelUnit + "] is not supported.");
+	}
+
+}
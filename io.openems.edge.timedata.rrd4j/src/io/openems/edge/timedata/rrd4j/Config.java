@@ -20,5 +20,8 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "No. of Cycles", description = "How many Cycles till data is recorded.")
 	int noOfCycles() default RecordWorker.DEFAULT_NO_OF_CYCLES;
 
+	@AttributeDefinition(name = "Max. open databases", description = "How many RRD4J database files are kept open between recordings.")
+	int maxOpenDatabases() default RrdDbCache.DEFAULT_MAX_OPEN_DATABASES;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata RRD4J [{id}]";
 }
\ No newline at end of file
@@ -1,24 +1,26 @@
 package io.openems.edge.timedata.rrd4j;
 
-import java.io.IOException;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.OptionalDouble;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.function.Function;
-import java.util.function.ToDoubleFunction;
-import java.util.stream.DoubleStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Stopwatch;
+
 import io.openems.common.channel.AccessMode;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.ChannelAddress;
-import io.openems.common.types.OpenemsType;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -27,6 +29,11 @@ public class RecordWorker extends AbstractImmediateWorker {
 
 	protected static final int DEFAULT_NO_OF_CYCLES = 60;
 
+	/**
+	 * Maximum number of not yet written batches, i.e. recording intervals.
+	 */
+	private static final int MAX_QUEUED_BATCHES = 10;
+
 	private final Logger log = LoggerFactory.getLogger(RecordWorker.class);
 	private final Rrd4jTimedataImpl parent;
 	protected int noOfCycles = DEFAULT_NO_OF_CYCLES; // default, is going to be overwritten by config
@@ -48,12 +55,14 @@ public class RecordWorker extends AbstractImmediateWorker {
 		}
 	}
 
-	// Record queue
-	private LinkedBlockingQueue<Record> records = new LinkedBlockingQueue<>();
+	// Queue of Record-Batches; one batch per recording interval
+	private final LinkedBlockingQueue<List<Record>> batches = new LinkedBlockingQueue<>(MAX_QUEUED_BATCHES);
 
 	// keeps the last recorded timestamp
 	private Instant lastTimestamp = Instant.MIN;
-	private LocalDateTime readChannelValuesSince = LocalDateTime.MIN;
+
+	// Aggregators per Channel; only accessed by the Cycle thread
+	private Map<Channel<?>, ChannelAggregator> aggregators = new IdentityHashMap<>();
 
 	public RecordWorker(Rrd4jTimedataImpl parent) {
 		this.parent = parent;
@@ -66,7 +75,6 @@ public class RecordWorker extends AbstractImmediateWorker {
 	 */
 	public void collectData() {
 		Instant timestamp = Instant.now().truncatedTo(ChronoUnit.SECONDS);
-		final LocalDateTime nextReadChannelValuesSince = LocalDateTime.now();
 
 		// Increase CycleCount
 		if (++this.cycleCount < this.noOfCycles) {
@@ -83,6 +91,8 @@ public class RecordWorker extends AbstractImmediateWorker {
 		}
 		this.lastTimestamp = timestamp;
 
+		final List<Record> batch = new ArrayList<>(this.aggregators.size());
+		final Map<Channel<?>, ChannelAggregator> nextAggregators = new IdentityHashMap<>(this.aggregators.size());
 		for (OpenemsComponent component : this.parent.componentManager.getEnabledComponents()) {
 			for (Channel<?> channel : component.channels()) {
 				if (channel.channelDoc().getAccessMode() != AccessMode.READ_ONLY
@@ -90,162 +100,125 @@ public class RecordWorker extends AbstractImmediateWorker {
 					// Ignore WRITE_ONLY Channels
 					continue;
 				}
-				
-				
-
-				ToDoubleFunction<? super Object> channelMapFunction = this
-						.getChannelMapFunction(channel.channelDoc().getType());
-				Function<DoubleStream, OptionalDouble> channelAggregateFunction = this
-						.getChannelAggregateFunction(channel.channelDoc().getUnit());
-
-				OptionalDouble value = channelAggregateFunction.apply(//
-						channel.getPastValues() //
-								.tailMap(this.readChannelValuesSince, false) // new values since last recording
-								.values().stream() //
-								.map(v -> v.get()) //
-								.filter(v -> v != null) // only not-null values
-								.mapToDouble(channelMapFunction) // convert to double
-				);
-				if (!value.isPresent()) {
+
+				ChannelAggregator aggregator = this.aggregators.remove(channel);
+				if (aggregator == null) {
+					aggregator = this.addAggregator(channel);
+				}
+				nextAggregators.put(channel, aggregator);
+
+				// aggregated values since last recording
+				double value = aggregator.getAndReset();
+				if (Double.isNaN(value)) {
 					// only available channels
 					continue;
 				}
 
-				if (this.records.offer(//
-						new Record(timestamp.getEpochSecond(), channel.address(), channel.channelDoc().getUnit(),
-								value.getAsDouble()))) {
-					this.parent._setQueueIsFull(false);
-				} else {
-					this.log.warn("Unable to add record [" + channel.address() + "]. Queue is full!");
-					this.parent._setQueueIsFull(true);
-				}
+				batch.add(new Record(timestamp.getEpochSecond(), channel.address(), channel.channelDoc().getUnit(),
+						value));
 			}
 		}
-		this.readChannelValuesSince = nextReadChannelValuesSince;
+
+		// Remove Aggregators of Channels that are not available anymore
+		this.removeAggregators();
+		this.aggregators = nextAggregators;
+
+		if (this.batches.offer(batch)) {
+			this.parent._setQueueIsFull(false);
+		} else {
+			this.log.warn("Unable to add " + batch.size() + " records. Queue is full!");
+			this.parent._setQueueIsFull(true);
+		}
 		this.triggerNextRun();
 	}
 
 	@Override
-	protected void forever() throws InterruptedException {
-		Record record = this.records.take();
-		RrdDb database = null;
-		try {
-			database = this.parent.getRrdDb(record.address, record.unit, record.timestamp - 1);
-
-			if (database.getLastUpdateTime() < record.timestamp) {
-				// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
-				// XXX. Last update time was YYY, at least one second step is required".
-
-				// Add Sample to RRD4J
-				Sample sample = database.createSample(record.timestamp);
-				sample.setValue(0, record.value);
-				sample.update();
-			}
+	public void deactivate() {
+		super.deactivate();
+		this.removeAggregators();
+	}
 
-			this.parent._setUnableToInsertSample(false);
-
-		} catch (Throwable e) {
-			this.parent._setUnableToInsertSample(true);
-			this.parent.logWarn(this.log, "Unable to insert Sample [" + record.address + "] "
-					+ e.getClass().getSimpleName() + ": " + e.getMessage());
-		} finally {
-			if (database != null) {
-				try {
-					database.close();
-				} catch (IOException e) {
-					this.parent.logWarn(this.log,
-							"Unable to close database [" + record.address + "]: " + e.getMessage());
-				}
-			}
+	/**
+	 * Registers a {@link ChannelAggregator} as 'onUpdate' callback for the given
+	 * Channel. The aggregator is initialized with the currently active value.
+	 * 
+	 * @param channel the Channel
+	 * @return the {@link ChannelAggregator}
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private ChannelAggregator addAggregator(Channel<?> channel) {
+		ChannelAggregator aggregator = new ChannelAggregator(channel.channelDoc().getType(),
+				channel.channelDoc().getUnit());
+		aggregator.accept(channel.value());
+		channel.onUpdate((Consumer) aggregator);
+		return aggregator;
+	}
+
+	/**
+	 * Unregisters all {@link ChannelAggregator}s in {@link #aggregators}.
+	 */
+	private void removeAggregators() {
+		for (Entry<Channel<?>, ChannelAggregator> entry : this.aggregators.entrySet()) {
+			entry.getKey().removeOnUpdateCallback(entry.getValue());
 		}
+		this.aggregators.clear();
 	}
 
-	private static final ToDoubleFunction<? super Object> MAP_BOOLEAN_TO_DOUBLE = (value) -> {
-		return (Boolean) value ? 1d : 0d;
-	};
-
-	private static final ToDoubleFunction<? super Object> MAP_SHORT_TO_DOUBLE = (value) -> {
-		return ((Short) value).doubleValue();
-	};
-	private static final ToDoubleFunction<? super Object> MAP_INTEGER_TO_DOUBLE = (value) -> {
-		return ((Integer) value).doubleValue();
-	};
-	private static final ToDoubleFunction<? super Object> MAP_LONG_TO_DOUBLE = (value) -> {
-		return ((Long) value).doubleValue();
-	};
-	private static final ToDoubleFunction<? super Object> MAP_FLOAT_TO_DOUBLE = (value) -> {
-		return ((Float) value).doubleValue();
-	};
-	private static final ToDoubleFunction<? super Object> MAP_DOUBLE_TO_DOUBLE = (value) -> {
-		return (Double) value;
-	};
-	private static final ToDoubleFunction<? super Object> MAP_TO_DOUBLE_NOT_SUPPORTED = (value) -> {
-		return 0d;
-	};
-
-	private ToDoubleFunction<? super Object> getChannelMapFunction(OpenemsType openemsType) {
-		switch (openemsType) {
-		case BOOLEAN:
-			return MAP_BOOLEAN_TO_DOUBLE;
-		case SHORT:
-			return MAP_SHORT_TO_DOUBLE;
-		case INTEGER:
-			return MAP_INTEGER_TO_DOUBLE;
-		case LONG:
-			return MAP_LONG_TO_DOUBLE;
-		case FLOAT:
-			return MAP_FLOAT_TO_DOUBLE;
-		case DOUBLE:
-			return MAP_DOUBLE_TO_DOUBLE;
-		case STRING:
-			// Strings are not supported by RRD4J
-			return MAP_TO_DOUBLE_NOT_SUPPORTED;
+	@Override
+	protected void forever() throws InterruptedException {
+		// Wait for the next batch and drain all other pending batches in one pass
+		List<List<Record>> pending = new ArrayList<>();
+		pending.add(this.batches.take());
+		this.batches.drainTo(pending);
+
+		Stopwatch stopwatch = Stopwatch.createStarted();
+		RrdDbCache cache = this.parent.cache;
+		cache.resetStatistics();
+
+		boolean unableToInsertSample = false;
+		for (List<Record> batch : pending) {
+			for (Record record : batch) {
+				if (!this.writeRecord(cache, record)) {
+					unableToInsertSample = true;
+				}
+			}
 		}
-		throw new IllegalArgumentException("Type [" + openemsType + "] is not supported.");
+
+		this.parent._setUnableToInsertSample(unableToInsertSample);
+		this.parent._setCacheHitRate(cache.getHitRate());
+		this.parent._setOpenedDatabases(cache.getOpened());
+		this.parent._setWriteBatchDuration(stopwatch.elapsed(TimeUnit.MILLISECONDS));
 	}
 
-	private Function<DoubleStream, OptionalDouble> getChannelAggregateFunction(Unit channelUnit) {
-		switch (channelUnit) {
-		case AMPERE:
-		case AMPERE_HOURS:
-		case DEGREE_CELSIUS:
-		case DEZIDEGREE_CELSIUS:
-		case HERTZ:
-		case HOUR:
-		case KILOAMPERE_HOURS:
-		case KILOOHM:
-		case KILOVOLT_AMPERE:
-		case KILOVOLT_AMPERE_REACTIVE:
-		case KILOWATT:
-		case MICROOHM:
-		case MILLIAMPERE_HOURS:
-		case MILLIAMPERE:
-		case MILLIHERTZ:
-		case MILLIOHM:
-		case MILLISECONDS:
-		case MILLIVOLT:
-		case MILLIWATT:
-		case MINUTE:
-		case NONE:
-		case WATT:
-		case VOLT:
-		case VOLT_AMPERE:
-		case VOLT_AMPERE_REACTIVE:
-		case WATT_HOURS_BY_WATT_PEAK:
-		case OHM:
-		case SECONDS:
-		case THOUSANDTH:
-		case PERCENT:
-		case ON_OFF:
-			return DoubleStream::average;
-		case WATT_HOURS:
-		case KILOWATT_HOURS:
-		case VOLT_AMPERE_HOURS:
-		case VOLT_AMPERE_REACTIVE_HOURS:
-		case KILOVOLT_AMPERE_REACTIVE_HOURS:
-			return DoubleStream::max;
+	/**
+	 * Writes one Record to its RrdDb.
+	 * 
+	 * @param cache  the {@link RrdDbCache}
+	 * @param record the {@link Record}
+	 * @return true on success
+	 */
+	private boolean writeRecord(RrdDbCache cache, Record record) {
+		synchronized (cache) {
+			try {
+				RrdDb database = this.parent.getRrdDb(record.address, record.unit, record.timestamp - 1);
+
+				if (database.getLastUpdateTime() < record.timestamp) {
+					// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
+					// XXX. Last update time was YYY, at least one second step is required".
+
+					// Add Sample to RRD4J
+					Sample sample = database.createSample(record.timestamp);
+					sample.setValue(0, record.value);
+					sample.update();
+				}
+				return true;
+
+			} catch (Throwable e) {
+				this.parent.logWarn(this.log, "Unable to insert Sample [" + record.address + "] "
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+				return false;
+			}
 		}
-		throw new IllegalArgumentException("Channel Unit [" + channelUnit + "] is not supported.");
 	}
 
 	public void setNoOfCycles(int noOfCycles) {
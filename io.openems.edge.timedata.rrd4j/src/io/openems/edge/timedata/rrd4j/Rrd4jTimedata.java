@@ -1,7 +1,11 @@
 package io.openems.edge.timedata.rrd4j;
 
 import io.openems.common.channel.Level;
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -11,7 +15,39 @@ public interface Rrd4jTimedata extends Timedata, OpenemsComponent {
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		QUEUE_IS_FULL(Doc.of(Level.WARNING)), //
-		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING));
+		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING)), //
+		/**
+		 * Hit rate of the cache of open RRD4J databases during the last write batch.
+		 * 
+		 * <ul>
+		 * <li>Interface: Rrd4jTimedata
+		 * <li>Type: Integer
+		 * <li>Unit: %
+		 * </ul>
+		 */
+		CACHE_HIT_RATE(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.PERCENT)), //
+		/**
+		 * Number of RRD4J database files that had to be opened or created during the
+		 * last write batch.
+		 * 
+		 * <ul>
+		 * <li>Interface: Rrd4jTimedata
+		 * <li>Type: Integer
+		 * </ul>
+		 */
+		OPENED_DATABASES(Doc.of(OpenemsType.INTEGER)), //
+		/**
+		 * Duration of the last write batch in [ms].
+		 * 
+		 * <ul>
+		 * <li>Interface: Rrd4jTimedata
+		 * <li>Type: Long
+		 * <li>Unit: ms
+		 * </ul>
+		 */
+		WRITE_BATCH_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS));
 
 		private final Doc doc;
 
@@ -80,4 +116,90 @@ public interface Rrd4jTimedata extends Timedata, OpenemsComponent {
 	public default void _setUnableToInsertSample(Boolean value) {
 		this.getUnableToInsertSampleChannel().setNextValue(value);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CACHE_HIT_RATE}.
+	 * 
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getCacheHitRateChannel() {
+		return this.channel(ChannelId.CACHE_HIT_RATE);
+	}
+
+	/**
+	 * Gets the Cache Hit Rate in [%]. See {@link ChannelId#CACHE_HIT_RATE}.
+	 * 
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getCacheHitRate() {
+		return this.getCacheHitRateChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#CACHE_HIT_RATE}
+	 * Channel.
+	 * 
+	 * @param value the next value
+	 */
+	public default void _setCacheHitRate(Integer value) {
+		this.getCacheHitRateChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPENED_DATABASES}.
+	 * 
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getOpenedDatabasesChannel() {
+		return this.channel(ChannelId.OPENED_DATABASES);
+	}
+
+	/**
+	 * Gets the number of opened databases during the last write batch. See
+	 * {@link ChannelId#OPENED_DATABASES}.
+	 * 
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getOpenedDatabases() {
+		return this.getOpenedDatabasesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#OPENED_DATABASES}
+	 * Channel.
+	 * 
+	 * @param value the next value
+	 */
+	public default void _setOpenedDatabases(int value) {
+		this.getOpenedDatabasesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#WRITE_BATCH_DURATION}.
+	 * 
+	 * @return the Channel
+	 */
+	public default LongReadChannel getWriteBatchDurationChannel() {
+		return this.channel(ChannelId.WRITE_BATCH_DURATION);
+	}
+
+	/**
+	 * Gets the Duration of the last write batch in [ms]. See
+	 * {@link ChannelId#WRITE_BATCH_DURATION}.
+	 * 
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getWriteBatchDuration() {
+		return this.getWriteBatchDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#WRITE_BATCH_DURATION} Channel.
+	 * 
+	 * @param value the next value
+	 */
+	public default void _setWriteBatchDuration(long value) {
+		this.getWriteBatchDurationChannel().setNextValue(value);
+	}
 }
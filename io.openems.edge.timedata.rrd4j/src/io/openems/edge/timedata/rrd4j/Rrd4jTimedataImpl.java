@@ -71,6 +71,11 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	private final RecordWorker worker;
 	private final RrdRandomAccessFileBackendFactory factory;
 
+	/**
+	 * Holds the open RrdDbs. Recreated on activate.
+	 */
+	protected RrdDbCache cache = new RrdDbCache(this, RrdDbCache.DEFAULT_MAX_OPEN_DATABASES);
+
 	public Rrd4jTimedataImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -87,6 +92,7 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	@Activate
 	void activate(ComponentContext context, Config config) throws Exception {
 		super.activate(context, config.id(), config.alias(), config.enabled());
+		this.cache = new RrdDbCache(this, config.maxOpenDatabases());
 
 		if (config.enabled()) {
 			this.worker.setNoOfCycles(config.noOfCycles());
@@ -97,6 +103,7 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	@Deactivate
 	protected void deactivate() {
 		this.worker.deactivate();
+		this.cache.closeAll();
 		super.deactivate();
 	}
 
@@ -107,22 +114,22 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 		ZoneId timezone = fromDate.getZone();
 		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
 
-		RrdDb database = null;
 		try {
 			long fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
 			long toTimeStamp = toDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
 
 			for (ChannelAddress channelAddress : channels) {
 				Channel<?> channel = this.componentManager.getChannel(channelAddress);
-				database = this.getExistingRrdDb(channel.address());
-				if (database == null) {
-					continue; // not existing -> abort
-				}
-
 				ChannelDef chDef = this.getDsDefForChannel(channel.channelDoc().getUnit());
-				FetchRequest request = database.createFetchRequest(chDef.consolFun, fromTimestamp, toTimeStamp);
-				FetchData data = request.fetchData();
-				database.close();
+				FetchData data;
+				synchronized (this.cache) {
+					RrdDb database = this.getExistingRrdDb(channel.address());
+					if (database == null) {
+						continue; // not existing -> abort
+					}
+					FetchRequest request = database.createFetchRequest(chDef.consolFun, fromTimestamp, toTimeStamp);
+					data = request.fetchData();
+				}
 
 				for (int i = 0; i < data.getTimestamps().length; i++) {
 					Instant timestampInstant = Instant.ofEpochSecond(data.getTimestamps()[i]);
@@ -143,14 +150,6 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 			}
 		} catch (IOException | IllegalArgumentException e) {
 			throw new OpenemsException("Unable to read historic data: " + e.getMessage());
-		} finally {
-			if (database != null && !database.isClosed()) {
-				try {
-					database.close();
-				} catch (IOException e) {
-					this.logWarn(this.log, "Unable to close database: " + e.getMessage());
-				}
-			}
 		}
 		return table;
 	}
@@ -162,19 +161,19 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 		long fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
 		long toTimeStamp = toDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
 
-		RrdDb database = null;
 		try {
 			for (ChannelAddress channelAddress : channels) {
 				Channel<?> channel = this.componentManager.getChannel(channelAddress);
-				database = this.getExistingRrdDb(channel.address());
-				if (database == null) {
-					continue; // not existing -> abort
-				}
-
 				ChannelDef chDef = this.getDsDefForChannel(channel.channelDoc().getUnit());
-				FetchRequest request = database.createFetchRequest(chDef.consolFun, fromTimestamp, toTimeStamp);
-				FetchData data = request.fetchData();
-				database.close();
+				FetchData data;
+				synchronized (this.cache) {
+					RrdDb database = this.getExistingRrdDb(channel.address());
+					if (database == null) {
+						continue; // not existing -> abort
+					}
+					FetchRequest request = database.createFetchRequest(chDef.consolFun, fromTimestamp, toTimeStamp);
+					data = request.fetchData();
+				}
 
 				// Find first and last energy value != null
 				double first = Double.NaN;
@@ -200,14 +199,6 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 			}
 		} catch (IOException | IllegalArgumentException e) {
 			throw new OpenemsException("Unable to read historic data: " + e.getMessage());
-		} finally {
-			if (database != null && !database.isClosed()) {
-				try {
-					database.close();
-				} catch (IOException e) {
-					this.logWarn(this.log, "Unable to close database: " + e.getMessage());
-				}
-			}
 		}
 		return table;
 	}
@@ -225,19 +216,16 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 		final CompletableFuture<Optional<Object>> result = new CompletableFuture<>();
 
 		CompletableFuture.runAsync(() -> {
-			RrdDb database = this.getExistingRrdDb(channelAddress);
-			if (database == null) {
-				result.complete(Optional.empty());
-			}
-			try {
-				result.complete(Optional.of(database.getLastDatasourceValues()[0]));
-			} catch (IOException | ArrayIndexOutOfBoundsException e) {
-				result.complete(Optional.empty());
-			} finally {
+			synchronized (this.cache) {
+				RrdDb database = this.getExistingRrdDb(channelAddress);
+				if (database == null) {
+					result.complete(Optional.empty());
+					return;
+				}
 				try {
-					database.close();
-				} catch (IOException e) {
-					this.logWarn(this.log, "Unable to close Database for [" + channelAddress + "]: " + e.getMessage());
+					result.complete(Optional.of(database.getLastDatasourceValues()[0]));
+				} catch (IOException | ArrayIndexOutOfBoundsException e) {
+					result.complete(Optional.empty());
 				}
 			}
 		});
@@ -252,13 +240,24 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	 * The predefined RRD4J archives match the requirements of
 	 * {@link CommonTimedataService#calculateResolution(ZonedDateTime, ZonedDateTime)}
 	 * 
+	 * <p>
+	 * The RrdDb is owned by the {@link RrdDbCache}: do not close it and hold the
+	 * monitor of {@link #cache} while using it.
+	 * 
 	 * @param channelAddress the Channel-Address
 	 * @param startTime      the starttime for newly created RrdDbs
 	 * @return the RrdDb
 	 * @throws IOException        on error
 	 * @throws URISyntaxException on error
 	 */
-	protected synchronized RrdDb getRrdDb(ChannelAddress channelAddress, Unit channelUnit, long startTime)
+	protected RrdDb getRrdDb(ChannelAddress channelAddress, Unit channelUnit, long startTime)
+			throws IOException, URISyntaxException {
+		synchronized (this.cache) {
+			return this.getOrCreateRrdDb(channelAddress, channelUnit, startTime);
+		}
+	}
+
+	private RrdDb getOrCreateRrdDb(ChannelAddress channelAddress, Unit channelUnit, long startTime)
 			throws IOException, URISyntaxException {
 		RrdDb rrdDb = this.getExistingRrdDb(channelAddress);
 		if (rrdDb != null) {
@@ -288,33 +287,47 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 			// hourly values for a very long time
 			rrdDef.addArchive(channelDef.consolFun, 0.5, 60, 87_600); // 60 steps (1 hour), 87600 rows (10 years)
 
-			return RrdDb.getBuilder() //
+			rrdDb = RrdDb.getBuilder() //
 					.setBackendFactory(this.factory) //
-					.usePool() //
 					.setRrdDef(rrdDef) //
 					.build();
+			this.cache.put(channelAddress, rrdDb);
+			return rrdDb;
 		}
 	}
 
 	/**
 	 * Gets an existing RrdDb.
 	 * 
+	 * <p>
+	 * The RrdDb is owned by the {@link RrdDbCache}: do not close it and hold the
+	 * monitor of {@link #cache} while using it.
+	 * 
 	 * @param channelAddress the ChannelAddress
 	 * @return the RrdDb or null
-	 * @throws IOException        on error
-	 * @throws URISyntaxException on error
 	 */
-	protected synchronized RrdDb getExistingRrdDb(ChannelAddress channelAddress) {
+	protected RrdDb getExistingRrdDb(ChannelAddress channelAddress) {
+		synchronized (this.cache) {
+			RrdDb rrdDb = this.cache.get(channelAddress);
+			if (rrdDb != null) {
+				return rrdDb;
+			}
+			return this.openExistingRrdDb(channelAddress);
+		}
+	}
+
+	private RrdDb openExistingRrdDb(ChannelAddress channelAddress) {
 		File file = this.getDbFile(channelAddress);
 		if (!file.exists()) {
 			return null;
 		}
 		try {
-			return RrdDb.getBuilder() //
+			RrdDb rrdDb = RrdDb.getBuilder() //
 					.setBackendFactory(this.factory) //
-					.usePool() //
 					.setPath(file.toURI()) //
 					.build();
+			this.cache.put(channelAddress, rrdDb);
+			return rrdDb;
 		} catch (IOException e) {
 			this.logError(this.log, "Unable to open existing RrdDb: " + e.getMessage());
 			return null;
@@ -375,6 +388,7 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 		case MILLIHERTZ:
 		case MILLIOHM:
 		case MILLISECONDS:
+		case MICROSECONDS:
 		case MILLIVOLT:
 		case MILLIWATT:
 		case MINUTE:
@@ -0,0 +1,156 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map.Entry;
+
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Keeps a bounded number of {@link RrdDb}s open, so that they do not have to be
+ * opened, parsed and closed again for every single sample.
+ *
+ * <p>
+ * If the maximum number of open databases is reached, the most recently opened
+ * {@link RrdDb} is closed. The {@link RecordWorker} walks over all recorded
+ * Channels in the same order on every recording; with a least-recently-used
+ * policy every database would be evicted right before it is used again as soon
+ * as there are more Channels than open databases. This way all but one
+ * databases stay open and only the remaining ones are opened and closed.
+ *
+ * <p>
+ * RrdDbs returned by this cache are owned by the cache and must not be closed
+ * by the caller. Callers have to hold the monitor of the cache (i.e.
+ * 'synchronized (cache) { ... }') while using a RrdDb, so that it is not
+ * evicted concurrently.
+ */
+public class RrdDbCache {
+
+	public static final int DEFAULT_MAX_OPEN_DATABASES = 500;
+
+	private final Logger log = LoggerFactory.getLogger(RrdDbCache.class);
+	private final Rrd4jTimedataImpl parent;
+	private final int maxOpenDatabases;
+	private final HashMap<ChannelAddress, RrdDb> databases = new HashMap<>();
+
+	/**
+	 * The most recently opened database; the next candidate for eviction.
+	 */
+	private ChannelAddress lastOpened = null;
+
+	// Statistics since last call to resetStatistics()
+	private int hits = 0;
+	private int misses = 0;
+	private int opened = 0;
+
+	public RrdDbCache(Rrd4jTimedataImpl parent, int maxOpenDatabases) {
+		this.parent = parent;
+		this.maxOpenDatabases = Math.max(1, maxOpenDatabases);
+	}
+
+	/**
+	 * Gets the cached {@link RrdDb} for the given {@link ChannelAddress}.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @return the {@link RrdDb} or null if it is not cached
+	 */
+	public synchronized RrdDb get(ChannelAddress channelAddress) {
+		RrdDb database = this.databases.get(channelAddress);
+		if (database != null && !database.isClosed()) {
+			this.hits++;
+			return database;
+		}
+		this.misses++;
+		return null;
+	}
+
+	/**
+	 * Adds a freshly opened {@link RrdDb} to the cache. Closes the previously
+	 * opened RrdDb if the maximum number of open databases is exceeded.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param database       the {@link RrdDb}
+	 */
+	public synchronized void put(ChannelAddress channelAddress, RrdDb database) {
+		this.opened++;
+		RrdDb previous = this.databases.put(channelAddress, database);
+		if (previous != null && previous != database) {
+			this.close(channelAddress, previous);
+		}
+		if (this.databases.size() > this.maxOpenDatabases) {
+			ChannelAddress evict = this.lastOpened;
+			if (evict == null || evict.equals(channelAddress) || !this.databases.containsKey(evict)) {
+				// fallback: any other database
+				evict = null;
+				for (ChannelAddress key : this.databases.keySet()) {
+					if (!key.equals(channelAddress)) {
+						evict = key;
+						break;
+					}
+				}
+			}
+			this.close(evict, this.databases.remove(evict));
+		}
+		this.lastOpened = channelAddress;
+	}
+
+	/**
+	 * Closes all open {@link RrdDb}s.
+	 */
+	public synchronized void closeAll() {
+		for (Entry<ChannelAddress, RrdDb> entry : this.databases.entrySet()) {
+			this.close(entry.getKey(), entry.getValue());
+		}
+		this.databases.clear();
+		this.lastOpened = null;
+	}
+
+	/**
+	 * Gets the cache hit rate in [%] since the last call to
+	 * {@link #resetStatistics()}.
+	 *
+	 * @return the hit rate; null if there was no request
+	 */
+	public synchronized Integer getHitRate() {
+		int total = this.hits + this.misses;
+		if (total == 0) {
+			return null;
+		}
+		return Math.round(this.hits * 100f / total);
+	}
+
+	/**
+	 * Gets the number of {@link RrdDb}s that had to be opened or created since the
+	 * last call to {@link #resetStatistics()}.
+	 *
+	 * @return the number of opened databases
+	 */
+	public synchronized int getOpened() {
+		return this.opened;
+	}
+
+	/**
+	 * Resets the hit/miss statistics.
+	 */
+	public synchronized void resetStatistics() {
+		this.hits = 0;
+		this.misses = 0;
+		this.opened = 0;
+	}
+
+	private void close(ChannelAddress channelAddress, RrdDb database) {
+		if (database.isClosed()) {
+			return;
+		}
+		try {
+			database.close();
+		} catch (IOException e) {
+			this.parent.logWarn(this.log, "Unable to close database [" + channelAddress + "]: " + e.getMessage());
+		}
+	}
+
+}
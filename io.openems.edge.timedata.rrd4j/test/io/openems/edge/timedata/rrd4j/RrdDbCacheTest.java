@@ -0,0 +1,68 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import io.openems.common.types.ChannelAddress;
+
+public class RrdDbCacheTest {
+
+	private static final int MAX_OPEN_DATABASES = 10;
+	private static final int NO_OF_CHANNELS = 20;
+
+	@Test
+	public void testCyclicWalk() throws IOException {
+		RrdDbCache cache = new RrdDbCache(new Rrd4jTimedataImpl(), MAX_OPEN_DATABASES);
+		RrdMemoryBackendFactory factory = new RrdMemoryBackendFactory();
+
+		// first batch opens all databases
+		walk(cache, factory);
+		assertEquals(0, (int) cache.getHitRate());
+		assertEquals(NO_OF_CHANNELS, cache.getOpened());
+
+		// second batch: all but one of the open databases are hits
+		cache.resetStatistics();
+		walk(cache, factory);
+		assertEquals(Math.round((MAX_OPEN_DATABASES - 1) * 100f / NO_OF_CHANNELS), (int) cache.getHitRate());
+		assertEquals(NO_OF_CHANNELS - (MAX_OPEN_DATABASES - 1), cache.getOpened());
+
+		cache.closeAll();
+		cache.resetStatistics();
+		assertNull(cache.get(new ChannelAddress("meter0", "Channel0")));
+	}
+
+	/**
+	 * Gets the database of every Channel in the same order, like the
+	 * {@link RecordWorker} does.
+	 *
+	 * @param cache   the {@link RrdDbCache}
+	 * @param factory the backend factory for new databases
+	 * @throws IOException on error
+	 */
+	private static void walk(RrdDbCache cache, RrdMemoryBackendFactory factory) throws IOException {
+		for (int i = 0; i < NO_OF_CHANNELS; i++) {
+			ChannelAddress address = new ChannelAddress("meter0", "Channel" + i);
+			synchronized (cache) {
+				if (cache.get(address) == null) {
+					RrdDef rrdDef = new RrdDef(address.toString(), 0, 60);
+					rrdDef.addDatasource("value", DsType.GAUGE, 60, Double.NaN, Double.NaN);
+					rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 10);
+					cache.put(address, RrdDb.getBuilder() //
+							.setBackendFactory(factory) //
+							.setRrdDef(rrdDef) //
+							.build());
+				}
+			}
+		}
+	}
+
+}
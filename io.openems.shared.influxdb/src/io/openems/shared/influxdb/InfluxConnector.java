@@ -5,10 +5,12 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
@@ -52,23 +54,27 @@ public class InfluxConnector {
 	private final String retentionPolicy;
 	private final boolean isReadOnly;
 	private final BiConsumer<Iterable<Point>, Throwable> onWriteError;
+	private final QueryCache queryCache;
 
 	/**
 	 * The Constructor.
 	 * 
-	 * @param ip           IP-Address of the InfluxDB-Server
-	 * @param port         Port of the InfluxDB-Server
-	 * @param username     The username
-	 * @param password     The password
-	 * @param database     The database name. If it does not exist, it will be
-	 *                     created
-	 * @param isReadOnly   If true, a 'Read-Only-Mode' is activated, where no data
-	 *                     is actually written to the database
-	 * @param onWriteError A callback for write-errors, i.e. '(failedPoints,
-	 *                     throwable) -> {}'
+	 * @param ip             IP-Address of the InfluxDB-Server
+	 * @param port           Port of the InfluxDB-Server
+	 * @param username       The username
+	 * @param password       The password
+	 * @param database       The database name. If it does not exist, it will be
+	 *                       created
+	 * @param isReadOnly     If true, a 'Read-Only-Mode' is activated, where no
+	 *                       data is actually written to the database
+	 * @param queryCacheSize Maximum number of values in the {@link QueryCache};
+	 *                       0 disables the cache
+	 * @param onWriteError   A callback for write-errors, i.e. '(failedPoints,
+	 *                       throwable) -> {}'
 	 */
 	public InfluxConnector(String ip, int port, String username, String password, String database,
-			String retentionPolicy, boolean isReadOnly, BiConsumer<Iterable<Point>, Throwable> onWriteError) {
+			String retentionPolicy, boolean isReadOnly, int queryCacheSize,
+			BiConsumer<Iterable<Point>, Throwable> onWriteError) {
 		super();
 		this.ip = ip;
 		this.port = port;
@@ -78,6 +84,7 @@ public class InfluxConnector {
 		this.retentionPolicy = retentionPolicy;
 		this.isReadOnly = isReadOnly;
 		this.onWriteError = onWriteError;
+		this.queryCache = new QueryCache(queryCacheSize);
 	}
 
 	private InfluxDB _influxDB = null;
@@ -203,7 +210,7 @@ public class InfluxConnector {
 
 		// Prepare query string
 		StringBuilder b = new StringBuilder("SELECT ");
-		b.append(InfluxConnector.toChannelAddressStringEnergy(channels));
+		b.append(InfluxConnector.toChannelAddressStringEnergy(new TreeSet<>(channels)));
 		b.append(" FROM data WHERE ");
 		if (influxEdgeId.isPresent()) {
 			b.append(InfluxConstants.TAG + " = '" + influxEdgeId.get() + "' AND ");
@@ -216,14 +223,15 @@ public class InfluxConnector {
 		b.append("s");
 		String query = b.toString();
 
-		// Execute query
-		QueryResult queryResult = this.executeQuery(query);
+		// Execute query or get cached result
+		SortedMap<ChannelAddress, JsonElement> result = this.queryCache.get(toCacheKey(query, fromDate),
+				isPast(toDate), () -> {
+					QueryResult queryResult = this.executeQuery(query);
+					return InfluxConnector.convertHistoricEnergyResult(query, queryResult, fromDate.getZone());
+				}, SortedMap::size);
 
-		// Prepare result
-		SortedMap<ChannelAddress, JsonElement> result = InfluxConnector.convertHistoricEnergyResult(query, queryResult,
-				fromDate.getZone());
-
-		return result;
+		// cached result is shared; return a copy
+		return new TreeMap<>(result);
 	}
 
 	/**
@@ -240,11 +248,28 @@ public class InfluxConnector {
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(
 			Optional<Integer> influxEdgeId, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
 			int resolution) throws OpenemsNamedException {
-		if (Math.random() * 4 < this.queryLimit.getLimit()) {
-			throw new OpenemsException("InfluxDB read is temporarily blocked for Energy values [" + this.queryLimit
-					+ "]. Edge [" + influxEdgeId + "] FromDate [" + fromDate + "] ToDate [" + toDate + "]");
-		}
+		return this.queryHistoricEnergyPerPeriod(influxEdgeId, fromDate, toDate, channels, resolution, MEASUREMENT,
+				"");
+	}
 
+	/**
+	 * Queries historic energy per period from the given measurement.
+	 * 
+	 * @param influxEdgeId the unique, numeric Edge-ID; or Empty to query all Edges
+	 * @param fromDate     the From-Date
+	 * @param toDate       the To-Date
+	 * @param channels     the Channels to query
+	 * @param resolution   the resolution in seconds
+	 * @param measurement  the measurement, e.g. {@link #MEASUREMENT}
+	 * @param fieldSuffix  the suffix of the field names that hold the last value
+	 *                     of a period, e.g.
+	 *                     {@link InfluxConstants#ROLLUP_LAST_SUFFIX}
+	 * @return the historic data as Map
+	 * @throws OpenemsException on error
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(
+			Optional<Integer> influxEdgeId, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
+			int resolution, String measurement, String fieldSuffix) throws OpenemsNamedException {
 		// handle empty call
 		if (channels.isEmpty()) {
 			return new TreeMap<>();
@@ -252,12 +277,12 @@ public class InfluxConnector {
 
 		// Prepare query string
 		StringBuilder b = new StringBuilder("SELECT ");
-		b.append(InfluxConnector.toChannelAddressStringNonNegativeDifferenceLast(channels));
-		b.append(" FROM data WHERE ");
+		b.append(InfluxConnector.toChannelAddressStringNonNegativeDifferenceLast(new TreeSet<>(channels), fieldSuffix));
+		b.append(" FROM " + measurement + " WHERE ");
 		if (influxEdgeId.isPresent()) {
 			b.append(InfluxConstants.TAG + " = '" + influxEdgeId.get() + "' AND ");
 		}
-		b.append("time > ");
+		b.append(InfluxConnector.toFromDateCondition(measurement));
 		b.append(String.valueOf(fromDate.toEpochSecond()));
 		b.append("s");
 		b.append(" AND time < ");
@@ -268,14 +293,20 @@ public class InfluxConnector {
 		b.append("s) fill(null)");
 		String query = b.toString();
 
-		// Execute query
-		QueryResult queryResult = this.executeQuery(query);
-
-		// Prepare result
-		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> result = InfluxConnector
-				.convertHistoricDataQueryResult(queryResult, fromDate.getZone());
+		// Execute query or get cached result
+		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> result = this.queryCache
+				.get(toCacheKey(query, fromDate), isPast(toDate), () -> {
+					if (Math.random() * 4 < this.queryLimit.getLimit()) {
+						throw new OpenemsException("InfluxDB read is temporarily blocked for Energy values ["
+								+ this.queryLimit + "]. Edge [" + influxEdgeId + "] FromDate [" + fromDate
+								+ "] ToDate [" + toDate + "]");
+					}
+					QueryResult queryResult = this.executeQuery(query);
+					return InfluxConnector.convertHistoricDataQueryResult(queryResult, fromDate.getZone());
+				}, InfluxConnector::countCells);
 
-		return result;
+		// cached result is shared; return a copy
+		return copyTable(result);
 	}
 
 	/**
@@ -292,14 +323,32 @@ public class InfluxConnector {
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(
 			Optional<Integer> influxEdgeId, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
 			int resolution) throws OpenemsNamedException {
+		return this.queryHistoricData(influxEdgeId, fromDate, toDate, channels, resolution, MEASUREMENT);
+	}
+
+	/**
+	 * Queries historic data from the given measurement.
+	 * 
+	 * @param influxEdgeId the unique, numeric Edge-ID; or Empty to query all Edges
+	 * @param fromDate     the From-Date
+	 * @param toDate       the To-Date
+	 * @param channels     the Channels to query
+	 * @param resolution   the resolution in seconds
+	 * @param measurement  the measurement, e.g. {@link #MEASUREMENT}
+	 * @return the historic data as Map
+	 * @throws OpenemsException on error
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(
+			Optional<Integer> influxEdgeId, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
+			int resolution, String measurement) throws OpenemsNamedException {
 		// Prepare query string
 		StringBuilder query = new StringBuilder("SELECT ");
-		query.append(InfluxConnector.toChannelAddressStringData(channels));
-		query.append(" FROM data WHERE ");
+		query.append(InfluxConnector.toChannelAddressStringData(new TreeSet<>(channels)));
+		query.append(" FROM " + measurement + " WHERE ");
 		if (influxEdgeId.isPresent()) {
 			query.append(InfluxConstants.TAG + " = '" + influxEdgeId.get() + "' AND ");
 		}
-		query.append("time > ");
+		query.append(InfluxConnector.toFromDateCondition(measurement));
 		query.append(String.valueOf(fromDate.toEpochSecond()));
 		query.append("s");
 		query.append(" AND time < ");
@@ -309,13 +358,89 @@ public class InfluxConnector {
 		query.append(resolution);
 		query.append("s) fill(null)");
 
-		// Execute query
-		QueryResult queryResult = this.executeQuery(query.toString());
+		// Execute query or get cached result
+		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> result = this.queryCache
+				.get(toCacheKey(query.toString(), fromDate), isPast(toDate), () -> {
+					QueryResult queryResult = this.executeQuery(query.toString());
+					return InfluxConnector.convertHistoricDataQueryResult(queryResult, fromDate.getZone());
+				}, InfluxConnector::countCells);
 
-		// Prepare result
-		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> result = InfluxConnector
-				.convertHistoricDataQueryResult(queryResult, fromDate.getZone());
+		// cached result is shared; return a copy
+		return copyTable(result);
+	}
 
+	/**
+	 * Gets the statistics of the query result cache.
+	 * 
+	 * @return the statistics as human readable String
+	 */
+	public String getQueryCacheStatistics() {
+		return this.queryCache.getStatistics();
+	}
+
+	/**
+	 * Gets the condition on the From-Date. Rollup Points are stamped with the
+	 * start of their bucket, so the bucket starting exactly at the From-Date is
+	 * included; raw data keeps the original exclusive condition.
+	 * 
+	 * @param measurement the measurement
+	 * @return the condition without the From-Date value
+	 */
+	private static String toFromDateCondition(String measurement) {
+		return MEASUREMENT.equals(measurement) ? "time > " : "time >= ";
+	}
+
+	/**
+	 * Gets the key for the {@link QueryCache}. Results depend on the query and on
+	 * the timezone of the timestamps.
+	 * 
+	 * @param query    the query string
+	 * @param fromDate the From-Date
+	 * @return the key
+	 */
+	private static String toCacheKey(String query, ZonedDateTime fromDate) {
+		return fromDate.getZone().getId() + "|" + query;
+	}
+
+	/**
+	 * Is the given To-Date in the past, i.e. are no more values expected for the
+	 * queried time range?.
+	 * 
+	 * @param toDate the To-Date
+	 * @return true if the To-Date is in the past
+	 */
+	private static boolean isPast(ZonedDateTime toDate) {
+		return toDate.toInstant().isBefore(Instant.now());
+	}
+
+	/**
+	 * Counts the values of a historic data Table; every timestamp counts as one
+	 * additional cell.
+	 * 
+	 * @param table the Table
+	 * @return the number of cells
+	 */
+	private static int countCells(SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table) {
+		int result = 0;
+		for (SortedMap<ChannelAddress, JsonElement> row : table.values()) {
+			result += 1 + row.size();
+		}
+		return result;
+	}
+
+	/**
+	 * Copies a historic data Table. The {@link JsonElement}s are immutable
+	 * primitives and are not copied.
+	 * 
+	 * @param table the Table
+	 * @return a copy of the Table
+	 */
+	private static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> copyTable(
+			SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table) {
+		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> result = new TreeMap<>();
+		for (Entry<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> row : table.entrySet()) {
+			result.put(row.getKey(), new TreeMap<>(row.getValue()));
+		}
 		return result;
 	}
 
@@ -334,13 +459,7 @@ public class InfluxConnector {
 			if (seriess != null) {
 				for (Series series : seriess) {
 					// create ChannelAddress index
-					ArrayList<ChannelAddress> addressIndex = new ArrayList<>();
-					for (String column : series.getColumns()) {
-						if (column.equals("time")) {
-							continue;
-						}
-						addressIndex.add(ChannelAddress.fromString(column));
-					}
+					ChannelAddress[] addressIndex = toAddressIndex(series.getColumns());
 
 					// add all data
 					for (List<Object> values : series.getValues()) {
@@ -348,9 +467,9 @@ public class InfluxConnector {
 						// get timestamp
 						Instant timestampInstant = Instant.ofEpochMilli((long) ((Double) values.get(0)).doubleValue());
 						ZonedDateTime timestamp = ZonedDateTime.ofInstant(timestampInstant, timezone);
-						for (int columnIndex = 0; columnIndex < addressIndex.size(); columnIndex++) {
+						for (int columnIndex = 0; columnIndex < addressIndex.length; columnIndex++) {
 							// Note: ignoring index '0' here as it is the 'timestamp'
-							ChannelAddress address = addressIndex.get(columnIndex);
+							ChannelAddress address = addressIndex[columnIndex];
 							Object valueObj = values.get(columnIndex + 1);
 							JsonElement value;
 							if (valueObj == null) {
@@ -385,19 +504,13 @@ public class InfluxConnector {
 			if (seriess != null) {
 				for (Series series : seriess) {
 					// create ChannelAddress index
-					ArrayList<ChannelAddress> addressIndex = new ArrayList<>();
-					for (String column : series.getColumns()) {
-						if (column.equals("time")) {
-							continue;
-						}
-						addressIndex.add(ChannelAddress.fromString(column));
-					}
+					ChannelAddress[] addressIndex = toAddressIndex(series.getColumns());
 
 					// add all data
 					for (List<Object> values : series.getValues()) {
-						for (int columnIndex = 0; columnIndex < addressIndex.size(); columnIndex++) {
+						for (int columnIndex = 0; columnIndex < addressIndex.length; columnIndex++) {
 							// Note: ignoring index '0' here as it is the 'timestamp'
-							ChannelAddress address = addressIndex.get(columnIndex);
+							ChannelAddress address = addressIndex[columnIndex];
 							Object valueObj = values.get(columnIndex + 1);
 							JsonElement value;
 							if (valueObj == null) {
@@ -438,6 +551,21 @@ public class InfluxConnector {
 		return map;
 	}
 
+	/**
+	 * Parses the column names of a Series, excluding the leading 'time' column.
+	 * 
+	 * @param columns the column names
+	 * @return an array of {@link ChannelAddress}es in the order of the columns
+	 * @throws OpenemsNamedException on error
+	 */
+	private static ChannelAddress[] toAddressIndex(List<String> columns) throws OpenemsNamedException {
+		ChannelAddress[] result = new ChannelAddress[columns.size() - 1];
+		for (int i = 1; i < columns.size(); i++) {
+			result[i - 1] = ChannelAddress.fromString(columns.get(i));
+		}
+		return result;
+	}
+
 	protected static String toChannelAddressStringData(Set<ChannelAddress> channels) throws OpenemsException {
 		ArrayList<String> channelAddresses = new ArrayList<>();
 		for (ChannelAddress channel : channels) {
@@ -455,12 +583,12 @@ public class InfluxConnector {
 		return String.join(", ", channelAddresses);
 	}
 
-	protected static String toChannelAddressStringNonNegativeDifferenceLast(Set<ChannelAddress> channels)
-			throws OpenemsException {
+	protected static String toChannelAddressStringNonNegativeDifferenceLast(Set<ChannelAddress> channels,
+			String fieldSuffix) throws OpenemsException {
 		ArrayList<String> channelAddresses = new ArrayList<>();
 		for (ChannelAddress channel : channels) {
-			channelAddresses.add(
-					"NON_NEGATIVE_DIFFERENCE(LAST(\"" + channel.toString() + "\")) AS \"" + channel.toString() + "\"");
+			channelAddresses.add("NON_NEGATIVE_DIFFERENCE(LAST(\"" + channel.toString() + fieldSuffix + "\")) AS \""
+					+ channel.toString() + "\"");
 		}
 		return String.join(", ", channelAddresses);
 	}
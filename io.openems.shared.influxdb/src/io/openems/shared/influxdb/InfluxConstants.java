@@ -4,4 +4,12 @@ public class InfluxConstants {
 
 	public static final String TAG = "edge";
 
+	/*
+	 * Suffixes of the fields of downsampled rollup measurements. The average value
+	 * is stored without suffix.
+	 */
+	public static final String ROLLUP_MIN_SUFFIX = ":min";
+	public static final String ROLLUP_MAX_SUFFIX = ":max";
+	public static final String ROLLUP_LAST_SUFFIX = ":last";
+
 }
@@ -0,0 +1,244 @@
+package io.openems.shared.influxdb;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+
+/**
+ * Caches the results of historic queries and coalesces identical queries that
+ * are executed concurrently.
+ *
+ * <p>
+ * Results for time ranges that lie completely in the past are kept for
+ * {@link #PAST_TTL_MILLIS}; results that include the current, still growing
+ * period are kept only for {@link #OPEN_TTL_MILLIS}.
+ *
+ * <p>
+ * The size of the cache is bounded by the total number of cached values
+ * ('cells', i.e. Channels x timestamps); the least recently used results are
+ * dropped first. Results with more cells than the maximum are not cached.
+ */
+public class QueryCache {
+
+	/**
+	 * Executes the actual query.
+	 *
+	 * @param <T> the type of the result
+	 */
+	@FunctionalInterface
+	public interface Query<T> {
+		/**
+		 * Executes the query.
+		 *
+		 * @return the result
+		 * @throws OpenemsNamedException on error
+		 */
+		public T execute() throws OpenemsNamedException;
+	}
+
+	private static final long PAST_TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+	private static final long OPEN_TTL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+	/**
+	 * Default maximum number of cached cells. One cell takes roughly 100 bytes.
+	 */
+	public static final int DEFAULT_MAX_CELLS = 200_000;
+
+	private static final long LOG_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+	private final Logger log = LoggerFactory.getLogger(QueryCache.class);
+
+	private final int maxCells;
+
+	/**
+	 * Cached results; iteration order is least recently used first.
+	 */
+	private final Map<String, CachedResult> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The total number of cells in {@link #cache}.
+	 */
+	private int cells = 0;
+
+	private final Map<String, CompletableFuture<CachedResult>> inFlight = new ConcurrentHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+	private final AtomicLong savedMillis = new AtomicLong();
+	private volatile long lastLog = System.currentTimeMillis();
+
+	/**
+	 * Creates a cache with the given maximum number of cells.
+	 *
+	 * @param maxCells the maximum total number of cached cells; 0 disables caching
+	 */
+	public QueryCache(int maxCells) {
+		this.maxCells = Math.max(0, maxCells);
+	}
+
+	/**
+	 * Gets the cached result for the key; or executes the query. If the same query
+	 * is currently executed by another thread, its result is awaited instead.
+	 *
+	 * <p>
+	 * The result is shared with other callers and must not be modified.
+	 *
+	 * @param <T>    the type of the result
+	 * @param key    the unique key of the query
+	 * @param isPast true if the queried time range lies completely in the past
+	 * @param query  the {@link Query}
+	 * @param cells  gets the number of cells of a result
+	 * @return the result
+	 * @throws OpenemsNamedException on error
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(String key, boolean isPast, Query<T> query, ToIntFunction<T> cells)
+			throws OpenemsNamedException {
+		this.logStatisticsIfDue();
+
+		long now = System.currentTimeMillis();
+		CachedResult result;
+		synchronized (this.cache) {
+			result = this.cache.get(key);
+		}
+		if (result != null && result.expiresAt > now) {
+			this.hits.incrementAndGet();
+			this.savedMillis.addAndGet(result.durationMillis);
+			return (T) result.value;
+		}
+
+		CompletableFuture<CachedResult> future = new CompletableFuture<>();
+		CompletableFuture<CachedResult> running = this.inFlight.putIfAbsent(key, future);
+		if (running != null) {
+			// the same query is already being executed
+			this.coalesced.incrementAndGet();
+			result = this.await(running);
+			this.savedMillis.addAndGet(result.durationMillis);
+			return (T) result.value;
+		}
+
+		this.misses.incrementAndGet();
+		try {
+			T value = query.execute();
+			long end = System.currentTimeMillis();
+			result = new CachedResult(value, end + (isPast ? PAST_TTL_MILLIS : OPEN_TTL_MILLIS), end - now,
+					cells.applyAsInt(value));
+			this.put(key, result);
+			future.complete(result);
+			return value;
+
+		} catch (OpenemsNamedException | RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+
+		} finally {
+			this.inFlight.remove(key, future);
+		}
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public void clear() {
+		synchronized (this.cache) {
+			this.cache.clear();
+			this.cells = 0;
+		}
+	}
+
+	/**
+	 * Adds a result to the cache and drops the least recently used results if the
+	 * maximum number of cells is exceeded.
+	 *
+	 * @param key    the key
+	 * @param result the {@link CachedResult}
+	 */
+	private void put(String key, CachedResult result) {
+		synchronized (this.cache) {
+			CachedResult previous;
+			if (result.cells > this.maxCells) {
+				previous = this.cache.remove(key);
+			} else {
+				previous = this.cache.put(key, result);
+				this.cells += result.cells;
+			}
+			if (previous != null) {
+				this.cells -= previous.cells;
+			}
+			Iterator<CachedResult> iterator = this.cache.values().iterator();
+			while (this.cells > this.maxCells && iterator.hasNext()) {
+				this.cells -= iterator.next().cells;
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Gets the statistics of this cache as a human readable String.
+	 *
+	 * @return the statistics
+	 */
+	public String getStatistics() {
+		long hits = this.hits.get();
+		long misses = this.misses.get();
+		long coalesced = this.coalesced.get();
+		long total = hits + misses + coalesced;
+		double hitRatio = total == 0 ? 0 : (hits + coalesced) * 100d / total;
+		return String.format("Hits [%d] Misses [%d] Coalesced [%d] Hit-Ratio [%.1f%%] Saved [%d s]", hits, misses,
+				coalesced, hitRatio, TimeUnit.MILLISECONDS.toSeconds(this.savedMillis.get()));
+	}
+
+	private void logStatisticsIfDue() {
+		long now = System.currentTimeMillis();
+		if (now - this.lastLog > LOG_INTERVAL_MILLIS) {
+			this.lastLog = now;
+			this.log.info("InfluxDB Query-Cache: " + this.getStatistics());
+		}
+	}
+
+	private CachedResult await(CompletableFuture<CachedResult> future) throws OpenemsNamedException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException("Interrupted while waiting for InfluxDB query");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof OpenemsNamedException) {
+				throw (OpenemsNamedException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new OpenemsException("InfluxDB query failed: " + cause.getMessage());
+		}
+	}
+
+	private static class CachedResult {
+
+		private final Object value;
+		private final long expiresAt;
+		private final long durationMillis;
+		private final int cells;
+
+		private CachedResult(Object value, long expiresAt, long durationMillis, int cells) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+			this.durationMillis = durationMillis;
+			this.cells = cells;
+		}
+	}
+
+}
@@ -0,0 +1,60 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+
+public class QueryCacheTest {
+
+	@Test
+	public void testBoundedByCells() throws OpenemsNamedException {
+		QueryCache cache = new QueryCache(10);
+		AtomicInteger executions = new AtomicInteger();
+
+		get(cache, "a", 4, executions);
+		get(cache, "b", 4, executions);
+		assertEquals(2, executions.get());
+
+		// cached
+		get(cache, "a", 4, executions);
+		get(cache, "b", 4, executions);
+		assertEquals(2, executions.get());
+
+		// 'c' exceeds 10 cells -> least recently used 'a' is dropped
+		get(cache, "c", 4, executions);
+		get(cache, "b", 4, executions);
+		assertEquals(3, executions.get());
+		get(cache, "a", 4, executions);
+		assertEquals(4, executions.get());
+
+		// larger than the whole cache -> never cached
+		get(cache, "d", 11, executions);
+		get(cache, "d", 11, executions);
+		assertEquals(6, executions.get());
+	}
+
+	@Test
+	public void testDisabled() throws OpenemsNamedException {
+		QueryCache cache = new QueryCache(0);
+		AtomicInteger executions = new AtomicInteger();
+		get(cache, "a", 1, executions);
+		get(cache, "a", 1, executions);
+		assertEquals(2, executions.get());
+	}
+
+	private static List<Integer> get(QueryCache cache, String key, int cells, AtomicInteger executions)
+			throws OpenemsNamedException {
+		return cache.get(key, true, () -> {
+			executions.incrementAndGet();
+			return new ArrayList<>(Collections.nCopies(cells, 0));
+		}, List::size);
+	}
+
+}